@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.junit.Test;
+
+/**
+ * Tests that the <code>eclipse.archive</code> task writes archives that the
+ * JDK reads back unchanged, with the manifest first, and that the same
+ * content always gives the same bytes.
+ */
+public class ArchiveTaskTests extends PDETestCase {
+
+	private static final String SCRIPT = """
+			<project name="archive" default="main">
+				<target name="main">
+					<eclipse.archive destfile="${basedir}/first.jar" basedir="${basedir}/content" jar="true" filesetmanifest="merge" threadCount="4"/>
+					<eclipse.archive destfile="${basedir}/second.jar" basedir="${basedir}/content" jar="true" filesetmanifest="merge" threadCount="2"/>
+				</target>
+			</project>
+			""";
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		IFolder buildFolder = newTest("archiveTask");
+		File root = buildFolder.getLocation().toFile();
+		Map<String, byte[]> files = writeContent(new File(root, "content"));
+		File script = new File(root, "archive.xml");
+		Files.writeString(script.toPath(), SCRIPT);
+
+		runAntScript(script.getAbsolutePath(), new String[] { "main" }, root.getAbsolutePath(), null);
+
+		File first = new File(root, "first.jar");
+		File second = new File(root, "second.jar");
+		assertEquals("Archives differ", -1, Files.mismatch(first.toPath(), second.toPath()));
+
+		try (ZipFile zip = new ZipFile(first)) {
+			List<String> names = new ArrayList<>();
+			Map<String, byte[]> read = new HashMap<>();
+			for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+				ZipEntry entry = entries.nextElement();
+				names.add(entry.getName());
+				if (!entry.isDirectory()) {
+					try (InputStream in = zip.getInputStream(entry)) {
+						read.put(entry.getName(), in.readAllBytes());
+					}
+				}
+			}
+			assertEquals("META-INF/", names.get(0));
+			assertEquals("META-INF/MANIFEST.MF", names.get(1));
+			assertEquals(files.keySet(), read.keySet());
+			for (Map.Entry<String, byte[]> file : files.entrySet()) {
+				assertArrayEquals(file.getKey(), file.getValue(), read.get(file.getKey()));
+			}
+			List<String> sorted = new ArrayList<>(names.subList(2, names.size()));
+			Collections.sort(sorted);
+			assertEquals(sorted, names.subList(2, names.size()));
+		}
+
+		try (JarInputStream jar = new JarInputStream(Files.newInputStream(first.toPath()))) {
+			assertNotNull("Manifest not found", jar.getManifest());
+			assertEquals("test.bundle", jar.getManifest().getMainAttributes().getValue("Bundle-SymbolicName"));
+			int count = 0;
+			JarEntry entry;
+			while ((entry = jar.getNextJarEntry()) != null) {
+				if (!entry.isDirectory()) {
+					assertArrayEquals(entry.getName(), files.get(entry.getName()), jar.readAllBytes());
+					count++;
+				}
+			}
+			// the manifest is not returned as an entry
+			assertEquals(files.size() - 1, count);
+		}
+	}
+
+	/**
+	 * Writes small and large files, some of them already compressed or not
+	 * compressible, so every way of storing an entry is used.
+	 */
+	private static Map<String, byte[]> writeContent(File folder) throws Exception {
+		Map<String, byte[]> files = new HashMap<>();
+		files.put("META-INF/MANIFEST.MF",
+				"Manifest-Version: 1.0\r\nBundle-SymbolicName: test.bundle\r\n\r\n".getBytes());
+		files.put("plugin.xml", "<plugin>\n</plugin>\n".getBytes());
+		files.put("empty.txt", new byte[0]);
+		files.put("org/example/A.class", "class A".repeat(200).getBytes());
+		Random random = new Random(42);
+		byte[] image = new byte[2048];
+		random.nextBytes(image);
+		files.put("icons/image.png", image);
+		// larger than ArchiveWriter.LARGE_ENTRY, streamed through a temporary file
+		files.put("lib/large.txt", "line of a large text file\n".repeat(300_000).getBytes());
+		byte[] random5m = new byte[5 * 1024 * 1024];
+		random.nextBytes(random5m);
+		files.put("lib/random.bin", random5m);
+		for (Map.Entry<String, byte[]> file : files.entrySet()) {
+			File target = new File(folder, file.getKey());
+			target.getParentFile().mkdirs();
+			Files.write(target.toPath(), file.getValue());
+		}
+		assertTrue(new File(folder, "lib/large.txt").length() > 4 * 1024 * 1024);
+		return files;
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.junit.Test;
+
+/**
+ * Tests that the compile scheduler only starts compiling a bundle once the
+ * bundles it requires have been compiled.
+ */
+public class CompileSchedulerTests extends PDETestCase {
+
+	private static final String SCHEDULER = """
+			<project name="scheduler" default="main">
+				<target name="main">
+					<eclipse.compileScheduler threadCount="4" report="${basedir}/timing.txt">
+						<bundle id="1" name="a" dir="a"/>
+						<bundle id="2" name="b" dir="b" requires="1"/>
+						<bundle id="3" name="c" dir="c" requires="1"/>
+						<bundle id="4" name="d" dir="d" requires="2:3"/>
+						<bundle id="5" name="e" dir="e"/>
+					</eclipse.compileScheduler>
+				</target>
+			</project>
+			""";
+
+	@Test
+	public void testDependencyOrder() throws Exception {
+		IFolder buildFolder = newTest("compileScheduler");
+		File root = buildFolder.getLocation().toFile();
+		writeBundle(root, "a", false);
+		writeBundle(root, "b", false, "a");
+		writeBundle(root, "c", false, "a");
+		writeBundle(root, "d", false, "b", "c");
+		writeBundle(root, "e", false);
+		File script = new File(root, "scheduler.xml");
+		Files.writeString(script.toPath(), SCHEDULER);
+
+		runAntScript(script.getAbsolutePath(), new String[] { "main" }, root.getAbsolutePath(), null);
+
+		for (String bundle : new String[] { "a", "b", "c", "d", "e" }) {
+			assertTrue("Not compiled: " + bundle, new File(root, bundle + "/compiled").isFile());
+		}
+		assertTrue(Files.readString(new File(root, "timing.txt").toPath()).contains("Critical path"));
+	}
+
+	@Test
+	public void testFailureStopsDependents() throws Exception {
+		IFolder buildFolder = newTest("compileSchedulerFailure");
+		File root = buildFolder.getLocation().toFile();
+		writeBundle(root, "a", false);
+		writeBundle(root, "b", true, "a");
+		writeBundle(root, "c", false, "a");
+		writeBundle(root, "d", false, "b", "c");
+		writeBundle(root, "e", false);
+		File script = new File(root, "scheduler.xml");
+		Files.writeString(script.toPath(), SCHEDULER);
+
+		try {
+			runAntScript(script.getAbsolutePath(), new String[] { "main" }, root.getAbsolutePath(), null);
+			fail("The failure of b has not been reported");
+		} catch (Exception e) {
+			// expected
+		}
+		assertTrue(new File(root, "a/compiled").isFile());
+		assertFalse("Compiled after a failed prerequisite", new File(root, "d/compiled").exists());
+	}
+
+	/**
+	 * Writes the build.xml of a bundle whose compilation fails if one of its
+	 * prerequisites has not been compiled yet. Compiling takes a while so
+	 * bundles started too early are noticed.
+	 */
+	private static void writeBundle(File root, String name, boolean failing, String... prerequisites)
+			throws Exception {
+		StringBuilder script = new StringBuilder();
+		script.append("<project name=\"").append(name).append("\" default=\"build.jars\">\n");
+		script.append("\t<target name=\"build.jars\">\n");
+		for (String prerequisite : prerequisites) {
+			script.append("\t\t<fail message=\"").append(name).append(" started before ").append(prerequisite)
+					.append("\">\n");
+			script.append("\t\t\t<condition><not><available file=\"../").append(prerequisite)
+					.append("/compiled\"/></not></condition>\n");
+			script.append("\t\t</fail>\n");
+		}
+		script.append("\t\t<sleep milliseconds=\"200\"/>\n");
+		if (failing)
+			script.append("\t\t<fail message=\"").append(name).append(" does not compile\"/>\n");
+		script.append("\t\t<touch file=\"compiled\"/>\n");
+		script.append("\t</target>\n");
+		script.append("</project>\n");
+		File folder = new File(root, name);
+		folder.mkdirs();
+		Files.writeString(new File(folder, "build.xml").toPath(), script);
+	}
+}
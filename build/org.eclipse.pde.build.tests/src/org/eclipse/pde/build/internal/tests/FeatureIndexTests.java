@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.eclipse.pde.internal.build.VersionedDataFile;
+import org.eclipse.pde.internal.build.site.FeatureIndex;
+import org.junit.Test;
+
+/**
+ * Tests that the index of the feature headers is persisted and only kept for
+ * the features that did not change.
+ */
+public class FeatureIndexTests extends PDETestCase {
+
+	/** The version of the persisted index */
+	private static final int VERSION = 3;
+
+	private static File writeFeature(File folder, String id, String version) throws Exception {
+		folder.mkdirs();
+		File featureXML = new File(folder, "feature.xml");
+		Files.writeString(featureXML.toPath(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<feature id=\"" + id
+				+ "\" version=\"" + version + "\">\n\t<plugin id=\"a\" version=\"0.0.0\"/>\n</feature>\n");
+		return featureXML;
+	}
+
+	@Test
+	public void testHeaderIsPersisted() throws Exception {
+		IFolder buildFolder = newTest("featureIndex");
+		File root = buildFolder.getLocation().toFile();
+		File indexFile = new File(root, "index/.featureIndex");
+		File featureXML = writeFeature(new File(root, "f"), "f", "1.0.0.qualifier");
+
+		FeatureIndex index = new FeatureIndex(indexFile);
+		FeatureIndex.Header header = index.getHeader(featureXML);
+		assertEquals("f", header.id);
+		assertEquals("1.0.0.qualifier", header.version);
+		index.save();
+		assertTrue(indexFile.isFile());
+
+		// an unchanged timestamp and length means the persisted header is used
+		long timestamp = featureXML.lastModified();
+		writeFeature(new File(root, "f"), "g", "1.0.0.qualifier");
+		featureXML.setLastModified(timestamp);
+		header = new FeatureIndex(indexFile).getHeader(featureXML);
+		assertEquals("f", header.id);
+		assertEquals("1.0.0.qualifier", header.version);
+
+		// a change of the length is noticed within the timestamp resolution
+		writeFeature(new File(root, "f"), "g", "2.0.0");
+		featureXML.setLastModified(timestamp);
+		header = new FeatureIndex(indexFile).getHeader(featureXML);
+		assertEquals("g", header.id);
+		assertEquals("2.0.0", header.version);
+
+		featureXML.setLastModified(timestamp + 10000);
+		header = new FeatureIndex(indexFile).getHeader(featureXML);
+		assertEquals("g", header.id);
+		assertEquals("2.0.0", header.version);
+	}
+
+	@Test
+	public void testFeatureWithoutHeader() throws Exception {
+		IFolder buildFolder = newTest("featureIndexMissing");
+		File root = buildFolder.getLocation().toFile();
+		FeatureIndex index = new FeatureIndex(null);
+		assertNull(index.getHeader(new File(root, "missing/feature.xml")));
+		assertNull(index.getHeader(writeFeature(new File(root, "f"), "f", "")));
+	}
+
+	@Test
+	public void testExpiredHeadersAreDropped() throws Exception {
+		IFolder buildFolder = newTest("featureIndexExpired");
+		File root = buildFolder.getLocation().toFile();
+		File indexFile = new File(root, "index/.featureIndex");
+		File featureXML = writeFeature(new File(root, "f"), "f", "1.0.0");
+		File otherXML = writeFeature(new File(root, "o"), "o", "1.0.0");
+
+		// entries of the persisted index: path, timestamp, length, last use, id, version
+		assertTrue(new VersionedDataFile(indexFile, VERSION).write(out -> {
+			out.writeInt(2);
+			out.writeUTF(featureXML.getAbsolutePath());
+			out.writeLong(featureXML.lastModified());
+			out.writeLong(featureXML.length());
+			out.writeLong(0);
+			out.writeUTF("expired");
+			out.writeUTF("1.0.0");
+			out.writeUTF(otherXML.getAbsolutePath());
+			out.writeLong(otherXML.lastModified());
+			out.writeLong(otherXML.length());
+			out.writeLong(System.currentTimeMillis());
+			out.writeUTF("recent");
+			out.writeUTF("1.0.0");
+		}));
+
+		FeatureIndex index = new FeatureIndex(indexFile);
+		assertEquals("f", index.getHeader(featureXML).id);
+		assertEquals("recent", index.getHeader(otherXML).id);
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.eclipse.pde.internal.build.site.PDEState;
+import org.junit.Test;
+
+/**
+ * Tests that adding bundles to the build state reads their manifests
+ * concurrently but gives the same state as adding them one by one.
+ */
+public class PDEStateTests extends PDETestCase {
+
+	private static final int BUNDLE_COUNT = 40;
+
+	@Test
+	public void testAddBundlesMatchesSequentialAdd() throws Exception {
+		IFolder buildFolder = newTest("pdeState");
+		File root = buildFolder.getLocation().toFile();
+		List<File> locations = new ArrayList<>();
+		for (int i = 0; i < BUNDLE_COUNT; i++) {
+			StringBuilder manifest = new StringBuilder();
+			manifest.append("Manifest-Version: 1.0\n");
+			manifest.append("Bundle-ManifestVersion: 2\n");
+			// two versions of some bundles, some with a qualifier
+			manifest.append("Bundle-SymbolicName: bundle").append(i % 30).append('\n');
+			manifest.append("Bundle-Version: 1.").append(i / 30).append(i % 3 == 0 ? ".0.qualifier\n" : ".0\n");
+			if (i % 4 == 0)
+				manifest.append("Bundle-ClassPath: lib/a.jar, .\n");
+			if (i > 0)
+				manifest.append("Require-Bundle: bundle").append((i - 1) % 30).append('\n');
+			locations.add(writeBundle(root, "bundle" + i, manifest.toString()));
+		}
+		// not a bundle, skipped by both ways of adding
+		File notABundle = new File(root, "notABundle");
+		notABundle.mkdirs();
+		locations.add(BUNDLE_COUNT / 2, notABundle);
+
+		PDEState parallel = new PDEState();
+		parallel.addBundles(locations);
+		PDEState sequential = new PDEState();
+		for (File location : locations) {
+			sequential.addBundle(location);
+		}
+
+		BundleDescription[] expected = sortedBundles(sequential);
+		BundleDescription[] actual = sortedBundles(parallel);
+		assertEquals(BUNDLE_COUNT, expected.length);
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].getBundleId(), actual[i].getBundleId());
+			assertEquals(expected[i].getSymbolicName(), actual[i].getSymbolicName());
+			assertEquals(expected[i].getVersion(), actual[i].getVersion());
+			assertEquals(expected[i].getLocation(), actual[i].getLocation());
+			assertEquals(expected[i].getRequiredBundles().length, actual[i].getRequiredBundles().length);
+			assertArrayEquals(sequential.getExtraData().get(expected[i].getBundleId()),
+					parallel.getExtraData().get(actual[i].getBundleId()));
+		}
+	}
+
+	private static File writeBundle(File root, String name, String manifest) throws Exception {
+		File bundle = new File(root, name);
+		File manifestFile = new File(bundle, "META-INF/MANIFEST.MF");
+		manifestFile.getParentFile().mkdirs();
+		Files.writeString(manifestFile.toPath(), manifest);
+		return bundle;
+	}
+
+	private static BundleDescription[] sortedBundles(PDEState state) {
+		BundleDescription[] bundles = state.getState().getBundles();
+		Arrays.sort(bundles, Comparator.comparingLong(BundleDescription::getBundleId));
+		return bundles;
+	}
+}
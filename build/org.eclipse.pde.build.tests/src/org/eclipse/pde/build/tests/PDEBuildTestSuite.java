@@ -13,8 +13,12 @@
 
 package org.eclipse.pde.build.tests;
 
+import org.eclipse.pde.build.internal.tests.ArchiveTaskTests;
 import org.eclipse.pde.build.internal.tests.AssembleTests;
+import org.eclipse.pde.build.internal.tests.CompileSchedulerTests;
+import org.eclipse.pde.build.internal.tests.FeatureIndexTests;
 import org.eclipse.pde.build.internal.tests.FetchTests;
+import org.eclipse.pde.build.internal.tests.PDEStateTests;
 import org.eclipse.pde.build.internal.tests.ProductTests;
 import org.eclipse.pde.build.internal.tests.ScriptGenerationTests;
 import org.eclipse.pde.build.internal.tests.SourceTests;
@@ -24,6 +28,7 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ SourceTests.class, ScriptGenerationTests.class, ProductTests.class, LicenseTests.class,
-		AssembleTests.class, P2TestSuite.class, FetchTests.class })
+		AssembleTests.class, P2TestSuite.class, FetchTests.class, CompileSchedulerTests.class,
+		FeatureIndexTests.class, ArchiveTaskTests.class, PDEStateTests.class })
 public class PDEBuildTestSuite {
 }
@@ -259,6 +259,7 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 			OutputStream scriptStream = new BufferedOutputStream(new FileOutputStream(scriptLocation + '/' + scriptName));
 			try {
 				result = new AntScript(scriptStream);
+				result.setNativeArchives(getPropertyAsBoolean(IBuildPropertiesConstants.PROPERTY_NATIVE_ARCHIVES));
 			} catch (IOException e) {
 				try {
 					scriptStream.close();
@@ -79,6 +79,8 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 	protected boolean generateJnlp = false;
 	protected boolean generateFeatureVersionSuffix = false;
 	protected boolean parallel = false;
+	protected boolean parallelScheduler = false;
+	protected String incrementalBuildCache = null;
 	protected boolean workspaceBinaries = false;
 	protected int threadCount = -1;
 	protected int threadsPerProcessor = -1;
@@ -260,6 +262,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 			generator.setProduct(product);
 			generator.setProductQualifier(productQualifier);
 			generator.setUseWorkspaceBinaries(workspaceBinaries);
+			generator.setIncrementalCache(incrementalBuildCache);
 			generator.setContextMetadata(contextMetadata);
 			generator.setContextArtifacts(contextArtifacts);
 			generator.setGenerateSourceReferences(sourceReferences);
@@ -467,6 +470,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 		generator.setParallel(parallel);
 		generator.setThreadCount(threadCount);
 		generator.setThreadsPerProcessor(threadsPerProcessor);
+		generator.setScheduler(parallelScheduler);
 		generator.generate();
 	}
 
@@ -675,6 +679,14 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 		this.parallel = parallel;
 	}
 
+	public void setParallelScheduler(boolean parallelScheduler) {
+		this.parallelScheduler = parallelScheduler;
+	}
+
+	public void setIncrementalBuildCache(String incrementalBuildCache) {
+		this.incrementalBuildCache = incrementalBuildCache;
+	}
+
 	public void setThreadCount(int threadCount) {
 		this.threadCount = threadCount;
 	}
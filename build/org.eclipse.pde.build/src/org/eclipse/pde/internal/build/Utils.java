@@ -22,14 +22,18 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -381,6 +385,35 @@ public final class Utils implements IPDEBuildConstants, IBuildPropertiesConstant
 		return IPath.fromOSString(temp).append(location.removeFirstSegments(count));
 	}
 
+	/**
+	 * @return a new SHA-256 digest, the algorithm of the build's fingerprints
+	 *         and cache keys
+	 */
+	public static MessageDigest newSHA256Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @param text the text to hash, encoded as UTF-8
+	 * @return the hex encoded SHA-256 hash of the given text
+	 */
+	public static String sha256Hex(String text) {
+		return toHex(newSHA256Digest().digest(text.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * @param bytes the bytes to encode
+	 * @return the lower case hex encoding of the given bytes
+	 */
+	public static String toHex(byte[] bytes) {
+		return HexFormat.of().formatHex(bytes);
+	}
+
 	static public void copyFile(String src, String dest) throws IOException {
 		File source = new File(src);
 		if (!source.exists())
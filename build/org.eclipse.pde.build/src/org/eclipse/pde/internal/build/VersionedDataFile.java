@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * A cache file written with a {@link DataOutputStream} and starting with a
+ * format version. A file that is missing, of another version or that cannot
+ * be read is treated as absent, the cache is then rebuilt from scratch.
+ * <p>
+ * org.eclipse.pde.core has a VersionedDataFile with the same contract and file
+ * format, this bundle does not depend on it. Changes have to be made to both.
+ * </p>
+ */
+public class VersionedDataFile implements IPDEBuildConstants {
+
+	@FunctionalInterface
+	public interface Reader<T> {
+		/**
+		 * @return the content or <code>null</code> if it does not apply anymore
+		 */
+		T read(DataInputStream in) throws IOException;
+	}
+
+	@FunctionalInterface
+	public interface Writer {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private final File file;
+	private final int version;
+
+	/**
+	 * @param file the file, created along with its parent folders when written
+	 * @param version the version of the format, files of other versions are
+	 *            ignored
+	 */
+	public VersionedDataFile(File file, int version) {
+		this.file = file;
+		this.version = version;
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Reads the content of the file.
+	 *
+	 * @param reader reads the content that follows the version
+	 * @return the content or <code>null</code> if the file does not exist, is
+	 *         of another version or is corrupt
+	 */
+	public <T> T read(Reader<T> reader) {
+		if (!file.isFile())
+			return null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != version)
+				return null;
+			return reader.read(in);
+		} catch (IOException | RuntimeException e) {
+			// corrupt file, start over
+			return null;
+		}
+	}
+
+	/**
+	 * Replaces the content of the file. If the content cannot be written the
+	 * problem is logged and the file is deleted.
+	 *
+	 * @param writer writes the content that follows the version
+	 * @return whether the file has been written
+	 */
+	public boolean write(Writer writer) {
+		file.getParentFile().mkdirs();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(version);
+			writer.write(out);
+			return true;
+		} catch (IOException e) {
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, PI_PDEBUILD, e.getMessage(), e));
+		}
+		file.delete();
+		return false;
+	}
+
+	public void delete() {
+		file.delete();
+	}
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * A bounded number of named daemon threads running the tasks of one build
+ * step. Closing the pool cancels the tasks that have not started and waits for
+ * the running ones, so nothing of the step is left running once the step
+ * returns.
+ * <p>
+ * org.eclipse.pde.core has a WorkerPool with the same contract for closing,
+ * this bundle does not depend on it.
+ * </p>
+ */
+public class WorkerPool implements AutoCloseable {
+
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * @param name the name of the threads, followed by their number
+	 * @param threads the maximum number of threads
+	 */
+	public WorkerPool(String name, int threads) {
+		AtomicInteger threadCount = new AtomicInteger();
+		int count = Math.max(1, threads);
+		executor = new ThreadPoolExecutor(count, count, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread = new Thread(r, name + " #" + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @param max the maximum number of threads
+	 * @return the number of processors, at most the given maximum
+	 */
+	public static int getProcessorCount(int max) {
+		return Math.max(1, Math.min(max, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Schedules the task.
+	 */
+	public void execute(Runnable task) {
+		executor.execute(task);
+	}
+
+	/**
+	 * Schedules the task.
+	 *
+	 * @return the future of the result of the task
+	 */
+	public <T> Future<T> submit(Callable<T> task) {
+		return executor.submit(task);
+	}
+
+	/**
+	 * Runs the action for every index from 0 to count - 1 and waits until all
+	 * have run. A single index is run in the calling thread.
+	 *
+	 * @param name the name of the threads
+	 * @param count the number of indices
+	 * @param action the action, called concurrently for different indices
+	 * @throws RuntimeException the first failure of the action
+	 * @throws IllegalStateException if the calling thread has been interrupted
+	 */
+	public static void forEach(String name, int count, IntConsumer action) {
+		if (count <= 1) {
+			if (count == 1)
+				action.accept(0);
+			return;
+		}
+		try (WorkerPool pool = new WorkerPool(name, getProcessorCount(count))) {
+			List<Future<?>> futures = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				int index = i;
+				futures.add(pool.submit(() -> {
+					action.accept(index);
+					return null;
+				}));
+			}
+			try {
+				for (Future<?> future : futures) {
+					get(future);
+				}
+			} finally {
+				// after a failure the indices that have not started are skipped
+				for (Future<?> future : futures) {
+					future.cancel(false);
+				}
+			}
+		}
+	}
+
+	private static void get(Future<?> future) {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException)
+				throw runtimeException;
+			if (cause instanceof Error error)
+				throw error;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Accepts no new tasks, cancels the tasks that have not started and waits
+	 * until the running ones have completed. Running tasks are not interrupted
+	 * unless the calling thread is interrupted while waiting, they are still
+	 * waited for then.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		List<Runnable> notStarted = new ArrayList<>();
+		executor.getQueue().drainTo(notStarted);
+		for (Runnable task : notStarted) {
+			if (task instanceof Future<?> future)
+				future.cancel(false);
+		}
+		boolean interrupted = false;
+		while (true) {
+			try {
+				if (executor.awaitTermination(1, TimeUnit.SECONDS))
+					break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+				executor.shutdownNow();
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+}
@@ -38,6 +38,7 @@ public class AntScript implements IAntScript {
 	protected PrintWriter output;
 	protected final String XML_PROLOG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"; //$NON-NLS-1$
 	protected int indent = 0;
+	protected boolean nativeArchives = false;
 
 	/**
 	 * Constructor for the class.
@@ -51,6 +52,18 @@ public class AntScript implements IAntScript {
 		output.println(XML_PROLOG);
 	}
 
+	/**
+	 * Sets whether the jars and zips created from a single directory are
+	 * written by the <code>eclipse.archive</code> task instead of the Ant
+	 * <code>jar</code> and <code>zip</code> tasks. The archives are then
+	 * reproducible and their entries are compressed in parallel.
+	 * 
+	 * @param nativeArchives <code>true</code> to use <code>eclipse.archive</code>
+	 */
+	public void setNativeArchives(boolean nativeArchives) {
+		this.nativeArchives = nativeArchives;
+	}
+
 	/**
 	 * Close the output stream.
 	 */
@@ -194,6 +207,10 @@ public class AntScript implements IAntScript {
 	 *        is "skip".
 	 */
 	public void printJarTask(String jarFile, String basedir, String manifestAttribute, String filesetManifest) {
+		if (nativeArchives) {
+			printArchiveTask(jarFile, basedir, manifestAttribute, filesetManifest, true, false);
+			return;
+		}
 		printTab();
 		output.print("<jar"); //$NON-NLS-1$
 		printAttribute("destfile", jarFile, true); //$NON-NLS-1$
@@ -364,6 +381,10 @@ public class AntScript implements IAntScript {
 	 * @param fileSets the inclusion/exclusion rules to use when zipping
 	 */
 	public void printZipTask(String zipfile, String basedir, boolean filesOnly, boolean update, FileSet[] fileSets) {
+		if (nativeArchives && basedir != null && !update && fileSets == null) {
+			printArchiveTask(zipfile, basedir, null, null, false, filesOnly);
+			return;
+		}
 		printTab();
 		output.print("<zip"); //$NON-NLS-1$
 		printAttribute("destfile", zipfile, true); //$NON-NLS-1$
@@ -385,6 +406,30 @@ public class AntScript implements IAntScript {
 		}
 	}
 
+	/**
+	 * Print an <code>eclipse.archive</code> task to this script. This writes a
+	 * jar or a zip of the given directory with sorted entries and a fixed
+	 * timestamp.
+	 * 
+	 * @param destFile the destination file name
+	 * @param basedir the directory to archive
+	 * @param manifestAttribute the manifest file to use for a jar, can be <code>null</code>
+	 * @param filesetManifest "skip" to ignore the manifest found in the directory
+	 * @param jar <code>true</code> to write a jar, the manifest is then the first entry
+	 * @param filesOnly <code>true</code> to omit the directory entries
+	 */
+	public void printArchiveTask(String destFile, String basedir, String manifestAttribute, String filesetManifest, boolean jar, boolean filesOnly) {
+		printTab();
+		output.print("<eclipse.archive"); //$NON-NLS-1$
+		printAttribute("destfile", destFile, true); //$NON-NLS-1$
+		printAttribute("basedir", basedir, true); //$NON-NLS-1$
+		printAttribute("manifest", manifestAttribute, false); //$NON-NLS-1$
+		printAttribute("filesetmanifest", filesetManifest, false); //$NON-NLS-1$
+		printAttribute("jar", jar ? "true" : "false", true); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		printAttribute("filesonly", filesOnly ? "true" : "false", true); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		output.println("/>"); //$NON-NLS-1$
+	}
+
 	public void printUnzipTask(String zipFile, String destDir, boolean overWrite, String includePatterns, String excludePatterns) {
 		printTab();
 		output.print("<unzip"); //$NON-NLS-1$
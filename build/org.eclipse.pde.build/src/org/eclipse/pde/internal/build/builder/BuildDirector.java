@@ -75,6 +75,9 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	protected boolean generateJnlp = false;
 	protected boolean workspaceBinaries = false;
 	private boolean sourceReferences = false;
+	/** Folder holding the compilation output of earlier builds, <code>null</code> if the build is not incremental */
+	private String incrementalCache = null;
+	private BundleFingerprints fingerprints;
 
 	public static boolean p2Gathering = false;
 
@@ -738,4 +741,18 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	public void setUseWorkspaceBinaries(boolean workspaceBinaries) {
 		this.workspaceBinaries = workspaceBinaries;
 	}
+
+	public void setIncrementalCache(String incrementalCache) {
+		this.incrementalCache = incrementalCache;
+	}
+
+	public String getIncrementalCache() {
+		return incrementalCache;
+	}
+
+	BundleFingerprints getFingerprints() throws CoreException {
+		if (fingerprints == null)
+			fingerprints = new BundleFingerprints(getSite(false).getRegistry().getExtraData());
+		return fingerprints;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.builder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.pde.internal.build.AbstractScriptGenerator;
+import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.Utils;
+import org.osgi.framework.Version;
+
+/**
+ * Computes the fingerprints used by the incremental build. The fingerprint of
+ * a bundle that is compiled covers its sources, its build.properties, its
+ * manifest and compiler settings, and the fingerprints of the bundles it is
+ * resolved against, and the prebuilt jars on its Bundle-ClassPath. The
+ * fingerprint of a binary bundle covers its location, size and modification
+ * time, and those of the jars nested in a bundle folder. Two bundles with the
+ * same fingerprint produce the same compilation output, so the output of an
+ * earlier build can be reused.
+ * <p>
+ * The qualifier of the bundle version is left out of the fingerprints and
+ * cache keys, it changes with every build without changing the compilation
+ * output.
+ * </p>
+ */
+public class BundleFingerprints implements IPDEBuildConstants, IBuildPropertiesConstants {
+
+	private static final String IN_PROGRESS = ""; //$NON-NLS-1$
+
+	private static final String MANIFEST_PATH = MANIFEST_FOLDER + '/' + MANIFEST;
+
+	private static final String[] METADATA_FILES = {MANIFEST_PATH, PROPERTIES_FILE, "plugin.xml", "fragment.xml", ".settings/org.eclipse.jdt.core.prefs"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private final Map<BundleDescription, String> fingerprints = new HashMap<>();
+	private final Map<Long, String[]> classpaths;
+
+	/**
+	 * @param classpaths the Bundle-ClassPath entries of the bundles, by bundle id
+	 */
+	public BundleFingerprints(Map<Long, String[]> classpaths) {
+		this.classpaths = classpaths;
+	}
+
+	/**
+	 * Returns the name of the cache entries of the given bundle, its symbolic
+	 * name and version without the qualifier.
+	 *
+	 * @param bundle the bundle
+	 * @return the key of the bundle in the incremental build cache
+	 */
+	public static String getCacheKey(BundleDescription bundle) {
+		Version version = bundle.getVersion();
+		return bundle.getSymbolicName() + '_' + version.getMajor() + '.' + version.getMinor() + '.' + version.getMicro();
+	}
+
+	/**
+	 * Returns the fingerprint of the given bundle.
+	 *
+	 * @param bundle the bundle
+	 * @return the hex encoded fingerprint
+	 * @throws CoreException if the build.properties of the bundle can not be read
+	 */
+	public synchronized String getFingerprint(BundleDescription bundle) throws CoreException {
+		String fingerprint = fingerprints.get(bundle);
+		if (fingerprint != null) {
+			// a cycle is fingerprinted without the bundles that are still being computed
+			return fingerprint.isEmpty() ? null : fingerprint;
+		}
+		fingerprints.put(bundle, IN_PROGRESS);
+		MessageDigest digest = Utils.newSHA256Digest();
+		update(digest, getCacheKey(bundle));
+		if (Utils.isBinary(bundle)) {
+			File location = new File(bundle.getLocation());
+			update(digest, location.getAbsolutePath());
+			if (location.isDirectory()) {
+				stamp(digest, new File(location, MANIFEST_PATH));
+				// the jars of a bundle folder change without touching its manifest
+				for (String entry : getClasspath(bundle)) {
+					if (!ModelBuildScriptGenerator.DOT.equals(entry))
+						stamp(digest, new File(location, entry));
+				}
+			} else {
+				stamp(digest, location);
+			}
+		} else {
+			fingerprintSources(digest, bundle);
+		}
+		for (BundleDescription prerequisite : getPrerequisites(bundle)) {
+			String prerequisiteFingerprint = getFingerprint(prerequisite);
+			if (prerequisiteFingerprint != null)
+				update(digest, prerequisiteFingerprint);
+		}
+		fingerprint = Utils.toHex(digest.digest());
+		fingerprints.put(bundle, fingerprint);
+		return fingerprint;
+	}
+
+	private void fingerprintSources(MessageDigest digest, BundleDescription bundle) throws CoreException {
+		Path root = Path.of(bundle.getLocation());
+		for (String file : METADATA_FILES) {
+			updateFile(digest, root, root.resolve(file));
+		}
+		Properties properties = AbstractScriptGenerator.readProperties(bundle.getLocation(), PROPERTIES_FILE, IStatus.OK);
+		TreeSet<String> keys = new TreeSet<>(properties.stringPropertyNames());
+		for (String key : keys) {
+			if (!key.startsWith(PROPERTY_SOURCE_PREFIX))
+				continue;
+			for (String folder : Utils.getArrayFromString(properties.getProperty(key))) {
+				Path sourceFolder = root.resolve(folder);
+				if (!Files.isDirectory(sourceFolder))
+					continue;
+				List<Path> sources;
+				try (Stream<Path> files = Files.walk(sourceFolder)) {
+					sources = files.filter(Files::isRegularFile).sorted().toList();
+				} catch (IOException e) {
+					// an unreadable source folder makes the fingerprint unique, the bundle is compiled
+					update(digest, String.valueOf(System.nanoTime()));
+					continue;
+				}
+				for (Path file : sources) {
+					updateFile(digest, root, file);
+				}
+			}
+		}
+		// prebuilt libraries are compiled against like the bundles this bundle requires
+		for (String entry : getClasspath(bundle)) {
+			if (ModelBuildScriptGenerator.DOT.equals(entry) || properties.containsKey(PROPERTY_SOURCE_PREFIX + entry))
+				continue;
+			try {
+				updateFile(digest, root, root.resolve(entry));
+			} catch (InvalidPathException e) {
+				// not a file of the bundle
+			}
+		}
+	}
+
+	private String[] getClasspath(BundleDescription bundle) {
+		String[] classpath = classpaths != null ? classpaths.get(Long.valueOf(bundle.getBundleId())) : null;
+		return classpath != null ? classpath : new String[0];
+	}
+
+	private static List<BundleDescription> getPrerequisites(BundleDescription bundle) {
+		List<BundleDescription> result = new ArrayList<>();
+		HostSpecification host = bundle.getHost();
+		if (host != null && host.getHosts() != null) {
+			for (BundleDescription hostBundle : host.getHosts()) {
+				result.add(hostBundle);
+			}
+		}
+		for (BundleDescription required : bundle.getResolvedRequires()) {
+			if (!result.contains(required))
+				result.add(required);
+		}
+		for (ExportPackageDescription imported : bundle.getResolvedImports()) {
+			BundleDescription exporter = imported.getExporter();
+			if (exporter != null && exporter != bundle && !result.contains(exporter))
+				result.add(exporter);
+		}
+		return result;
+	}
+
+	private static void updateFile(MessageDigest digest, Path root, Path file) {
+		if (!Files.isRegularFile(file))
+			return;
+		update(digest, root.relativize(file).toString().replace(File.separatorChar, '/'));
+		try {
+			digest.update(Files.readAllBytes(file));
+		} catch (IOException e) {
+			update(digest, String.valueOf(System.nanoTime()));
+		}
+	}
+
+	private static void stamp(MessageDigest digest, File file) {
+		update(digest, file.getName() + ':' + file.length() + ':' + file.lastModified());
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+}
@@ -49,7 +49,7 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.IXMLConstants;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.Utils;
-import org.eclipse.pde.internal.build.site.PDEState;
+import org.eclipse.pde.internal.build.site.DependencyIndex;
 import org.osgi.framework.Filter;
 
 public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConstants, IXMLConstants, IBuildPropertiesConstants {
@@ -157,6 +157,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	private Map<String, ClasspathElement> pathElements = null;
 	private boolean allowBinaryCycles = false;
 	private Set<Long> requiredIds = null;
+	private DependencyIndex dependencies = null;
 	protected String modelLocation = null;
 
 	public ClasspathComputer3_0(ModelBuildScriptGenerator modelGenerator) {
@@ -182,6 +183,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 		visiblePackages = getVisiblePackages(model);
 		requiredIds = new HashSet<>();
 		allowBinaryCycles = AbstractScriptGenerator.getPropertyAsBoolean(IBuildPropertiesConstants.PROPERTY_ALLOW_BINARY_CYCLES);
+		dependencies = generator.getSite(false).getRegistry().getDependencyIndex();
 
 		//PREREQUISITE
 		addPrerequisites(model, classpath, modelLocation, pluginChain, addedPlugins);
@@ -593,7 +595,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 		// add libraries from pre-requisite plug-ins.  Don't worry about the export flag
 		// as all required plugins may be required for compilation.
-		BundleDescription[] requires = PDEState.getDependentBundles(target);
+		BundleDescription[] requires = dependencies.getDependentBundles(target);
 		pluginChain.add(target);
 		for (BundleDescription require : requires) {
 			addPluginAndPrerequisites(require, classpath, baseLocation, pluginChain, addedPlugins);
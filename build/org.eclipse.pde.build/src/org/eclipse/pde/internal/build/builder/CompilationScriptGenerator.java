@@ -13,7 +13,9 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -30,6 +32,7 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 	private boolean parallel = true;
 	private int threadCount = 0;
 	private int threadsPerProcessor = 3;
+	private boolean scheduler = false;
 
 	/** Contain the elements that will be assembled */
 	protected AssemblyInformation assemblyData;
@@ -61,6 +64,15 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		this.parallel = parallel;
 	}
 
+	/**
+	 * Compile each bundle as soon as the bundles it requires are compiled
+	 * instead of compiling groups of bundles one after the other. Only
+	 * relevant for parallel compilation.
+	 */
+	public void setScheduler(boolean scheduler) {
+		this.scheduler = scheduler;
+	}
+
 	public void setThreadCount(int count) {
 		if (count != -1)
 			this.threadCount = count;
@@ -97,6 +109,11 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		List<BundleDescription> sortedPlugins = Utils.extractPlugins(getSite(false).getRegistry().getSortedBundles(), plugins);
 		IPath basePath = IPath.fromOSString(workingDirectory);
 
+		if (parallel && scheduler) {
+			generateScheduledPlugins(sortedPlugins, basePath);
+			return;
+		}
+
 		Set<Long> bucket = null;
 		if (parallel) {
 			bucket = new HashSet<>();
@@ -125,6 +142,64 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 			script.printEndParallel();
 	}
 
+	private void generateScheduledPlugins(List<BundleDescription> sortedPlugins, IPath basePath) {
+		Map<String, String> arguments = new LinkedHashMap<>();
+		if (threadCount > 0)
+			arguments.put("threadCount", String.valueOf(threadCount)); //$NON-NLS-1$
+		if (threadsPerProcessor > 0)
+			arguments.put("threadsPerProcessor", String.valueOf(threadsPerProcessor)); //$NON-NLS-1$
+		arguments.put("report", Utils.getPropertyFormat(PROPERTY_BUILD_DIRECTORY) + "/compile." + featureId + ".timing.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+		script.printStartTag("eclipse.compileScheduler", arguments); //$NON-NLS-1$
+		script.incrementIdent();
+
+		Set<Long> compiled = new HashSet<>();
+		for (BundleDescription bundle : sortedPlugins) {
+			// Individual source bundles have empty build.jars targets, skip them
+			if (Utils.isSourceBundle(bundle))
+				continue;
+
+			Map<String, String> attributes = new LinkedHashMap<>();
+			attributes.put("id", String.valueOf(bundle.getBundleId())); //$NON-NLS-1$
+			attributes.put("name", bundle.getSymbolicName()); //$NON-NLS-1$
+			attributes.put("dir", Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath).toString()); //$NON-NLS-1$
+			String requires = getRequiredCompiledBundles(bundle, compiled);
+			if (requires.length() > 0)
+				attributes.put("requires", requires); //$NON-NLS-1$
+			script.printElement("bundle", attributes); //$NON-NLS-1$
+			compiled.add(Long.valueOf(bundle.getBundleId()));
+		}
+
+		script.decrementIdent();
+		script.printEndTag("eclipse.compileScheduler"); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the ids of the bundles compiled before the given one that it
+	 * 	requires, separated by colons
+	 */
+	private String getRequiredCompiledBundles(BundleDescription bundle, Set<Long> compiled) {
+		StringBuilder result = new StringBuilder();
+		Properties properties = (Properties) bundle.getUserObject();
+		if (properties != null) {
+			String required = properties.getProperty(PROPERTY_REQUIRED_BUNDLE_IDS);
+			if (required != null) {
+				String[] ids = Utils.getArrayFromString(required, ":"); //$NON-NLS-1$
+				for (String id : ids) {
+					try {
+						if (compiled.contains(Long.valueOf(id))) {
+							if (result.length() > 0)
+								result.append(':');
+							result.append(id);
+						}
+					} catch (NumberFormatException e) {
+						//ignore
+					}
+				}
+			}
+		}
+		return result.toString();
+	}
+
 	private boolean requiredInBucket(BundleDescription bundle, Set<Long> bucket) {
 		Properties properties = (Properties) bundle.getUserObject();
 		if (properties != null) {
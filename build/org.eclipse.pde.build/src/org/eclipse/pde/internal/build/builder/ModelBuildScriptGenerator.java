@@ -1272,11 +1272,16 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			params.put(PROPERTY_BUILD_RESULT_FOLDER, Utils.getPropertyFormat(PROPERTY_BUILD_RESULT_FOLDER));
 			script.printSubantTask(Utils.getPropertyFormat(PROPERTY_CUSTOM_BUILD_CALLBACKS), PROPERTY_PRE + TARGET_BUILD_JARS, customCallbacksBuildpath, customCallbacksFailOnError, customCallbacksInheritAll, params, null);
 		}
+		String fingerprint = getIncrementalFingerprint(pluginModel);
+		if (fingerprint != null)
+			generateIncrementalCacheTask("restore", fingerprint); //$NON-NLS-1$
 		for (CompiledEntry compiledJarName : compiledJarNames) {
 			String name = compiledJarName.getName(false);
 			script.printAvailableTask(name, replaceVariables(getJARLocation(name), true));
 			script.printAntCallTask(name, true, null);
 		}
+		if (fingerprint != null)
+			generateIncrementalCacheTask("store", fingerprint); //$NON-NLS-1$
 		if (customBuildCallbacks != null) {
 			script.printSubantTask(Utils.getPropertyFormat(PROPERTY_CUSTOM_BUILD_CALLBACKS), PROPERTY_POST + TARGET_BUILD_JARS, customCallbacksBuildpath, customCallbacksFailOnError, customCallbacksInheritAll, params, null);
 		}
@@ -1830,6 +1835,37 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		return IPath.fromOSString(Utils.getPropertyFormat(PROPERTY_BUILD_RESULT_FOLDER)).append(jarName).toString();
 	}
 
+	/**
+	 * Returns the fingerprint of the bundle if its compilation output can be
+	 * taken from the incremental build cache. Bundles with custom build
+	 * callbacks are always compiled, the callbacks may depend on anything.
+	 */
+	private String getIncrementalFingerprint(BundleDescription pluginModel) throws CoreException {
+		if (featureGenerator == null || featureGenerator.getIncrementalCache() == null || customBuildCallbacks != null || compiledJarNames.isEmpty())
+			return null;
+		return featureGenerator.getFingerprints().getFingerprint(pluginModel);
+	}
+
+	private void generateIncrementalCacheTask(String action, String fingerprint) {
+		StringBuilder outputs = new StringBuilder();
+		for (CompiledEntry compiledJarName : compiledJarNames) {
+			if (outputs.length() > 0)
+				outputs.append(',');
+			outputs.append(replaceVariables(getJARLocation(compiledJarName.getName(false)), true));
+		}
+		String settings = Utils.getPropertyFormat(PROPERTY_JAVAC_SOURCE) + ',' + Utils.getPropertyFormat(PROPERTY_JAVAC_TARGET) + ',' + Utils.getPropertyFormat(PROPERTY_BUNDLE_JAVAC_SOURCE) + ',' + Utils.getPropertyFormat(PROPERTY_BUNDLE_JAVAC_TARGET) + ',' + Utils.getPropertyFormat(PROPERTY_JAVAC_COMPILERARG) + ',' + Utils.getPropertyFormat(PROPERTY_JAVAC_DEBUG_INFO) + ',' + Utils.getPropertyFormat(PROPERTY_BOOTCLASSPATH);
+
+		Map<String, String> arguments = new HashMap<>();
+		arguments.put("action", action); //$NON-NLS-1$
+		arguments.put("cache", AntScript.getEscaped(featureGenerator.getIncrementalCache())); //$NON-NLS-1$
+		arguments.put("bundle", BundleFingerprints.getCacheKey(model)); //$NON-NLS-1$
+		arguments.put("fingerprint", fingerprint); //$NON-NLS-1$
+		arguments.put("settings", settings); //$NON-NLS-1$
+		arguments.put("outputs", outputs.toString()); //$NON-NLS-1$
+		arguments.put("problemMarker", Utils.getPropertyFormat(PROPERTY_COMPILE_PROBLEM_MARKER)); //$NON-NLS-1$
+		script.printElement("eclipse.incrementalCache", arguments); //$NON-NLS-1$
+	}
+
 	protected String[] getClasspathEntries(BundleDescription lookedUpModel) throws CoreException {
 		return getSite(false).getRegistry().getExtraData().get(Long.valueOf(lookedUpModel.getBundleId()));
 	}
@@ -60,8 +60,8 @@ public class BuildTimeFeatureFactory /*extends BaseFeatureFactory */implements /
 			URL featureURL = new URL(url, BuildTimeFeature.FEATURE_XML);
 			feature = parseBuildFeature(featureURL);
 
-			String qualifier = AbstractScriptGenerator.readProperties(IPath.fromOSString(url.getFile()).removeLastSegments(1).toOSString(), PROPERTIES_FILE, IStatus.OK).getProperty(PROPERTY_QUALIFIER);
-			String newVersion = QualifierReplacer.replaceQualifierInVersion(feature.getVersion(), feature.getId(), qualifier, site != null ? site.getFeatureVersions() : null);
+			String qualifier = getQualifier(url);
+			String newVersion = replaceQualifier(feature.getId(), feature.getVersion(), qualifier, site);
 			if (newVersion != null) {
 				//a feature version ending in qualifier using context will be further modified based on its included plugins				
 				if (feature.getVersion().endsWith(PROPERTY_QUALIFIER) && (qualifier == null || !qualifier.equalsIgnoreCase(PROPERTY_NONE))) {
@@ -86,6 +86,20 @@ public class BuildTimeFeatureFactory /*extends BaseFeatureFactory */implements /
 		return feature;
 	}
 
+	/*
+	 * Returns the qualifier set in the build.properties of the feature at the given url
+	 */
+	static String getQualifier(URL url) throws CoreException {
+		return AbstractScriptGenerator.readProperties(IPath.fromOSString(url.getFile()).removeLastSegments(1).toOSString(), PROPERTIES_FILE, IStatus.OK).getProperty(PROPERTY_QUALIFIER);
+	}
+
+	/*
+	 * Returns the version of the feature once its qualifier is replaced as it is done when the feature is created
+	 */
+	static String replaceQualifier(String id, String version, String qualifier, BuildTimeSite site) {
+		return QualifierReplacer.replaceQualifierInVersion(version, id, qualifier, site != null ? site.getFeatureVersions() : null);
+	}
+
 	public BuildTimeFeature parseBuildFeature(URL featureURL) throws CoreException {
 		BuildTimeFeatureParser parser = new BuildTimeFeatureParser();
 		BuildTimeFeature feature = null;
@@ -22,9 +22,9 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Dictionary;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -58,6 +58,7 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.IXMLConstants;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.Utils;
+import org.eclipse.pde.internal.build.WorkerPool;
 import org.eclipse.pde.internal.build.site.compatibility.FeatureReference;
 import org.osgi.framework.Filter;
 import org.osgi.framework.Version;
@@ -70,8 +71,10 @@ import org.osgi.framework.Version;
  */
 public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLConstants {
 	private final BuildTimeFeatureFactory factory = new BuildTimeFeatureFactory();
-	private final Map<String, Set<BuildTimeFeature>> featureCache = new HashMap<>();
 	private final Map<URL, BuildTimeFeature> featureURLCache = new HashMap<>();
+	/** The features of the site by id, highest version first. The features are only parsed once they are looked up */
+	private final Map<String, List<IndexedFeature>> featureIndex = new HashMap<>();
+	private final Set<FeatureReference> indexedReferences = new HashSet<>();
 	private List<FeatureReference> featureReferences;
 	private BuildTimeSiteContentProvider contentProvider;
 	private boolean featuresResolved = false;
@@ -87,11 +90,15 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 	private List<String> rootPluginsForFiler;
 	private boolean filter = false;
 
-	private final Comparator<Feature> featureComparator = (arg0, arg1) -> {
-		Version v0 = new Version(arg0.getVersion());
-		Version v1 = new Version(arg1.getVersion());
-		return -1 * v0.compareTo(v1);
-	};
+	private static final class IndexedFeature {
+		final Version version;
+		final URL url;
+
+		IndexedFeature(Version version, URL url) {
+			this.version = version;
+			this.url = url;
+		}
+	}
 
 	public void setReportResolutionErrors(boolean value) {
 		reportResolutionErrors = value;
@@ -311,15 +318,31 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 		if (!featuresResolved)
 			resolveFeatureReferences();
 
-		if (featureCache.containsKey(featureId)) {
-			//Set is ordered highest version to lowest, return the first that matches the range
-			Set<BuildTimeFeature> featureSet = featureCache.get(featureId);
-			for (BuildTimeFeature feature : featureSet) {
-				Version featureVersion = new Version(feature.getVersion());
-				if (range.isIncluded(featureVersion)) {
-					return feature;
+		List<IndexedFeature> candidates = featureIndex.get(featureId);
+		if (candidates != null) {
+			IndexedFeature stale;
+			do {
+				stale = null;
+				//List is ordered highest version to lowest, return the first that matches the range
+				for (IndexedFeature candidate : candidates) {
+					if (!range.isIncluded(candidate.version))
+						continue;
+					BuildTimeFeature feature;
+					try {
+						feature = (BuildTimeFeature) createFeature(candidate.url);
+					} catch (CoreException e) {
+						logFeatureParseError(candidate.url, e);
+						continue;
+					}
+					if (featureId.equals(feature.getId()) && candidate.version.equals(new Version(feature.getVersion())))
+						return feature;
+					// the header was out of date, createFeature indexed the feature as it is, look again
+					stale = candidate;
+					break;
 				}
-			}
+				if (stale != null)
+					candidates.remove(stale);
+			} while (stale != null);
 		}
 
 		if (throwsException) {
@@ -334,22 +357,91 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 		return null;
 	}
 
+	/*
+	 * Indexes the features that have been added since the last call by their id
+	 * and version. Only the root element of the feature.xml files is read, in
+	 * parallel and only for the files that changed since they were last indexed.
+	 */
 	private void resolveFeatureReferences() {
-		FeatureReference[] features = getFeatureReferences();
-		for (FeatureReference feature2 : features) {
-			try {
-				//getting the feature for the first time will result in it being added to featureCache
-				feature2.getFeature();
-			} catch (CoreException e) {
-				// just log the exception, but do not re-throw it - let other features to be resolved 
-				String message = NLS.bind(Messages.exception_featureParse, feature2.getURL());
-				IStatus status = new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_FEATURE_MISSING, message, e);
-				BundleHelper.getDefault().getLog().log(status);
+		List<FeatureReference> references = new ArrayList<>();
+		for (FeatureReference reference : getFeatureReferences()) {
+			if (indexedReferences.add(reference))
+				references.add(reference);
+		}
+		FeatureIndex index = FeatureIndex.getInstance();
+		FeatureIndex.Header[] headers = new FeatureIndex.Header[references.size()];
+		WorkerPool.forEach("Feature Index", headers.length, i -> { //$NON-NLS-1$
+			File featureXML = getFeatureXML(references.get(i));
+			headers[i] = featureXML != null ? index.getHeader(featureXML) : null;
+		});
+		index.save();
+
+		for (int i = 0; i < headers.length; i++) {
+			FeatureReference reference = references.get(i);
+			String id = null;
+			Version version = null;
+			if (headers[i] != null) {
+				id = headers[i].id;
+				version = getVersion(reference, headers[i]);
 			}
+			if (version == null) {
+				// the feature can not be indexed, parse it to get its id and version or report the problem
+				try {
+					Feature feature = reference.getFeature();
+					id = feature.getId();
+					version = new Version(feature.getVersion());
+				} catch (CoreException e) {
+					// just log the exception, but do not re-throw it - let other features to be resolved 
+					logFeatureParseError(reference.getURL(), e);
+					continue;
+				}
+			}
+			addToIndex(id, version, reference.getURL());
 		}
 		featuresResolved = true;
 	}
 
+	private void addToIndex(String id, Version version, URL url) {
+		List<IndexedFeature> features = featureIndex.computeIfAbsent(id, k -> new ArrayList<>(1));
+		int i = 0;
+		while (i < features.size() && features.get(i).version.compareTo(version) > 0)
+			i++;
+		// the first feature with a given version wins
+		if (i < features.size() && features.get(i).version.equals(version))
+			return;
+		features.add(i, new IndexedFeature(version, url));
+	}
+
+	private static File getFeatureXML(FeatureReference reference) {
+		URL url = reference.getURL();
+		if (url == null)
+			return null;
+		try {
+			return new File(new URL(url, BuildTimeFeature.FEATURE_XML).getFile());
+		} catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Returns the version the feature will have once it is parsed, see BuildTimeFeatureFactory#createFeature
+	 */
+	private Version getVersion(FeatureReference reference, FeatureIndex.Header header) {
+		try {
+			String qualifier = BuildTimeFeatureFactory.getQualifier(reference.getURL());
+			String version = BuildTimeFeatureFactory.replaceQualifier(header.id, header.version, qualifier, this);
+			return new Version(version != null ? version : header.version);
+		} catch (CoreException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private void logFeatureParseError(URL url, CoreException e) {
+		String message = NLS.bind(Messages.exception_featureParse, url);
+		IStatus status = new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_FEATURE_MISSING, message, e);
+		BundleHelper.getDefault().getLog().log(status);
+	}
+
 	public void addFeatureReferenceModel(File featureXML) {
 		URL featureURL;
 		FeatureReference featureRef;
@@ -484,16 +576,8 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 		feature = factory.createFeature(url, this);
 		feature.setFeatureContentProvider(getSiteContentProvider());
 		featureURLCache.put(url, feature);
-
-		if (featureCache.containsKey(feature.getId())) {
-			Set<BuildTimeFeature> set = featureCache.get(feature.getId());
-			set.add(feature);
-		} else {
-			TreeSet<BuildTimeFeature> set = new TreeSet<>(featureComparator);
-			set.add(feature);
-			featureCache.put(feature.getId(), set);
-		}
-
+		// features created from references that have not been added to the site can be found as well
+		addToIndex(feature.getId(), new Version(feature.getVersion()), url);
 		return feature;
 	}
 
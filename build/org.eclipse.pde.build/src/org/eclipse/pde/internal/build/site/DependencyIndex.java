@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * The dependencies of the resolved bundles of a state, computed once. The
+ * index is obtained from {@link PDEState#getDependencyIndex()} and handed to
+ * the code that queries the dependencies of many bundles, such as the
+ * classpath computation, so the wires of a bundle are only walked once. It
+ * also provides the order in which the bundles have to be built.
+ * <p>
+ * The index is immutable and describes the state at the time it was created;
+ * it must not be used anymore once the state has changed, see
+ * {@link #isCurrent()}.
+ * </p>
+ */
+public final class DependencyIndex {
+
+	private final State state;
+	private final long timestamp;
+	private final Map<BundleDescription, BundleDescription[]> dependents;
+	private final List<BundleDescription> sortedBundles;
+
+	/**
+	 * Indexes the resolved bundles of the given state.
+	 *
+	 * @param state a resolved state
+	 */
+	DependencyIndex(State state) {
+		this.state = state;
+		this.timestamp = state.getTimeStamp();
+		BundleDescription[] resolved = state.getResolvedBundles();
+		dependents = new HashMap<>(resolved.length * 2);
+		for (BundleDescription bundle : resolved) {
+			dependents.put(bundle, PDEState.getDependentBundles(bundle));
+		}
+		BundleDescription[] toSort = resolved.clone();
+		Platform.getPlatformAdmin().getStateHelper().sortBundles(toSort);
+		sortedBundles = Collections.unmodifiableList(Arrays.asList(toSort));
+	}
+
+	/**
+	 * @return whether the state has not changed since the index was created
+	 */
+	public boolean isCurrent() {
+		return state.getTimeStamp() == timestamp;
+	}
+
+	/**
+	 * Returns the bundles the given bundle imports packages from or requires,
+	 * like {@link PDEState#getDependentBundles(BundleDescription)}. Bundles
+	 * that are not part of the indexed state, or a state that has changed
+	 * since, are answered by walking their wires.
+	 *
+	 * @param bundle a bundle
+	 * @return the direct dependencies of the bundle
+	 */
+	public BundleDescription[] getDependentBundles(BundleDescription bundle) {
+		BundleDescription[] result = bundle != null && bundle.getContainingState() == state && isCurrent() ? dependents.get(bundle) : null;
+		return result != null ? result.clone() : PDEState.getDependentBundles(bundle);
+	}
+
+	/**
+	 * @return the resolved bundles, sorted so that the prerequisites of a bundle
+	 *         come before it
+	 */
+	public List<BundleDescription> getSortedBundles() {
+		return sortedBundles;
+	}
+}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.VersionedDataFile;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Index of the id and version declared by <code>feature.xml</code> files. The
+ * index only reads the root element of a feature and is kept per file as long
+ * as the timestamp and the length of the file do not change, which lets a {@link BuildTimeSite}
+ * find the features with a given id without parsing all the features it
+ * knows about. The index is persisted in the state location of the bundle so
+ * later builds only read the features that were modified. Features that have
+ * not been looked up for {@link #EXPIRY} are dropped from the index when it is
+ * loaded, so the index does not keep growing with the build directories that
+ * have been deleted.
+ * <p>
+ * The index is thread safe, features can be read concurrently.
+ * </p>
+ */
+public class FeatureIndex implements IPDEBuildConstants {
+
+	private static final int VERSION = 3;
+
+	/** The time after which a feature that has not been looked up is dropped */
+	static final long EXPIRY = TimeUnit.DAYS.toMillis(30);
+
+	/** The time after which the last use of a feature is updated in the index */
+	private static final long USE_PRECISION = TimeUnit.DAYS.toMillis(1);
+
+	private static final String FEATURE = "feature"; //$NON-NLS-1$
+
+	private static FeatureIndex instance;
+
+	/**
+	 * The id and version of a feature as they appear in the feature.xml, the
+	 * version still contains the qualifier.
+	 */
+	public static final class Header {
+		final long timestamp;
+		final long length;
+		final long lastUsed;
+		public final String id;
+		public final String version;
+
+		Header(long timestamp, long length, long lastUsed, String id, String version) {
+			this.timestamp = timestamp;
+			this.length = length;
+			this.lastUsed = lastUsed;
+			this.id = id;
+			this.version = version;
+		}
+	}
+
+	/**
+	 * Stops the parsing once the root element has been read.
+	 */
+	private static final class RootFound extends SAXException {
+		private static final long serialVersionUID = 1L;
+	}
+
+	private static final class RootHandler extends DefaultHandler {
+		String id;
+		String version;
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+			if (FEATURE.equals(qName)) {
+				id = attributes.getValue("id"); //$NON-NLS-1$
+				version = attributes.getValue("version"); //$NON-NLS-1$
+			}
+			throw new RootFound();
+		}
+	}
+
+	private final VersionedDataFile indexFile;
+	private final Map<String, Header> headers = new ConcurrentHashMap<>();
+	private volatile boolean headersChanged;
+
+	/**
+	 * @return the index shared by all sites, persisted in the state location
+	 *         if there is one
+	 */
+	static synchronized FeatureIndex getInstance() {
+		if (instance == null) {
+			File file = null;
+			try {
+				file = BundleHelper.getDefault().getStateLocation().append(".featureIndex").toFile(); //$NON-NLS-1$
+			} catch (IllegalStateException e) {
+				// no instance location, the index is only kept in memory
+			}
+			instance = new FeatureIndex(file);
+		}
+		return instance;
+	}
+
+	/**
+	 * @param indexFile file to persist the index in or <code>null</code>
+	 */
+	public FeatureIndex(File indexFile) {
+		this.indexFile = indexFile != null ? new VersionedDataFile(indexFile, VERSION) : null;
+		load();
+	}
+
+	/**
+	 * Returns the id and version declared by the given feature.xml.
+	 *
+	 * @param featureXML the feature.xml file
+	 * @return the header or <code>null</code> if the file does not exist or does
+	 *         not declare an id and a version, the feature then has to be parsed
+	 *         to report the problem
+	 */
+	public Header getHeader(File featureXML) {
+		String key = featureXML.getAbsolutePath();
+		long timestamp = featureXML.lastModified();
+		// the timestamp alone misses changes within its resolution
+		long length = featureXML.length();
+		long now = System.currentTimeMillis();
+		if (timestamp == 0) {
+			// file does not exist
+			if (headers.remove(key) != null)
+				headersChanged = true;
+			return null;
+		}
+		Header header = headers.get(key);
+		if (header != null && header.timestamp == timestamp && header.length == length) {
+			if (now - header.lastUsed > USE_PRECISION) {
+				header = new Header(timestamp, length, now, header.id, header.version);
+				headers.put(key, header);
+				headersChanged = true;
+			}
+			return header;
+		}
+
+		header = parse(featureXML, timestamp, length, now);
+		if (header == null) {
+			if (headers.remove(key) != null)
+				headersChanged = true;
+			return null;
+		}
+		headers.put(key, header);
+		headersChanged = true;
+		return header;
+	}
+
+	private static Header parse(File featureXML, long timestamp, long length, long now) {
+		RootHandler handler = new RootHandler();
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(featureXML))) {
+			@SuppressWarnings("restriction")
+			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE();
+			parser.parse(stream, handler);
+		} catch (RootFound e) {
+			// expected, the rest of the feature is not needed
+		} catch (IOException | SAXException | ParserConfigurationException e) {
+			return null;
+		}
+		if (handler.id == null || handler.id.trim().length() == 0 || handler.version == null || handler.version.trim().length() == 0)
+			return null;
+		return new Header(timestamp, length, now, handler.id, handler.version);
+	}
+
+	private void load() {
+		if (indexFile == null)
+			return;
+		long expired = System.currentTimeMillis() - EXPIRY;
+		Map<String, Header> loaded = indexFile.read(in -> {
+			int count = in.readInt();
+			Map<String, Header> result = new HashMap<>(count);
+			for (int i = 0; i < count; i++) {
+				String key = in.readUTF();
+				long timestamp = in.readLong();
+				long length = in.readLong();
+				long lastUsed = in.readLong();
+				String id = in.readUTF();
+				String version = in.readUTF();
+				if (lastUsed >= expired)
+					result.put(key, new Header(timestamp, length, lastUsed, id, version));
+				else
+					headersChanged = true;
+			}
+			return result;
+		});
+		if (loaded != null)
+			headers.putAll(loaded);
+	}
+
+	/**
+	 * Writes the index if features have been read since it was loaded.
+	 */
+	public synchronized void save() {
+		if (indexFile == null || !headersChanged)
+			return;
+		Map<String, Header> snapshot = Map.copyOf(headers);
+		if (indexFile.write(out -> {
+			out.writeInt(snapshot.size());
+			for (Map.Entry<String, Header> entry : snapshot.entrySet()) {
+				Header header = entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeLong(header.timestamp);
+				out.writeLong(header.length);
+				out.writeLong(header.lastUsed);
+				out.writeUTF(header.id);
+				out.writeUTF(header.version);
+			}
+		}))
+			headersChanged = false;
+	}
+}
@@ -68,6 +68,7 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.PDEUIStateWrapper;
 import org.eclipse.pde.internal.build.Utils;
+import org.eclipse.pde.internal.build.WorkerPool;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
 import org.osgi.framework.Version;
@@ -88,9 +89,8 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	private List<BundleDescription> addedBundle;
 	private List<BundleDescription> unqualifiedBundles; //All the bundle description objects that have .qualifier in them 
 	private Properties platformProperties;
-	private List<BundleDescription> sortedBundles = null;
+	private DependencyIndex dependencyIndex;
 	private final Set<Dictionary<String, String>> convertedManifests;
-	private long lastSortingDate = 0L;
 	private String[] eeSources;
 
 	protected long getNextId() {
@@ -251,32 +251,53 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public boolean addBundle(File bundleLocation) {
-		Dictionary<String, String> manifest;
-		manifest = loadManifest(bundleLocation);
+		LoadedManifest loaded = loadBundleManifest(bundleLocation);
+		if (loaded == null)
+			return false;
+		return addBundle(loaded.manifest, loaded.location);
+	}
+
+	/**
+	 * The manifest of a bundle, ready to be added to the state.
+	 */
+	private static final class LoadedManifest {
+		final File location;
+		final Dictionary<String, String> manifest;
+
+		LoadedManifest(File location, Dictionary<String, String> manifest) {
+			this.location = location;
+			this.manifest = manifest;
+		}
+	}
+
+	//Read the manifest of a bundle and mark its qualifier. This does not touch the state and can be done concurrently for several bundles
+	private LoadedManifest loadBundleManifest(File bundleLocation) {
+		Dictionary<String, String> manifest = loadManifest(bundleLocation);
 		if (manifest == null) {
-			return addFlexibleRoot(bundleLocation);
+			File root = getFlexibleRoot(bundleLocation);
+			return root != null ? loadBundleManifest(root) : null;
 		}
 		try {
 			hasQualifier(bundleLocation, manifest);
 		} catch (BundleException e) {
 			//should not happen since we know the header
 		}
-		return addBundle(manifest, bundleLocation);
+		return new LoadedManifest(bundleLocation, manifest);
 	}
 
-	private boolean addFlexibleRoot(File bundleLocation) {
+	private File getFlexibleRoot(File bundleLocation) {
 		if (!new File(bundleLocation, PDE_CORE_PREFS).exists())
-			return false;
+			return null;
 
 		try {
 			Properties properties = AbstractScriptGenerator.readProperties(bundleLocation.getAbsolutePath(), PDE_CORE_PREFS, IStatus.OK);
 			String root = properties.getProperty(BUNDLE_ROOT_PATH);
 			if (root != null)
-				return addBundle(new File(bundleLocation, root));
+				return new File(bundleLocation, root);
 		} catch (CoreException e) {
 			//ignore
 		}
-		return false;
+		return null;
 	}
 
 	private String updateVersionNumber(Dictionary<String, String> manifest) {
@@ -384,8 +405,14 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
+		File[] locations = bundles.toArray(new File[bundles.size()]);
+		LoadedManifest[] manifests = new LoadedManifest[locations.length];
+		// reading the manifests is the expensive part and is done in parallel, the bundles are then
+		// added in the given order so their ids and the content of the state do not depend on the scheduling
+		WorkerPool.forEach("Bundle Manifest Reader", locations.length, i -> manifests[i] = loadBundleManifest(locations[i])); //$NON-NLS-1$
+		for (LoadedManifest loaded : manifests) {
+			if (loaded != null)
+				addBundle(loaded.manifest, loaded.location);
 		}
 	}
 
@@ -486,6 +513,19 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		if (unqualifiedBundles != null) {
 			forceQualifiers();
 		}
+		getDependencyIndex();
+	}
+
+	/**
+	 * Returns the dependencies of the resolved bundles of the state. The index
+	 * is created again when the state has changed since the last call.
+	 * 
+	 * @return the dependency index of the current state
+	 */
+	public DependencyIndex getDependencyIndex() {
+		if (dependencyIndex == null || !dependencyIndex.isCurrent())
+			dependencyIndex = new DependencyIndex(state);
+		return dependencyIndex;
 	}
 
 	public static String getSystemPackages(IExecutionEnvironment environment, Properties profileProperties) {
@@ -863,13 +903,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public List<BundleDescription> getSortedBundles() {
-		if (lastSortingDate != getState().getTimeStamp()) {
-			lastSortingDate = getState().getTimeStamp();
-			BundleDescription[] toSort = getState().getResolvedBundles();
-			Platform.getPlatformAdmin().getStateHelper().sortBundles(toSort);
-			sortedBundles = Arrays.asList(toSort);
-		}
-		return sortedBundles;
+		return getDependencyIndex().getSortedBundles();
 	}
 
 	public void cleanupOriginalState() {
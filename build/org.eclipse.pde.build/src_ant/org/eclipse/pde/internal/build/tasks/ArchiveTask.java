@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.jar.JarFile;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.DirectoryScanner;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+
+/**
+ * Writes a jar or a zip of a directory with the {@link ArchiveWriter}, as a
+ * replacement of the <code>jar</code> and <code>zip</code> Ant tasks for the
+ * archives PDE Build creates from a single directory.
+ * <pre>
+ * &lt;eclipse.archive destfile="plugins/org.example_1.0.0.jar" basedir="${temp.folder}/org.example_1.0.0"
+ *     jar="true" filesetmanifest="merge"/&gt;
+ * </pre>
+ * The entries are sorted and get the same timestamp, taken from the
+ * <code>timestamp</code> attribute (seconds since the epoch), the
+ * <code>SOURCE_DATE_EPOCH</code> environment variable or a fixed date, so the
+ * same content always produces the same archive. The Ant default excludes
+ * apply like for the Ant tasks.
+ * <p>
+ * For a jar the manifest is the <code>manifest</code> file if one is given,
+ * otherwise the <code>META-INF/MANIFEST.MF</code> of the directory unless
+ * <code>filesetmanifest</code> is <code>skip</code>, otherwise a minimal
+ * manifest is written.
+ * </p>
+ */
+public class ArchiveTask extends Task {
+	private static final String SOURCE_DATE_EPOCH = "SOURCE_DATE_EPOCH"; //$NON-NLS-1$
+	/** 1980-02-01T00:00:00Z, the first date that is safe in all zip implementations */
+	private static final long DEFAULT_TIMESTAMP = 318211200L;
+	private static final String DEFAULT_MANIFEST = "Manifest-Version: 1.0\r\n\r\n"; //$NON-NLS-1$
+	private static final String META_INF = "META-INF/"; //$NON-NLS-1$
+
+	private File destFile;
+	private File baseDir;
+	private File manifest;
+	private String filesetManifest = "skip"; //$NON-NLS-1$
+	private boolean jar = false;
+	private boolean filesOnly = false;
+	private String timestamp;
+	private int threadCount = 0;
+
+	@Override
+	public void execute() throws BuildException {
+		if (destFile == null)
+			throw new BuildException("destfile attribute must be set", getLocation()); //$NON-NLS-1$
+		if (baseDir == null || !baseDir.isDirectory()) {
+			if (jar)
+				throw new BuildException("basedir " + baseDir + " does not exist", getLocation()); //$NON-NLS-1$ //$NON-NLS-2$
+			// like <zip whenempty="skip">
+			log("Nothing to archive in " + baseDir, Project.MSG_VERBOSE); //$NON-NLS-1$
+			return;
+		}
+
+		DirectoryScanner scanner = new DirectoryScanner();
+		scanner.setBasedir(baseDir);
+		scanner.addDefaultExcludes();
+		scanner.scan();
+		String[] files = normalize(scanner.getIncludedFiles());
+		String[] directories = filesOnly ? new String[0] : normalize(scanner.getIncludedDirectories());
+
+		int workers = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+		try (ArchiveWriter writer = new ArchiveWriter(destFile, getTimestamp(), workers)) {
+			if (jar)
+				writeManifest(writer, files);
+			for (String directory : directories) {
+				if (!directory.isEmpty() && !(jar && directory.equals(META_INF)))
+					writer.addDirectory(directory);
+			}
+			for (String file : files) {
+				if (jar && file.equalsIgnoreCase(JarFile.MANIFEST_NAME))
+					continue;
+				writer.addFile(file, new File(baseDir, file));
+			}
+		} catch (IOException e) {
+			destFile.delete();
+			throw new BuildException("Unable to write " + destFile + ": " + e.getMessage(), e, getLocation()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		log("Building " + (jar ? "jar: " : "zip: ") + destFile.getAbsolutePath(), Project.MSG_INFO); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private void writeManifest(ArchiveWriter writer, String[] files) throws IOException {
+		// the manifest has to come first, that is where JarInputStream looks for it
+		if (!filesOnly)
+			writer.addDirectory(META_INF);
+		File source = manifest;
+		if (source == null && !"skip".equalsIgnoreCase(filesetManifest)) { //$NON-NLS-1$
+			for (String file : files) {
+				if (file.equalsIgnoreCase(JarFile.MANIFEST_NAME))
+					source = new File(baseDir, file);
+			}
+		}
+		if (source != null && source.isFile())
+			writer.addFile(JarFile.MANIFEST_NAME, source);
+		else
+			writer.addBytes(JarFile.MANIFEST_NAME, DEFAULT_MANIFEST.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String[] normalize(String[] paths) {
+		String[] result = new String[paths.length];
+		for (int i = 0; i < paths.length; i++) {
+			result[i] = paths[i].replace(File.separatorChar, '/');
+		}
+		Arrays.sort(result);
+		return result;
+	}
+
+	private long getTimestamp() {
+		String value = timestamp;
+		if (value == null || value.startsWith("${")) //$NON-NLS-1$
+			value = System.getenv(SOURCE_DATE_EPOCH);
+		if (value == null || value.isBlank())
+			return DEFAULT_TIMESTAMP;
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			throw new BuildException("Invalid timestamp " + value, getLocation()); //$NON-NLS-1$
+		}
+	}
+
+	public void setDestfile(File destFile) {
+		this.destFile = destFile;
+	}
+
+	public void setBasedir(File baseDir) {
+		this.baseDir = baseDir;
+	}
+
+	public void setManifest(File manifest) {
+		this.manifest = manifest;
+	}
+
+	public void setFilesetmanifest(String filesetManifest) {
+		this.filesetManifest = filesetManifest.toLowerCase(Locale.ENGLISH);
+	}
+
+	public void setJar(boolean jar) {
+		this.jar = jar;
+	}
+
+	public void setFilesonly(boolean filesOnly) {
+		this.filesOnly = filesOnly;
+	}
+
+	public void setTimestamp(String timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public void setThreadCount(int threadCount) {
+		this.threadCount = threadCount;
+	}
+}
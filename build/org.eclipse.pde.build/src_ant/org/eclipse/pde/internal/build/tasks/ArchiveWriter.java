@@ -0,0 +1,439 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.eclipse.pde.internal.build.WorkerPool;
+
+/**
+ * Writes a zip file whose entries are compressed in parallel. The entries are
+ * written in the order they are added and all get the same timestamp, so the
+ * same input always produces the same bytes.
+ * <p>
+ * Files that are already compressed, nested jars and zips or images, are
+ * stored as they are instead of being deflated a second time. Archives that
+ * would need the zip64 format are rejected.
+ * </p>
+ * <p>
+ * The content read ahead of the writing is bounded by {@link #MAX_PENDING_BYTES}.
+ * Files larger than {@link #LARGE_ENTRY} are never held in memory, they are
+ * streamed into a temporary file next to the archive while they are
+ * compressed and copied from there into the archive.
+ * </p>
+ */
+class ArchiveWriter implements Closeable {
+	private static final int LOCAL_HEADER = 0x04034b50;
+	private static final int CENTRAL_HEADER = 0x02014b50;
+	private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+	private static final int VERSION = 20;
+	private static final int FLAG_UTF8 = 0x0800;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+	private static final int DIRECTORY_ATTRIBUTE = 0x10;
+	private static final long MAX_SIZE = 0xFFFFFFFFL;
+	private static final int MAX_ENTRIES = 0xFFFF;
+	/** Size above which the content of a file is streamed instead of read into memory */
+	static final long LARGE_ENTRY = 4L * 1024 * 1024;
+	/** Maximum size of the content read by entries waiting to be written */
+	static final long MAX_PENDING_BYTES = 32L * 1024 * 1024;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final String[] COMPRESSED_EXTENSIONS = {".jar", ".zip", ".gz", ".tgz", ".bz2", ".xz", ".png", ".jpg", ".jpeg", ".gif"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+
+	private static class Entry {
+		byte[] name;
+		int method;
+		long crc;
+		long size;
+		long compressedSize;
+		byte[] data;
+		/** The file holding the data of a large entry, instead of {@link #data} */
+		File dataFile;
+		boolean temporary;
+		boolean directory;
+		long offset;
+
+		long getDataSize() {
+			return data != null ? data.length : compressedSize;
+		}
+
+		void deleteTemporary() {
+			if (temporary)
+				dataFile.delete();
+		}
+	}
+
+	private static class Pending {
+		final Future<Entry> entry;
+		final long bytes;
+
+		Pending(Future<Entry> entry, long bytes) {
+			this.entry = entry;
+			this.bytes = bytes;
+		}
+	}
+
+	private final File destination;
+	private final CountingOutputStream out;
+	private final int dosTime;
+	private final int dosDate;
+	private final WorkerPool pool;
+	private final int window;
+	private final Deque<Pending> pending = new ArrayDeque<>();
+	private long pendingBytes;
+	private final List<Entry> written = new ArrayList<>();
+
+	/**
+	 * @param destination the zip file to write
+	 * @param timestamp the timestamp of all entries, in seconds since the epoch
+	 * @param threads the number of threads compressing the files
+	 * @throws IOException if the file can not be created
+	 */
+	ArchiveWriter(File destination, long timestamp, int threads) throws IOException {
+		this.destination = destination;
+		File parent = destination.getAbsoluteFile().getParentFile();
+		if (parent != null)
+			Files.createDirectories(parent.toPath());
+		LocalDateTime time = LocalDateTime.ofEpochSecond(timestamp, 0, ZoneOffset.UTC);
+		if (time.getYear() < 1980)
+			time = LocalDateTime.of(1980, 1, 1, 0, 0);
+		dosTime = (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() >> 1);
+		dosDate = ((time.getYear() - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth();
+		int workers = Math.max(1, threads);
+		// bounds the number of small entries waiting to be written
+		window = workers * 4;
+		pool = new WorkerPool("Archive Writer", workers); //$NON-NLS-1$
+		out = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(destination), BUFFER_SIZE));
+	}
+
+	/**
+	 * Adds a directory entry.
+	 *
+	 * @param name the entry name, ending with a slash
+	 */
+	void addDirectory(String name) throws IOException {
+		Entry entry = new Entry();
+		entry.name = (name.endsWith("/") ? name : name + '/').getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+		entry.method = STORED;
+		entry.data = new byte[0];
+		entry.directory = true;
+		enqueue(CompletableFuture.completedFuture(entry), 0);
+	}
+
+	/**
+	 * Adds the content of a file.
+	 *
+	 * @param name the entry name
+	 * @param file the file to read the content from
+	 */
+	void addFile(String name, File file) throws IOException {
+		long length = file.length();
+		if (length > LARGE_ENTRY)
+			enqueue(pool.submit(() -> compressLarge(name, file)), 0);
+		else
+			enqueue(pool.submit(() -> compress(name, Files.readAllBytes(file.toPath()))), length);
+	}
+
+	/**
+	 * Adds the given content.
+	 *
+	 * @param name the entry name
+	 * @param content the content of the entry
+	 */
+	void addBytes(String name, byte[] content) throws IOException {
+		enqueue(pool.submit((Callable<Entry>) () -> compress(name, content)), content.length);
+	}
+
+	/**
+	 * @param bytes the size of the content the entry holds in memory
+	 */
+	private void enqueue(Future<Entry> entry, long bytes) throws IOException {
+		while (!pending.isEmpty() && (pending.size() >= window || pendingBytes + bytes > MAX_PENDING_BYTES)) {
+			writeNext();
+		}
+		pending.add(new Pending(entry, bytes));
+		pendingBytes += bytes;
+	}
+
+	private void writeNext() throws IOException {
+		Pending next = pending.poll();
+		pendingBytes -= next.bytes;
+		writeEntry(take(next.entry));
+	}
+
+	private static Entry compress(String name, byte[] content) {
+		Entry entry = new Entry();
+		entry.name = name.getBytes(StandardCharsets.UTF_8);
+		entry.size = content.length;
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		entry.crc = crc.getValue();
+		entry.method = STORED;
+		entry.data = content;
+		if (content.length == 0 || isCompressed(name))
+			return entry;
+
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			deflater.setInput(content);
+			deflater.finish();
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+			byte[] chunk = new byte[16 * 1024];
+			while (!deflater.finished()) {
+				int count = deflater.deflate(chunk);
+				buffer.write(chunk, 0, count);
+			}
+			// incompressible content is stored, like the Ant zip task does
+			if (buffer.size() < content.length) {
+				entry.method = DEFLATED;
+				entry.data = buffer.toByteArray();
+			}
+		} finally {
+			deflater.end();
+		}
+		return entry;
+	}
+
+	/*
+	 * Compresses a large file into a temporary file, the content is only read
+	 * through a buffer.
+	 */
+	private Entry compressLarge(String name, File file) throws IOException {
+		Entry entry = new Entry();
+		entry.name = name.getBytes(StandardCharsets.UTF_8);
+		entry.method = STORED;
+		entry.dataFile = file;
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		if (isCompressed(name)) {
+			try (InputStream in = new CheckedInputStream(new FileInputStream(file), crc)) {
+				while (in.read(buffer) != -1) {
+					// only the checksum is needed
+				}
+			}
+		} else {
+			File temporary = File.createTempFile("archive", ".tmp", destination.getAbsoluteFile().getParentFile()); //$NON-NLS-1$ //$NON-NLS-2$
+			Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			try (InputStream in = new CheckedInputStream(new FileInputStream(file), crc); OutputStream deflated = new DeflaterOutputStream(new FileOutputStream(temporary), deflater, BUFFER_SIZE)) {
+				int count;
+				while ((count = in.read(buffer)) != -1) {
+					deflated.write(buffer, 0, count);
+				}
+			} catch (IOException | RuntimeException e) {
+				temporary.delete();
+				throw e;
+			} finally {
+				deflater.end();
+			}
+			// incompressible content is stored, like the Ant zip task does
+			if (temporary.length() < file.length()) {
+				entry.method = DEFLATED;
+				entry.dataFile = temporary;
+				entry.temporary = true;
+			} else {
+				temporary.delete();
+			}
+		}
+		entry.crc = crc.getValue();
+		entry.size = file.length();
+		entry.compressedSize = entry.dataFile.length();
+		return entry;
+	}
+
+	private static boolean isCompressed(String name) {
+		String lowerCase = name.toLowerCase(Locale.ENGLISH);
+		for (String extension : COMPRESSED_EXTENSIONS) {
+			if (lowerCase.endsWith(extension))
+				return true;
+		}
+		return false;
+	}
+
+	private static Entry take(Future<Entry> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while compressing", e); //$NON-NLS-1$
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException ioException)
+				throw ioException;
+			throw new IOException(cause);
+		}
+	}
+
+	private void writeEntry(Entry entry) throws IOException {
+		try {
+			writeEntryData(entry);
+		} finally {
+			entry.deleteTemporary();
+			entry.dataFile = null;
+		}
+	}
+
+	private void writeEntryData(Entry entry) throws IOException {
+		long dataSize = entry.getDataSize();
+		if (written.size() >= MAX_ENTRIES || entry.size >= MAX_SIZE || out.count + dataSize >= MAX_SIZE)
+			throw new IOException("The archive is too large, the zip64 format is not supported: " + destination); //$NON-NLS-1$
+		entry.offset = out.count;
+		writeInt(LOCAL_HEADER);
+		writeShort(VERSION);
+		writeShort(FLAG_UTF8);
+		writeShort(entry.method);
+		writeShort(dosTime);
+		writeShort(dosDate);
+		writeInt((int) entry.crc);
+		writeInt((int) dataSize);
+		writeInt((int) entry.size);
+		writeShort(entry.name.length);
+		writeShort(0);
+		out.write(entry.name);
+		if (entry.data != null) {
+			out.write(entry.data);
+		} else {
+			long copied = Files.copy(entry.dataFile.toPath(), out);
+			if (copied != dataSize)
+				throw new IOException("File changed while it was archived: " + entry.dataFile); //$NON-NLS-1$
+		}
+		// only the header is needed for the central directory
+		entry.compressedSize = dataSize;
+		entry.data = null;
+		written.add(entry);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			while (!pending.isEmpty()) {
+				writeNext();
+			}
+			long centralDirectory = out.count;
+			for (Entry entry : written) {
+				writeInt(CENTRAL_HEADER);
+				writeShort(VERSION);
+				writeShort(VERSION);
+				writeShort(FLAG_UTF8);
+				writeShort(entry.method);
+				writeShort(dosTime);
+				writeShort(dosDate);
+				writeInt((int) entry.crc);
+				writeInt((int) entry.compressedSize);
+				writeInt((int) entry.size);
+				writeShort(entry.name.length);
+				writeShort(0); // extra field
+				writeShort(0); // comment
+				writeShort(0); // disk number
+				writeShort(0); // internal attributes
+				writeInt(entry.directory ? DIRECTORY_ATTRIBUTE : 0);
+				writeInt((int) entry.offset);
+				out.write(entry.name);
+			}
+			long centralDirectorySize = out.count - centralDirectory;
+			if (out.count >= MAX_SIZE)
+				throw new IOException("The archive is too large, the zip64 format is not supported: " + destination); //$NON-NLS-1$
+			writeInt(END_OF_CENTRAL_DIRECTORY);
+			writeShort(0);
+			writeShort(0);
+			writeShort(written.size());
+			writeShort(written.size());
+			writeInt((int) centralDirectorySize);
+			writeInt((int) centralDirectory);
+			writeShort(0);
+		} finally {
+			// after a failure the entries that have not been compressed yet are skipped
+			for (Pending entry : pending) {
+				entry.entry.cancel(false);
+			}
+			pool.close();
+			for (Pending entry : pending) {
+				deleteTemporary(entry.entry);
+			}
+			out.close();
+		}
+	}
+
+	private static void deleteTemporary(Future<Entry> future) {
+		if (future.isDone() && !future.isCancelled()) {
+			try {
+				future.get().deleteTemporary();
+			} catch (InterruptedException | ExecutionException e) {
+				// failed entries have no temporary file
+			}
+		}
+	}
+
+	private void writeShort(int value) throws IOException {
+		out.write(value & 0xFF);
+		out.write((value >>> 8) & 0xFF);
+	}
+
+	private void writeInt(int value) throws IOException {
+		writeShort(value & 0xFFFF);
+		writeShort((value >>> 16) & 0xFFFF);
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+		private final OutputStream delegate;
+		long count;
+
+		CountingOutputStream(OutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			delegate.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			delegate.write(b, off, len);
+			count += len;
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+	}
+}
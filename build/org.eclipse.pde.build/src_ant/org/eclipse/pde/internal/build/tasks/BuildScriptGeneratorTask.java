@@ -316,6 +316,20 @@ public class BuildScriptGeneratorTask extends Task {
 		generator.setParallel(parallel);
 	}
 
+	public void setParallelScheduler(boolean scheduler) {
+		generator.setParallelScheduler(scheduler);
+	}
+
+	/**
+	 * Set the folder in which the compilation output of the bundles is kept
+	 * between builds. Bundles whose sources, settings and prerequisites did not
+	 * change are not compiled again.
+	 */
+	public void setIncrementalBuildCache(String cache) {
+		if (cache != null && cache.length() > 0 && !cache.startsWith("${")) //$NON-NLS-1$
+			generator.setIncrementalBuildCache(cache);
+	}
+
 	public void setParallelThreadCount(String count) {
 		try {
 			generator.setThreadCount(Integer.parseInt(count));
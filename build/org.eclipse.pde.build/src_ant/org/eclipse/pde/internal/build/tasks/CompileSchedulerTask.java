@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+import org.apache.tools.ant.taskdefs.Ant;
+import org.eclipse.pde.internal.build.WorkerPool;
+
+/**
+ * Compiles bundles as soon as the bundles they require have been compiled,
+ * instead of compiling them in groups that have to finish completely before
+ * the next group starts.
+ * <pre>
+ * &lt;eclipse.compileScheduler threadCount="4" report="${buildDirectory}/compile.timing.txt"&gt;
+ *     &lt;bundle id="12" name="org.example.core" dir="plugins/org.example.core"/&gt;
+ *     &lt;bundle id="13" name="org.example.ui" dir="plugins/org.example.ui" requires="12"/&gt;
+ * &lt;/eclipse.compileScheduler&gt;
+ * </pre>
+ * The bundles have to be listed in a dependency order, requirements on
+ * bundles that are not listed are ignored. Once all bundles are compiled the
+ * critical path, i.e. the chain of dependent bundles that determined the
+ * overall duration, is logged and written to the optional report file.
+ */
+public class CompileSchedulerTask extends Task {
+	private static final String NEW_LINE = System.lineSeparator();
+
+	public static class Bundle {
+		String id;
+		String name;
+		String dir;
+		String requires;
+
+		int index;
+		long start;
+		long duration;
+		long pathLength;
+		Bundle pathPredecessor;
+
+		final List<Bundle> dependents = new ArrayList<>();
+		int pending;
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void setDir(String dir) {
+			this.dir = dir;
+		}
+
+		public void setRequires(String requires) {
+			this.requires = requires;
+		}
+	}
+
+	private final List<Bundle> bundles = new ArrayList<>();
+	private String antfile = "build.xml"; //$NON-NLS-1$
+	private String target = "build.jars"; //$NON-NLS-1$
+	private int threadCount = 0;
+	private int threadsPerProcessor = 3;
+	private String report = null;
+
+	private WorkerPool workers;
+	private int remaining;
+	private BuildException failure;
+
+	@Override
+	public void execute() throws BuildException {
+		if (bundles.isEmpty())
+			return;
+
+		Map<String, Bundle> byId = new LinkedHashMap<>();
+		for (Bundle bundle : bundles) {
+			if (bundle.id == null || bundle.dir == null)
+				throw new BuildException("A bundle needs an id and a dir", getLocation()); //$NON-NLS-1$
+			bundle.index = byId.size();
+			byId.put(bundle.id, bundle);
+		}
+		for (Bundle bundle : bundles) {
+			if (bundle.requires == null)
+				continue;
+			for (String required : bundle.requires.split(":")) { //$NON-NLS-1$
+				Bundle prerequisite = byId.get(required.trim());
+				// only earlier bundles are waited for, so a cycle cannot block the compilation
+				if (prerequisite != null && prerequisite.index < bundle.index && !prerequisite.dependents.contains(bundle)) {
+					prerequisite.dependents.add(bundle);
+					bundle.pending++;
+				}
+			}
+		}
+
+		int threads = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors() * threadsPerProcessor;
+		long start = System.currentTimeMillis();
+		// closing the pool waits for the bundles being compiled, after a failure the
+		// bundles that have not started are skipped
+		try (WorkerPool pool = new WorkerPool("Compile Scheduler", Math.min(threads, bundles.size()))) { //$NON-NLS-1$
+			workers = pool;
+			synchronized (this) {
+				remaining = bundles.size();
+				for (Bundle bundle : bundles) {
+					if (bundle.pending == 0)
+						schedule(bundle);
+				}
+				while (remaining > 0 && failure == null) {
+					wait();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BuildException(e, getLocation());
+		} finally {
+			workers = null;
+		}
+		if (failure != null)
+			throw failure;
+
+		report(System.currentTimeMillis() - start);
+	}
+
+	private void schedule(Bundle bundle) {
+		workers.execute(() -> {
+			bundle.start = System.currentTimeMillis();
+			BuildException problem = null;
+			Thread thread = Thread.currentThread();
+			try {
+				Ant ant = (Ant) getProject().createTask("ant"); //$NON-NLS-1$
+				ant.setOwningTarget(getOwningTarget());
+				ant.setLocation(getLocation());
+				ant.setAntfile(antfile);
+				ant.setDir(getProject().resolveFile(bundle.dir));
+				ant.setTarget(target);
+				// output printed by this thread belongs to the bundle's build, as in <parallel>
+				getProject().registerThreadTask(thread, ant);
+				ant.perform();
+			} catch (BuildException e) {
+				problem = e;
+			} catch (RuntimeException e) {
+				problem = new BuildException(e, getLocation());
+			} finally {
+				getProject().registerThreadTask(thread, null);
+			}
+			bundle.duration = System.currentTimeMillis() - bundle.start;
+			completed(bundle, problem);
+		});
+	}
+
+	private synchronized void completed(Bundle bundle, BuildException problem) {
+		remaining--;
+		if (problem != null) {
+			// like <parallel failonany="true">, running bundles finish but nothing new starts
+			if (failure == null)
+				failure = problem;
+			notifyAll();
+			return;
+		}
+		for (Bundle dependent : bundle.dependents) {
+			if (--dependent.pending == 0 && failure == null)
+				schedule(dependent);
+		}
+		notifyAll();
+	}
+
+	private void report(long elapsed) {
+		// the bundles are in dependency order, so prerequisites are computed first
+		Map<Bundle, List<Bundle>> prerequisites = new HashMap<>();
+		for (Bundle bundle : bundles) {
+			for (Bundle dependent : bundle.dependents) {
+				prerequisites.computeIfAbsent(dependent, b -> new ArrayList<>()).add(bundle);
+			}
+		}
+		Bundle last = null;
+		long total = 0;
+		for (Bundle bundle : bundles) {
+			total += bundle.duration;
+			for (Bundle prerequisite : prerequisites.getOrDefault(bundle, List.of())) {
+				if (prerequisite.pathLength > bundle.pathLength) {
+					bundle.pathLength = prerequisite.pathLength;
+					bundle.pathPredecessor = prerequisite;
+				}
+			}
+			bundle.pathLength += bundle.duration;
+			if (last == null || bundle.pathLength > last.pathLength)
+				last = bundle;
+		}
+
+		List<Bundle> path = new ArrayList<>();
+		for (Bundle bundle = last; bundle != null; bundle = bundle.pathPredecessor) {
+			path.add(0, bundle);
+		}
+		StringBuilder message = new StringBuilder();
+		message.append("Compiled ").append(bundles.size()).append(" bundles in ").append(elapsed).append(" ms, ") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				.append(total).append(" ms of compilation in total").append(NEW_LINE); //$NON-NLS-1$
+		message.append("Critical path (").append(last.pathLength).append(" ms):").append(NEW_LINE); //$NON-NLS-1$ //$NON-NLS-2$
+		for (Bundle bundle : path) {
+			message.append('\t').append(bundle.name != null ? bundle.name : bundle.dir).append(": ") //$NON-NLS-1$
+					.append(bundle.duration).append(" ms").append(NEW_LINE); //$NON-NLS-1$
+		}
+		log(message.toString(), Project.MSG_INFO);
+
+		if (report == null || report.startsWith("${")) //$NON-NLS-1$
+			return;
+		File file = getProject().resolveFile(report);
+		if (file.getParentFile() != null)
+			file.getParentFile().mkdirs();
+		try (FileWriter writer = new FileWriter(file)) {
+			writer.write(message.toString());
+		} catch (IOException e) {
+			log("Unable to write the compilation report " + file + ": " + e.getMessage(), Project.MSG_WARN); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	public Bundle createBundle() {
+		Bundle bundle = new Bundle();
+		bundles.add(bundle);
+		return bundle;
+	}
+
+	public void setAntfile(String antfile) {
+		this.antfile = antfile;
+	}
+
+	public void setTarget(String target) {
+		this.target = target;
+	}
+
+	public void setThreadCount(int threadCount) {
+		this.threadCount = threadCount;
+	}
+
+	public void setThreadsPerProcessor(int threadsPerProcessor) {
+		this.threadsPerProcessor = threadsPerProcessor;
+	}
+
+	public void setReport(String report) {
+		this.report = report;
+	}
+}
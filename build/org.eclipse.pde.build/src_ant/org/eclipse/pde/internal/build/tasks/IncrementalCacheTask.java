@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+import org.eclipse.pde.internal.build.Utils;
+import org.osgi.framework.Version;
+
+/**
+ * Reuses the compilation output of a bundle whose fingerprint has not changed
+ * since an earlier build.
+ * <pre>
+ * &lt;eclipse.incrementalCache action="restore" cache="${incrementalBuildCache}" bundle="org.example_1.0.0"
+ *     fingerprint="..." settings="${javacSource},${javacTarget}" outputs="${build.result.folder}/@dot"/&gt;
+ * </pre>
+ * With <code>action="restore"</code> the missing outputs are copied from the
+ * cache, the compilation targets are then skipped because their output is
+ * available. With <code>action="store"</code> the outputs are copied into the
+ * cache, unless the compilation reported a problem. The cache entry is keyed
+ * by the fingerprint computed when the scripts were generated and by the
+ * compiler settings in effect when the build runs.
+ * <p>
+ * The bundle is given as its symbolic name and version without qualifier.
+ * Only the latest entry of a bundle is kept, storing an entry removes the
+ * other entries of the bundle and those of its older versions.
+ * </p>
+ */
+public class IncrementalCacheTask extends Task {
+	private static final String ACTION_RESTORE = "restore"; //$NON-NLS-1$
+	private static final String ACTION_STORE = "store"; //$NON-NLS-1$
+	private static final String COMPLETE = ".complete"; //$NON-NLS-1$
+
+	private String action;
+	private String cache;
+	private String bundle;
+	private String fingerprint;
+	private String settings = ""; //$NON-NLS-1$
+	private String outputs;
+	private String problemMarker;
+
+	@Override
+	public void execute() throws BuildException {
+		if (cache == null || cache.startsWith("${") || bundle == null || fingerprint == null || outputs == null) //$NON-NLS-1$
+			return;
+
+		Path bundleCache = getProject().resolveFile(cache).toPath().resolve(bundle);
+		Path entry = bundleCache.resolve(Utils.sha256Hex(fingerprint + '\n' + settings));
+		List<File> files = new ArrayList<>();
+		for (String output : outputs.split(",")) { //$NON-NLS-1$
+			if (!output.isBlank())
+				files.add(getProject().resolveFile(output.trim()));
+		}
+		try {
+			if (ACTION_RESTORE.equals(action))
+				restore(entry, files);
+			else if (ACTION_STORE.equals(action))
+				store(bundleCache, entry, files);
+			else
+				throw new BuildException("Unknown action " + action, getLocation()); //$NON-NLS-1$
+		} catch (IOException e) {
+			// the cache only saves time, a broken entry means the bundle gets compiled
+			log("Unable to use the incremental build cache for " + bundle + ": " + e.getMessage(), Project.MSG_WARN); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private void restore(Path entry, List<File> files) throws IOException {
+		if (!Files.isRegularFile(entry.resolve(COMPLETE)))
+			return;
+		int restored = 0;
+		for (File file : files) {
+			Path cached = entry.resolve(file.getName());
+			if (file.exists() || !Files.exists(cached))
+				continue;
+			copy(cached, file.toPath());
+			restored++;
+		}
+		if (restored > 0)
+			log("Reusing the compilation output of " + bundle, Project.MSG_INFO); //$NON-NLS-1$
+	}
+
+	private void store(Path bundleCache, Path entry, List<File> files) throws IOException {
+		if (Files.isRegularFile(entry.resolve(COMPLETE)))
+			return;
+		if (problemMarker != null && !problemMarker.startsWith("${") && getProject().resolveFile(problemMarker).exists()) //$NON-NLS-1$
+			return;
+		for (File file : files) {
+			if (!file.exists())
+				return;
+		}
+
+		// the entry only becomes visible once it is complete, so a concurrent or aborted build never restores half of it
+		Files.createDirectories(bundleCache);
+		Path temp = Files.createTempDirectory(bundleCache, ".tmp"); //$NON-NLS-1$
+		try {
+			for (File file : files) {
+				copy(file.toPath(), temp.resolve(file.getName()));
+			}
+			Files.createFile(temp.resolve(COMPLETE));
+			try (Stream<Path> others = Files.list(bundleCache)) {
+				// only the output of the latest fingerprint of a bundle is kept
+				for (Path other : others.toList()) {
+					if (!other.equals(temp))
+						delete(other);
+				}
+			}
+			Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			delete(temp);
+		}
+		deleteOlderVersions(bundleCache);
+	}
+
+	private void deleteOlderVersions(Path bundleCache) throws IOException {
+		int separator = bundle.lastIndexOf('_');
+		Version version = separator < 0 ? null : parseVersion(bundle.substring(separator + 1));
+		if (version == null)
+			return;
+		String prefix = bundle.substring(0, separator + 1);
+		try (Stream<Path> others = Files.list(bundleCache.getParent())) {
+			for (Path other : others.toList()) {
+				String name = other.getFileName().toString();
+				if (!name.startsWith(prefix))
+					continue;
+				Version otherVersion = parseVersion(name.substring(prefix.length()));
+				if (otherVersion != null && otherVersion.compareTo(version) < 0)
+					delete(other);
+			}
+		}
+	}
+
+	private static Version parseVersion(String version) {
+		try {
+			return Version.parseVersion(version);
+		} catch (IllegalArgumentException e) {
+			// another bundle whose symbolic name starts the same
+			return null;
+		}
+	}
+
+	private static void copy(Path source, Path target) throws IOException {
+		if (!Files.isDirectory(source)) {
+			Files.createDirectories(target.getParent());
+			Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+			return;
+		}
+		List<Path> paths;
+		try (Stream<Path> walk = Files.walk(source)) {
+			paths = walk.toList();
+		}
+		for (Path path : paths) {
+			Path destination = target.resolve(source.relativize(path).toString());
+			if (Files.isDirectory(path))
+				Files.createDirectories(destination);
+			else
+				Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+		}
+	}
+
+	private static void delete(Path path) throws IOException {
+		if (!Files.exists(path))
+			return;
+		List<Path> paths;
+		try (Stream<Path> walk = Files.walk(path)) {
+			paths = walk.sorted(Comparator.reverseOrder()).toList();
+		}
+		for (Path element : paths) {
+			Files.deleteIfExists(element);
+		}
+	}
+
+	public void setAction(String action) {
+		this.action = action;
+	}
+
+	public void setCache(String cache) {
+		this.cache = cache;
+	}
+
+	public void setBundle(String bundle) {
+		this.bundle = bundle;
+	}
+
+	public void setFingerprint(String fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	public void setSettings(String settings) {
+		this.settings = settings;
+	}
+
+	public void setOutputs(String outputs) {
+		this.outputs = outputs;
+	}
+
+	public void setProblemMarker(String problemMarker) {
+		this.problemMarker = problemMarker;
+	}
+}
@@ -0,0 +1,8 @@
+package ds.annotations.test3;
+
+/**
+ * The service of the components generated by the tests.
+ */
+public interface Service {
+
+}
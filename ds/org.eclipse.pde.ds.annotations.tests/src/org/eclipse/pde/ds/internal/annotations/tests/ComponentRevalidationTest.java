@@ -0,0 +1,106 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ComponentRevalidationTest extends CompilationParticipantTest {
+
+	private static final String DS_CORE_PROBLEM_MARKER = "org.eclipse.pde.ds.core.problem";
+
+	private static final String CLASS_NAME = "ds.annotations.test1.ManualComponent";
+
+	private static final String CLASS_SOURCE = """
+			package ds.annotations.test1;
+
+			public class ManualComponent {
+
+			}
+			""";
+
+	private static final String COMPONENT = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<scr:component xmlns:scr="http://www.osgi.org/xmlns/scr/v1.1.0" name="manual.component">
+			   <implementation class="ds.annotations.test1.ManualComponent"/>
+			</scr:component>
+			""";
+
+	private IFile javaFile;
+
+	private IFolder componentFolder;
+
+	private IFile componentFile;
+
+	@Override
+	protected String getTestProjectName() {
+		return "ds.annotations.test1";
+	}
+
+	@Override
+	@Before
+	public void setUp() {
+		super.setUp();
+		javaFile = testProject.getFile("src/ds/annotations/test1/ManualComponent.java");
+		componentFolder = testProject.getFolder("manual");
+		componentFile = componentFolder.getFile("manualComponent.xml");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (javaFile.exists()) {
+			javaFile.delete(true, null);
+		}
+
+		if (componentFolder.exists()) {
+			componentFolder.delete(true, null);
+		}
+
+		build(IncrementalProjectBuilder.INCREMENTAL_BUILD);
+	}
+
+	@Test
+	public void componentRevalidatedWhenReferencedTypeChanges() throws Exception {
+		createFile(javaFile, CLASS_SOURCE);
+		componentFolder.create(true, true, null);
+		createFile(componentFile, COMPONENT);
+		build(IncrementalProjectBuilder.FULL_BUILD);
+		assertEquals(0, countTypeNotFoundProblems());
+
+		// only the Java type changes, the component file is validated again
+		javaFile.delete(true, null);
+		build(IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertEquals(1, countTypeNotFoundProblems());
+
+		createFile(javaFile, CLASS_SOURCE);
+		build(IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertEquals(0, countTypeNotFoundProblems());
+	}
+
+	private void build(int kind) throws CoreException, InterruptedException {
+		testProject.build(kind, null);
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+	}
+
+	private static void createFile(IFile file, String content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+
+	private long countTypeNotFoundProblems() throws CoreException {
+		IMarker[] markers = componentFile.findMarkers(DS_CORE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+		return Arrays.stream(markers).filter(marker -> marker.getAttribute(IMarker.MESSAGE, "").contains(CLASS_NAME)).count();
+	}
+}
@@ -0,0 +1,128 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelProcessingTest extends CompilationParticipantTest {
+
+	private static final String PLUGIN_ID = org.eclipse.pde.ds.internal.annotations.Activator.PLUGIN_ID;
+
+	private static final String PREF_PARALLEL_PROCESSING = org.eclipse.pde.ds.internal.annotations.Activator.PREF_PARALLEL_PROCESSING;
+
+	// enough compilation units for two batches
+	private static final int COMPONENT_COUNT = 48;
+
+	private static final String PACKAGE_PATH = "src/ds/annotations/test3/";
+
+	@Override
+	protected String getTestProjectName() {
+		return "ds.annotations.test3";
+	}
+
+	@Override
+	@Before
+	public void setUp() {
+		super.setUp();
+		assumeTrue("Not enough processors for parallel processing!", Runtime.getRuntime().availableProcessors() > 1);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		IEclipsePreferences prefs = new ProjectScope(testProject).getNode(PLUGIN_ID);
+		prefs.remove(PREF_PARALLEL_PROCESSING);
+		prefs.flush();
+
+		for (int i = 0; i < COMPONENT_COUNT; i++) {
+			IFile file = testProject.getFile(PACKAGE_PATH + getComponentName(i) + ".java");
+			if (file.exists()) {
+				file.delete(true, null);
+			}
+		}
+	}
+
+	@Test
+	public void parallelProcessingMatchesSequentialProcessing() throws Exception {
+		for (int i = 0; i < COMPONENT_COUNT; i++) {
+			IFile file = testProject.getFile(PACKAGE_PATH + getComponentName(i) + ".java");
+			file.create(new ByteArrayInputStream(getComponentSource(i).getBytes(StandardCharsets.UTF_8)), true, null);
+		}
+
+		Map<String, String> sequential = buildDescriptors(false);
+		assertEquals(COMPONENT_COUNT, sequential.size());
+
+		Map<String, String> parallel = buildDescriptors(true);
+		assertEquals(sequential, parallel);
+	}
+
+	private Map<String, String> buildDescriptors(boolean parallel) throws Exception {
+		IEclipsePreferences prefs = new ProjectScope(testProject).getNode(PLUGIN_ID);
+		prefs.putBoolean(PREF_PARALLEL_PROCESSING, parallel);
+		prefs.flush();
+
+		IFolder folder = testProject.getFolder("OSGI-INF");
+		if (folder.exists()) {
+			folder.delete(true, null);
+		}
+
+		testProject.build(IncrementalProjectBuilder.CLEAN_BUILD, null);
+		testProject.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+
+		Map<String, String> descriptors = new TreeMap<>();
+		for (IResource member : folder.members()) {
+			if (member instanceof IFile file && "xml".equals(file.getFileExtension())) {
+				try (InputStream in = file.getContents()) {
+					descriptors.put(file.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+				}
+			}
+		}
+
+		return descriptors;
+	}
+
+	private static String getComponentName(int index) {
+		return String.format("Component%02d", index);
+	}
+
+	private static String getComponentSource(int index) {
+		String name = getComponentName(index);
+		StringBuilder buf = new StringBuilder();
+		buf.append("package ds.annotations.test3;\n\n");
+		buf.append("import java.util.concurrent.Executor;\n\n");
+		buf.append("import org.osgi.service.component.annotations.Component;\n");
+		buf.append("import org.osgi.service.component.annotations.Reference;\n");
+		buf.append("import org.osgi.service.component.annotations.ReferenceCardinality;\n");
+		buf.append("import org.osgi.service.component.annotations.ReferencePolicy;\n\n");
+		buf.append("@Component(property = \"index:Integer=").append(index).append("\")\n");
+		buf.append("public class ").append(name).append(" implements Service {\n\n");
+		buf.append("\t@Reference\n");
+		buf.append("\tpublic void setExecutor(Executor executor) {\n\t}\n\n");
+		buf.append("\tpublic void unsetExecutor(Executor executor) {\n\t}\n");
+		if (index % 2 == 0) {
+			// references the services of the other components
+			buf.append("\n\t@Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)\n");
+			buf.append("\tpublic void addService(Service service) {\n\t}\n\n");
+			buf.append("\tpublic void removeService(Service service) {\n\t}\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+}
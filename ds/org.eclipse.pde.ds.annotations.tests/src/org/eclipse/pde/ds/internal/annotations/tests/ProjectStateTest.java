@@ -0,0 +1,126 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationCompilationParticipant;
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationVersion;
+import org.eclipse.pde.ds.internal.annotations.ProjectState;
+import org.eclipse.pde.ds.internal.annotations.ValidationErrorLevel;
+import org.junit.After;
+import org.junit.Test;
+
+public class ProjectStateTest extends TestBase {
+
+	private IProject project;
+
+	@After
+	public void tearDown() throws Exception {
+		if (project != null) {
+			project.delete(true, true, null);
+		}
+	}
+
+	@Test
+	public void binaryFormatRoundTrip() throws Exception {
+		ProjectState state = createState();
+		ProjectState read = ProjectState.read(new ByteArrayInputStream(write(state)));
+
+		assertEquals(state, read);
+		assertEquals("OSGI-INF", read.getPath());
+		assertEquals(DSAnnotationVersion.V1_3, read.getSpecVersion());
+		assertEquals(ValidationErrorLevel.warning, read.getErrorLevel());
+		assertNull(read.getMissingUnbindMethodLevel());
+		assertEquals("OSGI-INF/test.A.xml", read.getModelFile("test.A"));
+		assertEquals(Set.of("OSGI-INF/test.A.xml", "OSGI-INF/test.A$Inner.xml"), Set.copyOf(read.getModelFiles("test/A.java")));
+		assertEquals(Set.of("test/A.java", "test/B.java"), Set.copyOf(read.getCompilationUnits()));
+	}
+
+	@Test
+	public void cloneOfUndecodedState() throws Exception {
+		ProjectState read = ProjectState.read(new ByteArrayInputStream(write(createState())));
+		ProjectState clone = read.clone();
+
+		HashMap<String, String> dsKeys = new HashMap<>();
+		dsKeys.put("test.C", "OSGI-INF/test.C.xml");
+		clone.updateMappings("test/B.java", dsKeys);
+
+		assertEquals("OSGI-INF/test.B.xml", read.getModelFile("test.B"));
+		assertNull(read.getModelFile("test.C"));
+		assertNull(clone.getModelFile("test.B"));
+		assertEquals("OSGI-INF/test.C.xml", clone.getModelFile("test.C"));
+		assertNotEquals(read, clone);
+	}
+
+	@Test
+	public void invalidStateFile() throws Exception {
+		byte[] bytes = write(createState());
+		assertThrows(IOException.class, () -> ProjectState.read(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length / 2))));
+
+		byte[] corrupt = bytes.clone();
+		corrupt[0] ^= 0xff;
+		assertThrows(IOException.class, () -> ProjectState.read(new ByteArrayInputStream(corrupt)));
+	}
+
+	@Test
+	public void legacyStateFileMigrated() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("ds.annotations.legacyState");
+		project.create(null);
+		project.open(null);
+
+		ProjectState state = createState();
+		File workDir = project.getWorkingLocation(org.eclipse.pde.ds.internal.annotations.Activator.PLUGIN_ID).toFile();
+		File legacyStateFile = new File(workDir, "state.dat");
+		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(legacyStateFile))) {
+			out.writeObject(state);
+		}
+
+		assertTrue(DSAnnotationCompilationParticipant.isManaged(project));
+		ProjectState migrated = DSAnnotationCompilationParticipant.getState(JavaCore.create(project));
+		assertNotNull(migrated);
+		assertEquals(state, migrated);
+		assertFalse("Legacy state file not deleted!", legacyStateFile.exists());
+		assertTrue("State file not written!", new File(workDir, "state.bin").isFile());
+	}
+
+	private static ProjectState createState() {
+		ProjectState state = new ProjectState();
+		state.setPath("OSGI-INF");
+		state.setSpecVersion(DSAnnotationVersion.V1_3);
+		state.setErrorLevel(ValidationErrorLevel.warning);
+
+		HashMap<String, String> dsKeys = new HashMap<>();
+		dsKeys.put("test.A", "OSGI-INF/test.A.xml");
+		dsKeys.put("test.A$Inner", "OSGI-INF/test.A$Inner.xml");
+		state.updateMappings("test/A.java", dsKeys);
+
+		dsKeys = new HashMap<>();
+		dsKeys.put("test.B", "OSGI-INF/test.B.xml");
+		state.updateMappings("test/B.java", dsKeys);
+		return state;
+	}
+
+	private static byte[] write(ProjectState state) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		state.write(out);
+		return out.toByteArray();
+	}
+}
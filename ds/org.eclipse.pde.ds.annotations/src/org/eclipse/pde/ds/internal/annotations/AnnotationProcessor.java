@@ -13,11 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -33,6 +41,7 @@ import org.eclipse.jdt.core.compiler.BuildContext;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.text.edits.TextEdit;
 
 public class AnnotationProcessor extends ASTRequestor {
 
@@ -44,11 +53,43 @@ public class AnnotationProcessor extends ASTRequestor {
 
 	private final Map<ICompilationUnit, BuildContext> fileMap;
 
+	private final BindingCache bindingCache;
+
+	// results of the compilation units processed on a worker thread, null on the build thread
+	private final List<Result> results;
+
+	// models to save for the compilation unit processed on a worker thread
+	private List<ModelSave> saves;
+
 	private boolean hasBuilder;
 
+	/**
+	 * The outcome of a compilation unit processed on a worker thread.
+	 */
+	private record Result(ICompilationUnit source, String cuKey, HashMap<String, String> dsKeys, Set<DSAnnotationProblem> problems, List<ModelSave> saves) {
+	}
+
+	/**
+	 * A model file to save, with the file it is moved from and its new content;
+	 * the content is <code>null</code> if only the location changed.
+	 */
+	private record ModelSave(IFile file, IFile oldFile, String content) {
+	}
+
 	public AnnotationProcessor(ProjectContext context, Map<ICompilationUnit, BuildContext> fileMap) {
+		this(context, fileMap, new BindingCache(), false);
+	}
+
+	/**
+	 * @param deferred whether the processor runs on a worker thread, the
+	 *            results are then kept until {@link #applyResults(List)} is
+	 *            called on the build thread
+	 */
+	AnnotationProcessor(ProjectContext context, Map<ICompilationUnit, BuildContext> fileMap, BindingCache bindingCache, boolean deferred) {
 		this.context = context;
 		this.fileMap = fileMap;
+		this.bindingCache = bindingCache;
+		this.results = deferred ? new ArrayList<>() : null;
 	}
 
 	static String getCompilationUnitKey(ICompilationUnit source) {
@@ -60,26 +101,28 @@ public class AnnotationProcessor extends ASTRequestor {
 		return String.format("%s/%s", parent.getElementName().replace('.', '/'), source.getElementName()); //$NON-NLS-1$
 	}
 
+	boolean isDeferred() {
+		return results != null;
+	}
+
+	BindingCache getBindingCache() {
+		return bindingCache;
+	}
+
 	@Override
 	public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
 		// determine CU key
 		String cuKey = getCompilationUnitKey(source);
 
-		context.getUnprocessed().remove(cuKey);
-
-		ProjectState state = context.getState();
 		HashMap<String, String> dsKeys = new HashMap<>();
 		HashSet<DSAnnotationProblem> problems = new HashSet<>();
 
-		ast.accept(new AnnotationVisitor(this, state, dsKeys, problems));
-
-		// track abandoned files (may be garbage)
-		Collection<String> oldDSKeys = state.updateMappings(cuKey, dsKeys);
-		if (oldDSKeys != null) {
-			oldDSKeys.removeAll(dsKeys.values());
-			context.getAbandoned().addAll(oldDSKeys);
+		if (isDeferred()) {
+			saves = new ArrayList<>();
 		}
 
+		ast.accept(new AnnotationVisitor(this, context.getState(), dsKeys, problems));
+
 		if (!problems.isEmpty()) {
 			char[] filename = source.getResource().getFullPath().toString().toCharArray();
 			for (DSAnnotationProblem problem : problems) {
@@ -88,7 +131,29 @@ public class AnnotationProcessor extends ASTRequestor {
 					problem.setSourceLineNumber(ast.getLineNumber(problem.getSourceStart()));
 				}
 			}
+		}
+
+		if (isDeferred()) {
+			results.add(new Result(source, cuKey, dsKeys, problems, saves));
+			saves = null;
+		} else {
+			apply(source, cuKey, dsKeys, problems);
+		}
+	}
+
+	private void apply(ICompilationUnit source, String cuKey, HashMap<String, String> dsKeys, Set<DSAnnotationProblem> problems) {
+		context.getUnprocessed().remove(cuKey);
+
+		ProjectState state = context.getState();
+
+		// track abandoned files (may be garbage)
+		Collection<String> oldDSKeys = state.updateMappings(cuKey, dsKeys);
+		if (oldDSKeys != null) {
+			oldDSKeys.removeAll(dsKeys.values());
+			context.getAbandoned().addAll(oldDSKeys);
+		}
 
+		if (!problems.isEmpty()) {
 			BuildContext buildContext = fileMap.get(source);
 			if (buildContext != null) {
 				buildContext.recordNewProblems(problems.toArray(new CategorizedProblem[problems.size()]));
@@ -96,6 +161,87 @@ public class AnnotationProcessor extends ASTRequestor {
 		}
 	}
 
+	void deferSave(IFile file, IFile oldFile, String content) {
+		saves.add(new ModelSave(file, oldFile, content));
+	}
+
+	/**
+	 * Saves the models and updates the project state with the results of
+	 * processors that ran on worker threads. The results are applied in the
+	 * order of their compilation unit keys, whatever the order they were
+	 * computed in.
+	 *
+	 * @param processors the deferred processors of one project
+	 */
+	static void applyResults(List<AnnotationProcessor> processors) {
+		if (processors.isEmpty()) {
+			return;
+		}
+
+		AnnotationProcessor target = processors.get(0);
+		List<Result> results = new ArrayList<>();
+		for (AnnotationProcessor processor : processors) {
+			results.addAll(processor.results);
+		}
+		results.sort(Comparator.comparing(Result::cuKey));
+
+		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+		for (Result result : results) {
+			for (ModelSave save : result.saves()) {
+				try {
+					target.save(bufferManager, save);
+				} catch (CoreException e) {
+					Activator.log(e);
+				}
+			}
+
+			target.apply(result.source(), result.cuKey(), result.dsKeys(), result.problems());
+		}
+	}
+
+	private void save(ITextFileBufferManager bufferManager, ModelSave save) throws CoreException {
+		IFile file = save.file();
+		verifyOutputLocation(file);
+
+		if (save.oldFile() != null && !file.exists()) {
+			AnnotationVisitor.moveModelFile(save.oldFile(), file);
+		}
+
+		if (save.content() == null) {
+			return;
+		}
+
+		IPath filePath = file.getFullPath();
+		if (bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE) == null) {
+			if (debug.isDebugging()) {
+				debug.trace(String.format("Saving model: %s", filePath)); //$NON-NLS-1$
+			}
+
+			// not open in an editor, write the content directly
+			AnnotationVisitor.writeContents(file, save.content());
+			return;
+		}
+
+		bufferManager.connect(filePath, LocationKind.IFILE, null);
+		try {
+			ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
+			if (buffer.isDirty()) {
+				buffer.commit(null, true);
+			}
+
+			TextEdit edit = AnnotationVisitor.createEdit(buffer.getDocument().get(), save.content());
+			if (edit != null) {
+				if (debug.isDebugging()) {
+					debug.trace(String.format("Saving model: %s", filePath)); //$NON-NLS-1$
+				}
+
+				AnnotationVisitor.applyEdit(bufferManager, buffer, edit);
+			}
+		} finally {
+			bufferManager.disconnect(filePath, LocationKind.IFILE, null);
+		}
+	}
+
 	private void ensureDSProject(IProject project) throws CoreException {
 		IProjectDescription description = project.getDescription();
 		ICommand[] commands = description.getBuildSpec();
@@ -19,6 +19,7 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.StringReader;
@@ -45,6 +46,7 @@ import org.eclipse.core.filebuffers.ITextFileBufferManager;
 import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Status;
@@ -70,6 +72,7 @@ import org.eclipse.jdt.core.dom.NormalAnnotation;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.DocumentRewriteSession;
 import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
@@ -189,6 +192,10 @@ public class AnnotationVisitor extends ASTVisitor {
 		problemReporter = new ProblemReporter(state.getErrorLevel(), problems);
 	}
 
+	BindingCache getBindingCache() {
+		return processor.getBindingCache();
+	}
+
 	@Override
 	public boolean visit(TypeDeclaration type) {
 		if (!Modifier.isPublic(type.getModifiers())) {
@@ -353,115 +360,267 @@ public class AnnotationVisitor extends ASTVisitor {
 		IFile file = PDEProject.getBundleRelativeFile(project, path);
 		IPath filePath = file.getFullPath();
 
-		processor.verifyOutputLocation(file);
-
 		// handle file move/rename
+		IFile oldFile = null;
 		String oldPath = state.getModelFile(implClass);
 		if (oldPath != null && !oldPath.equals(dsKey) && !file.exists()) {
-			IFile oldFile = PDEProject.getBundleRelativeFile(project, IPath.fromPortableString(oldPath));
-			if (oldFile.exists()) {
-				try {
-					oldFile.move(file.getFullPath(), true, true, null);
-				} catch (CoreException e) {
-					Activator.log(Status.warning(String.format("Unable to move model file from '%s' to '%s'.", oldPath, file.getFullPath()), e)); //$NON-NLS-1$
+			oldFile = PDEProject.getBundleRelativeFile(project, IPath.fromPortableString(oldPath));
+		}
+
+		if (processor.isDeferred()) {
+			// the workspace is locked by the build on worker threads, the build thread saves the model later
+			processDetachedComponent(file, oldFile, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+			return;
+		}
+
+		processor.verifyOutputLocation(file);
+
+		if (oldFile != null) {
+			moveModelFile(oldFile, file);
+		}
+
+		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+		if (bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE) == null) {
+			// not open in an editor, write the generated content if it differs
+			String contents = generateContents(file, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+			if (!isUpToDate(file, contents)) {
+				if (debug.isDebugging()) {
+					debug.trace(String.format("Saving model: %s", filePath)); //$NON-NLS-1$
 				}
+
+				writeContents(file, contents);
 			}
+			return;
 		}
 
-		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
 		bufferManager.connect(filePath, LocationKind.IFILE, null);
-		ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
-		if (buffer.isDirty()) {
-			buffer.commit(null, true);
+		try {
+			ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
+			if (buffer.isDirty()) {
+				buffer.commit(null, true);
+			}
+
+			TextEdit[] edits = reconcile(file, buffer.getDocument(), type, typeBinding, annotation, annotationBinding, params, name, implClass);
+			if (edits.length > 0) {
+				if (debug.isDebugging()) {
+					debug.trace(String.format("Saving model: %s", filePath)); //$NON-NLS-1$
+				}
+
+				MultiTextEdit edit = new MultiTextEdit();
+				edit.addChildren(edits);
+				applyEdit(bufferManager, buffer, edit);
+			}
+		} finally {
+			bufferManager.disconnect(filePath, LocationKind.IFILE, null);
 		}
+	}
 
-		IDocument document = buffer.getDocument();
+	/**
+	 * Computes the content of a component against a copy of its file, the
+	 * changed content is handed to the processor to be saved later.
+	 */
+	private void processDetachedComponent(IFile file, IFile oldFile, TypeDeclaration type, ITypeBinding typeBinding, Annotation annotation, IAnnotationBinding annotationBinding, Map<String, ?> params, String name, String implClass) throws CoreException {
+		IFile source = oldFile != null && oldFile.exists() ? oldFile : file;
+		ITextFileBuffer buffer = FileBuffers.getTextFileBufferManager().getTextFileBuffer(source.getFullPath(), LocationKind.IFILE);
+		String contents;
+		if (buffer == null) {
+			contents = generateContents(file, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+			if (isUpToDate(source, contents)) {
+				contents = null;
+			}
+		} else {
+			// open in an editor, reconcile a snapshot of the buffer so the layout of the descriptor is kept
+			IDocument document = new Document(buffer.getDocument().get());
+			TextEdit[] edits = reconcile(file, document, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+			if (edits.length > 0) {
+				MultiTextEdit edit = new MultiTextEdit();
+				edit.addChildren(edits);
+				performEdit(document, edit);
+				contents = document.get();
+			} else {
+				contents = null;
+			}
+		}
 
-		final DSModel dsModel = new DSModel(document, true);
+		processor.deferSave(file, oldFile, contents);
+	}
+
+	/**
+	 * Generates the content of the component descriptor from scratch.
+	 */
+	private String generateContents(IFile file, TypeDeclaration type, ITypeBinding typeBinding, Annotation annotation, IAnnotationBinding annotationBinding, Map<String, ?> params, String name, String implClass) {
+		DSModel dsModel = new DSModel(new Document(), true);
 		dsModel.setUnderlyingResource(file);
-		dsModel.setCharset(StandardCharsets.UTF_8); // $NON-NLS-1$
+		dsModel.setCharset(StandardCharsets.UTF_8);
+		dsModel.load();
+		try {
+			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+			return dsModel.getContents();
+		} finally {
+			dsModel.dispose();
+		}
+	}
+
+	/**
+	 * Updates the model of the component descriptor in the document with the
+	 * annotations.
+	 *
+	 * @return the edits that bring the document up to date, empty if the
+	 *         model did not change
+	 */
+	private TextEdit[] reconcile(IFile file, IDocument document, TypeDeclaration type, ITypeBinding typeBinding, Annotation annotation, IAnnotationBinding annotationBinding, Map<String, ?> params, String name, String implClass) {
+		DSModel dsModel = new DSModel(document, true);
+		dsModel.setUnderlyingResource(file);
+		dsModel.setCharset(StandardCharsets.UTF_8);
 		dsModel.load();
 
 		// note: we can't use XMLTextChangeListener because it generates overlapping edits!
-		// thus we replace the entire content with one edit (if changed)
-		final IDocument fDoc = document;
-		dsModel.addModelChangedListener(new IModelTextChangeListener() {
+		dsModel.addModelChangedListener(new ContentChangeListener(dsModel, document));
+		try {
+			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+			return dsModel.getLastTextChangeListener().getTextOperations();
+		} finally {
+			dsModel.dispose();
+		}
+	}
 
-			private final IDocument document = fDoc;
+	/**
+	 * Returns whether the file on disk already has the content.
+	 */
+	private static boolean isUpToDate(IFile file, String contents) throws CoreException {
+		if (!file.exists()) {
+			return false;
+		}
 
-			private boolean changed;
+		try (InputStream in = file.getContents(true)) {
+			return Arrays.equals(in.readAllBytes(), contents.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new CoreException(Status.error(String.format("Unable to read model file '%s'.", file.getFullPath()), e)); //$NON-NLS-1$
+		}
+	}
 
-			@Override
-			public void modelChanged(IModelChangedEvent event) {
-				changed = true;
+	static void moveModelFile(IFile oldFile, IFile file) {
+		if (oldFile.exists()) {
+			try {
+				oldFile.move(file.getFullPath(), true, true, null);
+			} catch (CoreException e) {
+				Activator.log(Status.warning(String.format("Unable to move model file from '%s' to '%s'.", oldFile.getFullPath(), file.getFullPath()), e)); //$NON-NLS-1$
 			}
+		}
+	}
+
+	/**
+	 * Replaces the content of the file, or creates it.
+	 */
+	static void writeContents(IFile file, String contents) throws CoreException {
+		ByteArrayInputStream in = new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(in, IResource.FORCE, null);
+		} else {
+			file.create(in, IResource.FORCE, null);
+		}
+	}
 
-			@Override
-			public TextEdit[] getTextOperations() {
-				if (!changed) {
-					return new TextEdit[0];
+	/**
+	 * Applies the edit to the document of the buffer, in the synchronization
+	 * context of the buffer if it requests one, and saves the buffer.
+	 */
+	static void applyEdit(ITextFileBufferManager bufferManager, ITextFileBuffer buffer, TextEdit edit) throws CoreException {
+		IDocument document = buffer.getDocument();
+		if (buffer.isSynchronizationContextRequested()) {
+			final CoreException[] ex = new CoreException[1];
+			final CountDownLatch latch = new CountDownLatch(1);
+			bufferManager.execute(() -> {
+				try {
+					performEdit(document, edit);
+				} catch (CoreException e) {
+					ex[0] = e;
 				}
 
-				String text = dsModel.getContents();
-				ReplaceEdit edit = new ReplaceEdit(0, document.getLength(), text);
-				return new TextEdit[] { edit };
+				latch.countDown();
+			});
+
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				if (debug.isDebugging())
+					debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
 			}
 
-			@Override
-			public String getReadableName(TextEdit edit) {
-				return null;
+			if (ex[0] != null) {
+				throw ex[0];
 			}
-		});
+		} else {
+			performEdit(document, edit);
+		}
 
-		try {
-			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+		buffer.commit(null, true);
+	}
 
-			TextEdit[] edits = dsModel.getLastTextChangeListener().getTextOperations();
-			if (edits.length > 0) {
-				if (debug.isDebugging()) {
-					debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
-				}
+	/**
+	 * Replaces the part of the document that differs from the content of the
+	 * model once the model changed.
+	 */
+	private static class ContentChangeListener implements IModelTextChangeListener {
 
-				final MultiTextEdit edit = new MultiTextEdit();
-				edit.addChildren(edits);
+		private final DSModel dsModel;
 
-				if (buffer.isSynchronizationContextRequested()) {
-					final IDocument doc = document;
-					final CoreException[] ex = new CoreException[1];
-					final CountDownLatch latch = new CountDownLatch(1);
-					bufferManager.execute(() -> {
-						try {
-							performEdit(doc, edit);
-						} catch (CoreException e) {
-							ex[0] = e;
-						}
+		private final IDocument document;
 
-						latch.countDown();
-					});
+		private boolean changed;
 
-					try {
-						latch.await();
-					} catch (InterruptedException e) {
-						if (debug.isDebugging())
-							debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
-					}
+		ContentChangeListener(DSModel dsModel, IDocument document) {
+			this.dsModel = dsModel;
+			this.document = document;
+		}
 
-					if (ex[0] != null) {
-						throw ex[0];
-					}
-				} else {
-					performEdit(document, edit);
-				}
+		@Override
+		public void modelChanged(IModelChangedEvent event) {
+			changed = true;
+		}
 
-				buffer.commit(null, true);
+		@Override
+		public TextEdit[] getTextOperations() {
+			if (!changed) {
+				return new TextEdit[0];
 			}
-		} finally {
-			dsModel.dispose();
-			bufferManager.disconnect(buffer.getLocation(), LocationKind.IFILE, null);
+
+			String text = dsModel.getContents();
+			TextEdit edit = createEdit(document.get(), text);
+			return edit == null ? new TextEdit[0] : new TextEdit[] { edit };
 		}
+
+		@Override
+		public String getReadableName(TextEdit edit) {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates an edit that replaces the range the two texts differ in.
+	 *
+	 * @return the edit, or <code>null</code> if the texts are equal
+	 */
+	static TextEdit createEdit(String text, String newText) {
+		int length = Math.min(text.length(), newText.length());
+		int prefix = 0;
+		while (prefix < length && text.charAt(prefix) == newText.charAt(prefix)) {
+			prefix++;
+		}
+
+		if (prefix == text.length() && prefix == newText.length()) {
+			return null;
+		}
+
+		int suffix = 0;
+		while (suffix < length - prefix && text.charAt(text.length() - 1 - suffix) == newText.charAt(newText.length() - 1 - suffix)) {
+			suffix++;
+		}
+
+		return new ReplaceEdit(prefix, text.length() - prefix - suffix, newText.substring(prefix, newText.length() - suffix));
 	}
 
-	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
+	private static void performEdit(IDocument document, TextEdit edit) throws CoreException {
 		DocumentRewriteSession session = null;
 		try {
 			if (document instanceof IDocumentExtension4) {
@@ -1554,7 +1713,7 @@ public class AnnotationVisitor extends ASTVisitor {
 	}
 
 	private void validateComponentService(Annotation annotation, ITypeBinding componentType, ITypeBinding serviceType, int index) {
-		if (!errorLevel.isIgnore() && !componentType.isAssignmentCompatible(serviceType)) {
+		if (!errorLevel.isIgnore() && !processor.getBindingCache().isAssignmentCompatible(componentType, serviceType)) {
 			problemReporter.reportProblem(annotation, "service", NLS.bind(Messages.AnnotationProcessor_invalidComponentService, serviceType.getName()), serviceType.getName()); //$NON-NLS-1$
 		}
 	}
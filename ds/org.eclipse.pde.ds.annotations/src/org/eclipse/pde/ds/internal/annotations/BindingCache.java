@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ds.internal.annotations;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * Type hierarchy checks shared by all compilation units of a project build.
+ * The results are keyed by binding keys, so they can be shared across the ASTs
+ * of different batches even though their bindings are not comparable.
+ */
+public class BindingCache {
+
+	private final Map<String, Boolean> assignmentCompatible = new ConcurrentHashMap<>();
+
+	/**
+	 * @see ITypeBinding#isAssignmentCompatible(ITypeBinding)
+	 */
+	public boolean isAssignmentCompatible(ITypeBinding type, ITypeBinding variableType) {
+		String typeKey = type.getKey();
+		String variableTypeKey = variableType.getKey();
+		if (typeKey == null || variableTypeKey == null || type.isRecovered() || variableType.isRecovered()) {
+			return type.isAssignmentCompatible(variableType);
+		}
+
+		return assignmentCompatible.computeIfAbsent(typeKey + '\n' + variableTypeKey, k -> type.isAssignmentCompatible(variableType));
+	}
+}
@@ -19,17 +19,21 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -44,6 +48,8 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.Status;
@@ -76,6 +82,7 @@ import org.eclipse.pde.internal.core.ibundle.IBundleModel;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
 import org.eclipse.pde.internal.core.natures.PDE;
 import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.util.WorkerPool;
 import org.eclipse.pde.internal.ui.util.ModelModification;
 import org.eclipse.pde.internal.ui.util.PDEModelUtility;
 import org.eclipse.pde.internal.ui.util.TextUtil;
@@ -100,12 +107,18 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final QualifiedName PROP_STATE = new QualifiedName(Activator.PLUGIN_ID, "state"); //$NON-NLS-1$
 
-	private static final String STATE_FILENAME = "state.dat"; //$NON-NLS-1$
+	private static final String STATE_FILENAME = "state.bin"; //$NON-NLS-1$
+
+	// state file written with Java serialization by earlier versions
+	private static final String LEGACY_STATE_FILENAME = "state.dat"; //$NON-NLS-1$
 
 	static final String BUILDPATH_PROBLEM_MARKER = "org.eclipse.pde.ds.annotations.buildpath_problem"; //$NON-NLS-1$
 
 	private static final Debug debug = Debug.getDebug("ds-annotation-builder"); //$NON-NLS-1$
 
+	// smallest number of compilation units worth a thread of their own
+	private static final int MIN_BATCH_SIZE = 16;
+
 	private final Map<IJavaProject, ProjectContext> processingContext = Collections.synchronizedMap(new HashMap<IJavaProject, ProjectContext>());
 
 	@Override
@@ -234,27 +247,49 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	private static ProjectState loadState(IProject project) throws IOException {
 		File stateFile = getStateFile(project);
 		if (!stateFile.canRead()) {
-			if (debug.isDebugging())
-				debug.trace(String.format("Missing or invalid project state file: %s", stateFile)); //$NON-NLS-1$
+			return migrateState(project);
+		}
 
-			return null;
+		ProjectState state;
+		try (InputStream in = new FileInputStream(stateFile)) {
+			state = ProjectState.read(in);
 		}
 
-		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(stateFile))) {
-			ProjectState state = (ProjectState) in.readObject();
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
+			for (String cuKey : state.getCompilationUnits())
+				debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
+		}
 
-			if (debug.isDebugging()) {
-				debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
-				for (String cuKey : state.getCompilationUnits())
-					debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
-			}
+		return state;
+	}
 
-			return state;
+	private static ProjectState migrateState(IProject project) throws IOException {
+		File legacyStateFile = getLegacyStateFile(project);
+		if (!legacyStateFile.canRead()) {
+			if (debug.isDebugging())
+				debug.trace(String.format("Missing or invalid project state file: %s", getStateFile(project))); //$NON-NLS-1$
+
+			return null;
+		}
+
+		ProjectState state;
+		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(legacyStateFile))) {
+			state = (ProjectState) in.readObject();
 		} catch (ClassNotFoundException e) {
 			IOException ex = new IOException("Unable to deserialize project state."); //$NON-NLS-1$
 			ex.initCause(e);
 			throw ex;
 		}
+
+		if (debug.isDebugging())
+			debug.trace(String.format("Migrating legacy state file for project: %s", project.getName())); //$NON-NLS-1$
+
+		saveState(project, state);
+		if (!legacyStateFile.delete() && debug.isDebugging())
+			debug.trace(String.format("Unable to delete legacy state file: %s", legacyStateFile)); //$NON-NLS-1$
+
+		return state;
 	}
 
 	@Override
@@ -425,7 +460,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		return Pattern.matches(m.appendTail(buf).toString(), path.toString());
 	}
 
-	private void saveState(IProject project, ProjectState state) throws IOException {
+	private static void saveState(IProject project, ProjectState state) throws IOException {
 		File stateFile = getStateFile(project);
 
 		if (debug.isDebugging()) {
@@ -435,8 +470,8 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 		}
 
-		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(stateFile))) {
-			out.writeObject(state);
+		try (OutputStream out = new FileOutputStream(stateFile)) {
+			state.write(out);
 		}
 	}
 
@@ -698,20 +733,72 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private void processAnnotations(IJavaProject javaProject, Map<ICompilationUnit, BuildContext> fileMap) {
+		ProjectContext projectContext = processingContext.get(javaProject);
+		ProjectState state = projectContext.getState();
+
+		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
+		int workers = getWorkerCount(javaProject, cuArr.length);
+		if (workers < 2) {
+			createParser(javaProject, state).createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+			return;
+		}
+
+		if (debug.isDebugging())
+			debug.trace(String.format("Processing %d compilation units on %d threads.", cuArr.length, workers)); //$NON-NLS-1$
+
+		// the same units always end up in the same batches
+		Arrays.sort(cuArr, Comparator.comparing(AnnotationProcessor::getCompilationUnitKey));
+
+		BindingCache bindingCache = new BindingCache();
+		ArrayList<AnnotationProcessor> processors = new ArrayList<>(workers);
+		try (WorkerPool pool = new WorkerPool("DS Annotation Processor", workers)) { //$NON-NLS-1$
+			for (int i = 0; i < workers; i++) {
+				ICompilationUnit[] batch = Arrays.copyOfRange(cuArr, i * cuArr.length / workers, (i + 1) * cuArr.length / workers);
+				AnnotationProcessor processor = new AnnotationProcessor(projectContext, fileMap, bindingCache, true);
+				processors.add(processor);
+				pool.submit(() -> {
+					createParser(javaProject, state).createASTs(batch, new String[0], processor, null);
+					return null;
+				});
+			}
+
+			// compilation participants get no monitor, the batches are only stopped by an interrupt
+			NullProgressMonitor monitor = new NullProgressMonitor();
+			while (pool.getPending() > 0) {
+				try {
+					pool.awaitNext(monitor);
+				} catch (ExecutionException e) {
+					// the other batches are still applied, like a unit failing in a sequential build
+					Activator.log(Status.error("Error processing component annotations.", e.getCause())); //$NON-NLS-1$
+				}
+			}
+		} catch (OperationCanceledException e) {
+			// interrupted, the batches that completed are still applied
+		}
+
+		// the models are saved on this thread, which holds the workspace lock
+		AnnotationProcessor.applyResults(processors);
+	}
+
+	private static ASTParser createParser(IJavaProject javaProject, ProjectState state) {
 		@SuppressWarnings("deprecation")
 		ASTParser parser = ASTParser.newParser(AST.JLS4);
 		parser.setResolveBindings(true);
 		parser.setBindingsRecovery(true);
 		parser.setProject(javaProject);
 		parser.setKind(ASTParser.K_COMPILATION_UNIT);
-
-		ProjectContext projectContext = processingContext.get(javaProject);
-		ProjectState state = projectContext.getState();
-
 		parser.setIgnoreMethodBodies(state.getErrorLevel() == ValidationErrorLevel.ignore);
+		return parser;
+	}
 
-		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
-		parser.createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+	private static int getWorkerCount(IJavaProject javaProject, int unitCount) {
+		IPreferencesService prefs = Platform.getPreferencesService();
+		boolean parallel = prefs.getBoolean(Activator.PLUGIN_ID, Activator.PREF_PARALLEL_PROCESSING, false, new IScopeContext[] { new ProjectScope(javaProject.getProject()), InstanceScope.INSTANCE, DefaultScope.INSTANCE });
+		if (!parallel) {
+			return 1;
+		}
+
+		return Math.min(Runtime.getRuntime().availableProcessors(), unitCount / MIN_BATCH_SIZE);
 	}
 
 	public static boolean isManaged(IProject project) {
@@ -720,8 +807,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				return true;
 			}
 
-			File stateFile = getStateFile(project);
-			return stateFile.canRead();
+			return getStateFile(project).canRead() || getLegacyStateFile(project).canRead();
 		} catch (CoreException e) {
 			return false;
 		}
@@ -732,4 +818,9 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		File stateFile = new File(workDir, STATE_FILENAME);
 		return stateFile;
 	}
+
+	private static File getLegacyStateFile(IProject project) {
+		File workDir = project.getWorkingLocation(Activator.PLUGIN_ID).toFile();
+		return new File(workDir, LEGACY_STATE_FILENAME);
+	}
 }
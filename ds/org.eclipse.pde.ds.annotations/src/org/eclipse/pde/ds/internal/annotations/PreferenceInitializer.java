@@ -27,5 +27,6 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		defaults.put(Activator.PREF_SPEC_VERSION, DSAnnotationVersion.V1_3.name());
 		defaults.put(Activator.PREF_VALIDATION_ERROR_LEVEL, ValidationErrorLevel.error.name());
 		defaults.put(Activator.PREF_MISSING_UNBIND_METHOD_ERROR_LEVEL, ValidationErrorLevel.error.name());
+		defaults.putBoolean(Activator.PREF_PARALLEL_PROCESSING, false);
 	}
 }
@@ -13,11 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -30,6 +38,11 @@ public class ProjectState implements Serializable, Cloneable {
 	// current state file format version
 	public static final int FORMAT_VERSION = 1;
 
+	// binary state file header ("DSPS") and layout version
+	private static final int MAGIC = 0x44535053;
+
+	private static final int BINARY_VERSION = 1;
+
 	// package-prefixed CU name (w/out file extension) to plugin-root-relative (portable) paths of generated DS files (deprecated)
 	// note: we keep it non-null in case user downgrades to older plugin version where old logic depends on that
 	private /*final*/ Map<String, Collection<String>> mappings = new HashMap<>();
@@ -51,6 +64,33 @@ public class ProjectState implements Serializable, Cloneable {
 	// (de)serialized state file format version
 	private int formatVersion = FORMAT_VERSION;
 
+	// mappings read from a binary state file, decoded on first access
+	private transient volatile EncodedMappings encoded;
+
+	/**
+	 * The mappings as read from a binary state file. The maps are flattened
+	 * into indices of the string table: each entry of a multi-valued map is its
+	 * key followed by the number of values and the values; each entry of the
+	 * files map is its key followed by its value.
+	 */
+	private static final class EncodedMappings {
+
+		final String[] strings;
+
+		final int[] mappings;
+
+		final int[] types;
+
+		final int[] files;
+
+		EncodedMappings(String[] strings, int[] mappings, int[] types, int[] files) {
+			this.strings = strings;
+			this.mappings = mappings;
+			this.types = types;
+			this.files = files;
+		}
+	}
+
 	public int getFormatVersion() {
 		return formatVersion;
 	}
@@ -60,6 +100,7 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public Collection<String> getCompilationUnits() {
+		decode();
 		if (types == null) {
 			// fall back to (deprecated) mappings
 			return mappings.keySet().stream().map(k -> k.replace('.', '/') + ".java").collect(Collectors.toList());
@@ -68,6 +109,7 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public Collection<String> removeMappings(String cuKey) {
+		decode();
 		if (types == null) {
 			// fall back to (deprecated) mappings
 			return mappings.remove(toLegacyCUKey(cuKey));
@@ -93,6 +135,7 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public Collection<String> getModelFiles(String cuKey) {
+		decode();
 		if (types == null) {
 			// fall back to (deprecated) mappings
 			Collection<String> files = mappings.get(toLegacyCUKey(cuKey));
@@ -120,6 +163,7 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public String getModelFile(String className) {
+		decode();
 		return files == null ? null : files.get(className);
 	}
 
@@ -182,7 +226,7 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	@Override
-	public ProjectState clone() {
+	public synchronized ProjectState clone() {
 		ProjectState clone;
 		try {
 			clone = (ProjectState) super.clone();
@@ -190,6 +234,12 @@ public class ProjectState implements Serializable, Cloneable {
 			throw new UnsupportedOperationException();
 		}
 
+		if (encoded != null) {
+			// not decoded yet; the encoded mappings are never modified so they can be shared
+			clone.mappings = new HashMap<>();
+			return clone;
+		}
+
 		clone.mappings = new HashMap<>(mappings.size());
 		for (Map.Entry<String, Collection<String>> entry : mappings.entrySet()) {
 			clone.mappings.put(entry.getKey(), new HashSet<>(entry.getValue()));
@@ -220,6 +270,8 @@ public class ProjectState implements Serializable, Cloneable {
 		}
 
 		ProjectState o = (ProjectState) obj;
+		decode();
+		o.decode();
 		return formatVersion == o.formatVersion
 				&& (path == null ? o.path == null : path.equals(o.path))
 				&& specVersion == o.specVersion
@@ -232,6 +284,7 @@ public class ProjectState implements Serializable, Cloneable {
 
 	@Override
 	public String toString() {
+		decode();
 		StringBuilder buf = new StringBuilder("ProjectState[path="); //$NON-NLS-1$
 		buf.append(path).append(";mappings="); //$NON-NLS-1$
 		buf.append(mappings).append(";types="); //$NON-NLS-1$
@@ -243,4 +296,237 @@ public class ProjectState implements Serializable, Cloneable {
 		buf.append(formatVersion).append(']');
 		return buf.toString();
 	}
+
+	/**
+	 * Writes this state in the binary state file format. All strings are
+	 * written once into a string table and referenced by their index.
+	 *
+	 * @param output the stream to write to; not closed
+	 * @throws IOException if the state cannot be written
+	 */
+	public void write(OutputStream output) throws IOException {
+		decode();
+		Map<String, Integer> table = new LinkedHashMap<>();
+		int pathIndex = index(table, path);
+		int specVersionIndex = index(table, specVersion == null ? null : specVersion.name());
+		int errorLevelIndex = index(table, errorLevel == null ? null : errorLevel.name());
+		int missingUnbindMethodLevelIndex = index(table, missingUnbindMethodLevel == null ? null : missingUnbindMethodLevel.name());
+		int[] encodedMappings = encode(table, mappings);
+		int[] encodedTypes = types == null ? null : encode(table, types);
+		int[] encodedFiles = null;
+		if (files != null) {
+			encodedFiles = new int[files.size() * 2];
+			int i = 0;
+			for (Map.Entry<String, String> entry : files.entrySet()) {
+				encodedFiles[i++] = index(table, entry.getKey());
+				encodedFiles[i++] = index(table, entry.getValue());
+			}
+		}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+		out.writeInt(MAGIC);
+		out.writeInt(BINARY_VERSION);
+		out.writeInt(formatVersion);
+		out.writeInt(table.size());
+		for (String string : table.keySet()) {
+			out.writeUTF(string);
+		}
+
+		out.writeInt(pathIndex);
+		out.writeInt(specVersionIndex);
+		out.writeInt(errorLevelIndex);
+		out.writeInt(missingUnbindMethodLevelIndex);
+		writeInts(out, encodedMappings);
+		writeInts(out, encodedTypes);
+		writeInts(out, encodedFiles);
+		out.flush();
+	}
+
+	/**
+	 * Reads a state in the binary state file format. Only the string table is
+	 * materialized; the mappings are decoded when they are first accessed.
+	 *
+	 * @param input the stream to read from; not closed
+	 * @return the state
+	 * @throws IOException if the stream does not contain a supported state
+	 */
+	public static ProjectState read(InputStream input) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a project state file."); //$NON-NLS-1$
+		}
+
+		int version = in.readInt();
+		if (version != BINARY_VERSION) {
+			throw new IOException(String.format("Unsupported project state file version: %d", version)); //$NON-NLS-1$
+		}
+
+		ProjectState state = new ProjectState();
+		state.formatVersion = in.readInt();
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; ++i) {
+			strings[i] = in.readUTF();
+		}
+
+		state.path = string(strings, in.readInt());
+		state.specVersion = enumValue(DSAnnotationVersion.class, string(strings, in.readInt()));
+		state.errorLevel = enumValue(ValidationErrorLevel.class, string(strings, in.readInt()));
+		state.missingUnbindMethodLevel = enumValue(ValidationErrorLevel.class, string(strings, in.readInt()));
+		int[] encodedMappings = readInts(in);
+		int[] encodedTypes = readInts(in);
+		int[] encodedFiles = readInts(in);
+		// validate eagerly so that a corrupt file is not detected in the middle of a build
+		checkMultiMap(encodedMappings, strings.length);
+		checkMultiMap(encodedTypes, strings.length);
+		if (encodedFiles != null) {
+			if (encodedFiles.length % 2 != 0) {
+				throw new IOException("Invalid file mappings."); //$NON-NLS-1$
+			}
+
+			for (int index : encodedFiles) {
+				checkIndex(index, strings.length);
+			}
+		}
+
+		state.encoded = new EncodedMappings(strings, encodedMappings == null ? new int[0] : encodedMappings, encodedTypes, encodedFiles);
+		return state;
+	}
+
+	private synchronized void decode() {
+		EncodedMappings pending = encoded;
+		if (pending == null) {
+			return;
+		}
+
+		String[] strings = pending.strings;
+		mappings = decodeMultiMap(strings, pending.mappings);
+		types = pending.types == null ? null : decodeMultiMap(strings, pending.types);
+		if (pending.files == null) {
+			files = null;
+		} else {
+			files = new HashMap<>(pending.files.length);
+			for (int i = 0; i < pending.files.length; i += 2) {
+				files.put(strings[pending.files[i]], strings[pending.files[i + 1]]);
+			}
+		}
+
+		encoded = null;
+	}
+
+	private static Map<String, Collection<String>> decodeMultiMap(String[] strings, int[] entries) {
+		HashMap<String, Collection<String>> map = new HashMap<>();
+		int i = 0;
+		while (i < entries.length) {
+			String key = strings[entries[i++]];
+			int count = entries[i++];
+			HashSet<String> values = new HashSet<>(count);
+			for (int j = 0; j < count; ++j) {
+				values.add(strings[entries[i++]]);
+			}
+
+			map.put(key, values);
+		}
+
+		return map;
+	}
+
+	private static int[] encode(Map<String, Integer> table, Map<String, Collection<String>> map) {
+		int size = 0;
+		for (Collection<String> values : map.values()) {
+			size += 2 + values.size();
+		}
+
+		int[] encoded = new int[size];
+		int i = 0;
+		for (Map.Entry<String, Collection<String>> entry : map.entrySet()) {
+			encoded[i++] = index(table, entry.getKey());
+			encoded[i++] = entry.getValue().size();
+			for (String value : entry.getValue()) {
+				encoded[i++] = index(table, value);
+			}
+		}
+
+		return encoded;
+	}
+
+	private static int index(Map<String, Integer> table, String string) {
+		if (string == null) {
+			return -1;
+		}
+
+		return table.computeIfAbsent(string, s -> table.size());
+	}
+
+	private static String string(String[] strings, int index) throws IOException {
+		if (index == -1) {
+			return null;
+		}
+
+		checkIndex(index, strings.length);
+		return strings[index];
+	}
+
+	private static void checkIndex(int index, int stringCount) throws IOException {
+		if (index < 0 || index >= stringCount) {
+			throw new IOException(String.format("Invalid string index: %d", index)); //$NON-NLS-1$
+		}
+	}
+
+	private static void checkMultiMap(int[] encoded, int stringCount) throws IOException {
+		if (encoded == null) {
+			return;
+		}
+
+		int i = 0;
+		while (i < encoded.length) {
+			checkIndex(encoded[i++], stringCount);
+			if (i >= encoded.length || encoded[i] < 0 || encoded[i] > encoded.length - i - 1) {
+				throw new IOException("Invalid mappings."); //$NON-NLS-1$
+			}
+
+			int count = encoded[i++];
+			for (int j = 0; j < count; ++j) {
+				checkIndex(encoded[i++], stringCount);
+			}
+		}
+	}
+
+	private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+		if (name == null) {
+			return null;
+		}
+
+		try {
+			return Enum.valueOf(type, name);
+		} catch (IllegalArgumentException e) {
+			// unknown constant; fall back to default
+			return null;
+		}
+	}
+
+	private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+		if (values == null) {
+			out.writeInt(-1);
+			return;
+		}
+
+		out.writeInt(values.length);
+		for (int value : values) {
+			out.writeInt(value);
+		}
+	}
+
+	private static int[] readInts(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+
+		int[] values = new int[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = in.readInt();
+		}
+
+		return values;
+	}
 }
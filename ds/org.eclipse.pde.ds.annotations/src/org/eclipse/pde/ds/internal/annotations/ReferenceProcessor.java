@@ -97,8 +97,8 @@ public class ReferenceProcessor {
 					String erasure = argTypes[0].getErasure().getBinaryName();
 					ITypeBinding[] typeArgs;
 					if (!(ServiceReference.class.getName().equals(erasure)
-							&& ((typeArgs = argTypes[0].getTypeArguments()).length == 0 || serviceType.isAssignmentCompatible(typeArgs[0])))
-							&& !serviceType.isAssignmentCompatible(argTypes[0])) {
+							&& ((typeArgs = argTypes[0].getTypeArguments()).length == 0 || isAssignmentCompatible(serviceType, typeArgs[0])))
+							&& !isAssignmentCompatible(serviceType, argTypes[0])) {
 						problemReporter.reportProblem(annotation, "service", NLS.bind(Messages.AnnotationProcessor_invalidReference_serviceType, argTypes[0].getName(), serviceType.getName()), argTypes[0].getName(), serviceType.getName()); //$NON-NLS-1$
 					}
 				}
@@ -268,12 +268,16 @@ public class ReferenceProcessor {
 		return determineRequiredVersion(reference, methodBinding.getDeclaringClass(), serviceType, new MethodParams(methodName, methodBinding, updated, updatedMethod, unbind, unbindMethod));
 	}
 
+	private boolean isAssignmentCompatible(ITypeBinding type, ITypeBinding variableType) {
+		return visitor.getBindingCache().isAssignmentCompatible(type, variableType);
+	}
+
 	private boolean isValidArgumentForService(ITypeBinding argType, ITypeBinding serviceType) {
 		String erasure = argType.getErasure().getBinaryName();
 		ITypeBinding[] typeArgs;
 		return ((ServiceReference.class.getName().equals(erasure) || COMPONENT_SERVICE_OBJECTS.equals(erasure))
-				&& ((typeArgs = argType.getTypeArguments()).length == 0 || serviceType.isAssignmentCompatible(typeArgs[0])))
-				|| serviceType.isAssignmentCompatible(argType)
+				&& ((typeArgs = argType.getTypeArguments()).length == 0 || isAssignmentCompatible(serviceType, typeArgs[0])))
+				|| isAssignmentCompatible(serviceType, argType)
 				|| Map.class.getName().equals(erasure);
 	}
 
@@ -705,11 +709,11 @@ public class ReferenceProcessor {
 		String erasure = fieldType.getErasure().getBinaryName();
 		ITypeBinding[] typeArgs;
 		return ((ServiceReference.class.getName().equals(erasure) || COMPONENT_SERVICE_OBJECTS.equals(erasure))
-				&& ((typeArgs = fieldType.getTypeArguments()).length == 0 || serviceType.isAssignmentCompatible(typeArgs[0])))
+				&& ((typeArgs = fieldType.getTypeArguments()).length == 0 || isAssignmentCompatible(serviceType, typeArgs[0])))
 				|| Map.class.getName().equals(erasure)
 				|| (Map.Entry.class.getName().equals(erasure)
-						&& ((typeArgs = fieldType.getTypeArguments()).length < 2 || (Map.class.getName().equals(typeArgs[0].getErasure().getBinaryName()) && serviceType.isAssignmentCompatible(typeArgs[1]))))
-				|| serviceType.isAssignmentCompatible(fieldType);
+						&& ((typeArgs = fieldType.getTypeArguments()).length < 2 || (Map.class.getName().equals(typeArgs[0].getErasure().getBinaryName()) && isAssignmentCompatible(serviceType, typeArgs[1]))))
+				|| isAssignmentCompatible(serviceType, fieldType);
 	}
 
 	private ITypeBinding getFieldServiceType(AST ast, ITypeBinding type) {
@@ -931,7 +935,7 @@ public class ReferenceProcessor {
 					String erasure = argType.getErasure().getBinaryName();
 					if (!ServiceReference.class.getName().equals(erasure)
 							&& !COMPONENT_SERVICE_OBJECTS.equals(erasure)
-							&& !(serviceType == null || serviceType.isAssignmentCompatible(argType))
+							&& !(serviceType == null || isAssignmentCompatible(serviceType, argType))
 							&& !Map.class.getName().equals(erasure)) {
 						problemReporter.reportProblem(annotation, null, NLS.bind(Messages.AnnotationProcessor_invalidReference_invalidBindMethodArg, argType.getName(), serviceType == null ? Messages.AnnotationProcessor_unknownServiceTypeLabel : serviceType.getName()), argType.getName());
 					}
@@ -1010,7 +1014,7 @@ public class ReferenceProcessor {
 								priority = priorityOffset + 4;
 							} else if (priority < priorityOffset + 3 && serviceType != null && serviceType.isEqualTo(paramType)) {
 								priority = priorityOffset + 3;
-							} else if (priority < priorityOffset + 2 && serviceType != null && serviceType.isAssignmentCompatible(paramType)) {
+							} else if (priority < priorityOffset + 2 && serviceType != null && isAssignmentCompatible(serviceType, paramType)) {
 								priority = priorityOffset + 2;
 							} else if (priority < priorityOffset + 1 && Map.class.getName().equals(erasure)) {
 								priority = priorityOffset + 1;
@@ -1030,7 +1034,7 @@ public class ReferenceProcessor {
 
 							if (priority < 3 && serviceType != null && serviceType.isEqualTo(paramTypes[0])) {
 								priority = 3;
-							} else if (priority < 2 && serviceType != null && serviceType.isAssignmentCompatible(paramTypes[0])) {
+							} else if (priority < 2 && serviceType != null && isAssignmentCompatible(serviceType, paramTypes[0])) {
 								priority = 2;
 							} else {
 								continue;
@@ -1044,7 +1048,7 @@ public class ReferenceProcessor {
 									&& Map.class.getName().equals(paramTypes[1].getErasure().getBinaryName())) {
 								priority = 1;
 							} else if (candidate != null
-									|| !(serviceType != null && serviceType.isAssignmentCompatible(paramTypes[0]))
+									|| !(serviceType != null && isAssignmentCompatible(serviceType, paramTypes[0]))
 									|| !Map.class.getName().equals(paramTypes[1].getErasure().getBinaryName())) {
 								continue;
 							}
@@ -1151,9 +1155,9 @@ public class ReferenceProcessor {
 		return argTypes.length == 1
 				&& (ServiceReference.class.getName().equals(argTypes[0].getErasure().getBinaryName())
 						|| serviceType == null
-						|| serviceType.isAssignmentCompatible(argTypes[0]))
+						|| isAssignmentCompatible(serviceType, argTypes[0]))
 				|| (argTypes.length == 2
-				&& (serviceType == null || serviceType.isAssignmentCompatible(argTypes[0]))
+				&& (serviceType == null || isAssignmentCompatible(serviceType, argTypes[0]))
 				&& Map.class.getName().equals(argTypes[1].getErasure().getBinaryName()));
 	}
 
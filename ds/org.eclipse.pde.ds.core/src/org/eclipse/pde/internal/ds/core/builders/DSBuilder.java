@@ -17,7 +17,10 @@
 package org.eclipse.pde.internal.ds.core.builders;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -32,6 +35,9 @@ import org.eclipse.core.runtime.content.IContentDescription;
 import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.MultiRule;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.core.builders.DefaultSAXParser;
 import org.eclipse.pde.internal.core.builders.PDEBuilderHelper;
@@ -43,6 +49,12 @@ public class DSBuilder extends IncrementalProjectBuilder {
 	private static String PDE_NATURE = "org.eclipse.pde.PluginNature"; //$NON-NLS-1$
 	private static IProject[] EMPTY_LIST = new IProject[0];
 
+	// Java types referenced by the component files, null until all of them have been validated
+	private DSTypeDependencies fDependencies;
+
+	// Java types known to exist or not during the current build
+	private Map<String, Boolean> fTypeCache;
+
 	class ResourceVisitor implements IResourceVisitor {
 		private final IProgressMonitor monitor;
 
@@ -76,6 +88,8 @@ public class DSBuilder extends IncrementalProjectBuilder {
 
 	class DeltaVisitor implements IResourceDeltaVisitor {
 		private final IProgressMonitor monitor;
+		private final Set<IFile> checked = new HashSet<>();
+		private final Set<String> changedTypes = new HashSet<>();
 
 		public DeltaVisitor(IProgressMonitor monitor) {
 			this.monitor = monitor;
@@ -98,12 +112,18 @@ public class DSBuilder extends IncrementalProjectBuilder {
 			if (resource instanceof IFile) {
 				// see if this is it
 				IFile candidate = (IFile) resource;
+				if (delta.getKind() == IResourceDelta.REMOVED && fDependencies != null) {
+					fDependencies.remove(candidate);
+				}
 				if (isDSFile(candidate)) {
 					// That's it, but only check it if it has been added or changed
 					if (delta.getKind() != IResourceDelta.REMOVED) {
 						checkFile(candidate, monitor);
+						checked.add(candidate);
 						return true;
 					}
+				} else {
+					collectChangedType(delta, changedTypes);
 				}
 			}
 			return true;
@@ -118,20 +138,103 @@ public class DSBuilder extends IncrementalProjectBuilder {
 		if (kind != FULL_BUILD)
 			delta = getDelta(getProject());
 
-		if (delta == null || kind == FULL_BUILD) {
-			// Full build
-			IProject project = getProject();
-			project.accept(new ResourceVisitor(monitor));
-		} else {
-			delta.accept(new DeltaVisitor(monitor));
+		IProject[] requiredProjects = getRequiredProjects();
+		fTypeCache = new HashMap<>();
+		try {
+			if (delta == null || kind == FULL_BUILD) {
+				// Full build
+				fullBuild(monitor);
+			} else {
+				DeltaVisitor visitor = new DeltaVisitor(monitor);
+				delta.accept(visitor);
+
+				// the types of required projects are referenced as well
+				Set<String> changedTypes = visitor.changedTypes;
+				for (IProject requiredProject : requiredProjects) {
+					IResourceDelta requiredDelta = getDelta(requiredProject);
+					if (requiredDelta != null) {
+						requiredDelta.accept(d -> {
+							collectChangedType(d, changedTypes);
+							return true;
+						});
+					}
+				}
+
+				if (!changedTypes.isEmpty()) {
+					if (fDependencies == null) {
+						// the referenced types are not known yet
+						fullBuild(monitor);
+					} else {
+						checkDependents(changedTypes, visitor.checked, monitor);
+					}
+				}
+			}
+		} finally {
+			fTypeCache = null;
+		}
+		// track the required projects to get their deltas in the next build
+		return requiredProjects;
+	}
+
+	private void fullBuild(IProgressMonitor monitor) throws CoreException {
+		fDependencies = new DSTypeDependencies();
+		getProject().accept(new ResourceVisitor(monitor));
+	}
+
+	/**
+	 * Validates again the component files that reference the changed types
+	 * and have not been validated in this build yet.
+	 */
+	private void checkDependents(Set<String> changedTypes, Set<IFile> checked, IProgressMonitor monitor) {
+		Set<IFile> dependents = new HashSet<>();
+		for (String type : changedTypes) {
+			dependents.addAll(fDependencies.getDependents(type));
+		}
+		dependents.removeAll(checked);
+		for (IFile file : dependents) {
+			if (file.exists()) {
+				checkFile(file, monitor);
+			} else {
+				fDependencies.remove(file);
+			}
+		}
+	}
+
+	/**
+	 * Adds the primary type of the compilation unit of an added, removed or
+	 * changed Java file.
+	 */
+	private static void collectChangedType(IResourceDelta delta, Set<String> changedTypes) {
+		IResource resource = delta.getResource();
+		if (resource.getType() != IResource.FILE || !JavaCore.isJavaLikeFileName(resource.getName()))
+			return;
+		if (delta.getKind() == IResourceDelta.CHANGED && (delta.getFlags() & IResourceDelta.CONTENT) == 0)
+			return;
+		IJavaElement element = JavaCore.create((IFile) resource);
+		if (element instanceof ICompilationUnit) {
+			String typeName = JavaCore.removeJavaLikeExtension(element.getElementName());
+			String packageName = element.getParent().getElementName();
+			changedTypes.add(packageName.isEmpty() ? typeName : packageName + '.' + typeName);
+		}
+	}
+
+	private IProject[] getRequiredProjects() {
+		IProject project = getProject();
+		try {
+			if (!project.hasNature(JavaCore.NATURE_ID))
+				return EMPTY_LIST;
+			String[] names = JavaCore.create(project).getRequiredProjectNames();
+			return Arrays.stream(names).map(project.getWorkspace().getRoot()::getProject).toArray(IProject[]::new);
+		} catch (CoreException e) {
+			return EMPTY_LIST;
 		}
-		return EMPTY_LIST;
 	}
 
 	@Override
 	protected void clean(IProgressMonitor monitor) throws CoreException {
 		// bug 426874 - delete markers set and files created
 		getProject().deleteMarkers(DSErrorReporter.MARKER_ID, true, IResource.DEPTH_INFINITE);
+		fDependencies = null;
 	}
 
 
@@ -154,9 +257,11 @@ public class DSBuilder extends IncrementalProjectBuilder {
 				.getFullPath().toString());
 		monitor.subTask(message);
 
-		DSErrorReporter reporter = new DSErrorReporter(file);
+		DSErrorReporter reporter = new DSErrorReporter(file, fTypeCache);
 		DefaultSAXParser.parse(file, reporter);
 		reporter.validateContent(monitor);
+		if (fDependencies != null)
+			fDependencies.setReferencedTypes(file, reporter.getReferencedTypes());
 		monitor.subTask(Messages.DSBuilder_updating);
 		monitor.done();
 	}
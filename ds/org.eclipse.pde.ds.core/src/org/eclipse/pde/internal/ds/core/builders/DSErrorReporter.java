@@ -16,7 +16,11 @@
 package org.eclipse.pde.internal.ds.core.builders;
 
 import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
 
 import org.eclipse.core.resources.IFile;
@@ -54,8 +58,29 @@ public class DSErrorReporter extends XMLErrorReporter {
 	public static final int WARNING = 1;
 	public static final int IGNORE = 2;
 
+	private final Map<String, Boolean> fTypeCache;
+	private final Set<String> fReferencedTypes = new HashSet<>();
+
 	public DSErrorReporter(IFile file) {
+		this(file, new HashMap<>());
+	}
+
+	/**
+	 * @param typeCache
+	 *            the Java types of the project known to exist or not, shared by
+	 *            the reporters of a build
+	 */
+	public DSErrorReporter(IFile file, Map<String, Boolean> typeCache) {
 		super(file, MARKER_ID);
+		fTypeCache = typeCache;
+	}
+
+	/**
+	 * @return the fully qualified names of the Java types referenced by the
+	 *         validated component
+	 */
+	public Set<String> getReferencedTypes() {
+		return fReferencedTypes;
 	}
 
 	@Override
@@ -472,10 +497,11 @@ public class DSErrorReporter extends XMLErrorReporter {
 
 	private void validateJavaElement(String fullyQualifiedName,
 			String elementName, String attrName, int index) {
+		fReferencedTypes.add(fullyQualifiedName);
 		try {
 			if (fProject.hasNature(JavaCore.NATURE_ID)) {
 				IJavaProject jp = JavaCore.create(fProject);
-				if (!DSJavaHelper.isOnClasspath(fullyQualifiedName, (jp))) {
+				if (!DSJavaHelper.isOnClasspath(fullyQualifiedName, jp, fTypeCache)) {
 					reportJavaTypeNotFound(elementName, attrName,
 							fullyQualifiedName, index);
 				}
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ds.core.builders;
 
+import java.util.Map;
+
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
@@ -23,6 +25,19 @@ import org.eclipse.jdt.core.JavaModelException;
 
 public class DSJavaHelper {
 
+	/**
+	 * Same as {@link #isOnClasspath(String, IJavaProject)}, remembering the
+	 * result in the given cache so that each type is only looked up once.
+	 *
+	 * @param cache
+	 *            the results of the previous lookups in the same project
+	 */
+	public static boolean isOnClasspath(String fullyQualifiedName,
+			IJavaProject project, Map<String, Boolean> cache) {
+		return cache.computeIfAbsent(fullyQualifiedName,
+				name -> isOnClasspath(name, project));
+	}
+
 	public static boolean isOnClasspath(String fullyQualifiedName,
 			IJavaProject project) {
 		if (fullyQualifiedName.indexOf('$') != -1)
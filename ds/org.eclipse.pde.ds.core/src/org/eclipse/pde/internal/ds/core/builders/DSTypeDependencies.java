@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ds.core.builders;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * The Java types referenced by the component files of a project, so that only
+ * the component files referencing a changed type are validated again. Type
+ * names are kept in their source form, with nested types separated by a dot.
+ */
+class DSTypeDependencies {
+
+	private final Map<IFile, Set<String>> typesByFile = new HashMap<>();
+
+	private final Map<String, Set<IFile>> filesByType = new HashMap<>();
+
+	/**
+	 * Replaces the types referenced by the component file.
+	 */
+	void setReferencedTypes(IFile file, Collection<String> types) {
+		remove(file);
+		Set<String> names = new HashSet<>();
+		for (String type : types) {
+			names.add(type.replace('$', '.'));
+		}
+		typesByFile.put(file, names);
+		for (String name : names) {
+			filesByType.computeIfAbsent(name, n -> new HashSet<>()).add(file);
+		}
+	}
+
+	void remove(IFile file) {
+		Set<String> names = typesByFile.remove(file);
+		if (names == null)
+			return;
+		for (String name : names) {
+			Set<IFile> files = filesByType.get(name);
+			if (files != null) {
+				files.remove(file);
+				if (files.isEmpty())
+					filesByType.remove(name);
+			}
+		}
+	}
+
+	/**
+	 * Returns the component files referencing the type of a compilation unit or
+	 * one of its nested types.
+	 *
+	 * @param primaryType
+	 *            the fully qualified name of the primary type of a compilation
+	 *            unit
+	 */
+	Set<IFile> getDependents(String primaryType) {
+		Set<IFile> dependents = new HashSet<>();
+		String nestedPrefix = primaryType + '.';
+		for (Map.Entry<String, Set<IFile>> entry : filesByType.entrySet()) {
+			String name = entry.getKey();
+			if (name.equals(primaryType) || name.startsWith(nestedPrefix)) {
+				dependents.addAll(entry.getValue());
+			}
+		}
+		return dependents;
+	}
+}
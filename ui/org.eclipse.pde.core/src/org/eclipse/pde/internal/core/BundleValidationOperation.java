@@ -13,10 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Dictionary;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -36,9 +41,82 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	private static final int MAX_CACHED_STATES = 4;
+
+	/**
+	 * The states validated last, by cache key, the least recently used is
+	 * discarded first.
+	 */
+	private static final Map<Object, CachedState> CACHED_STATES = new LinkedHashMap<>(MAX_CACHED_STATES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<Object, CachedState> eldest) {
+			return size() > MAX_CACHED_STATES;
+		}
+	};
+
+	/**
+	 * A validation state that is kept between validations of the same launch
+	 * configuration. Only the bundles that are added to or removed from the
+	 * selection are copied into or removed from the state, which is then
+	 * resolved again. The state is never handed out, the operations read their
+	 * results from it while they hold its lock.
+	 */
+	private static final class CachedState {
+		private final State state = FACTORY.createState(true);
+		// bundle description of the model -> copy in the state
+		private Map<BundleDescription, BundleDescription> copies = new IdentityHashMap<>();
+		private Dictionary<String, String>[] properties;
+
+		State update(Set<IPluginModelBase> models, Dictionary<String, String>[] platformProperties, SubMonitor monitor) {
+			Map<BundleDescription, BundleDescription> previous = copies;
+			Map<BundleDescription, BundleDescription> current = new IdentityHashMap<>();
+			List<BundleDescription> added = new ArrayList<>();
+			for (IPluginModelBase model : models) {
+				BundleDescription bundle = model.getBundleDescription();
+				if (bundle != null && !current.containsKey(bundle)) {
+					BundleDescription copy = previous.remove(bundle);
+					if (copy == null) {
+						added.add(bundle);
+					}
+					current.put(bundle, copy);
+				}
+			}
+			// the descriptions that are not selected anymore are removed first, a new
+			// description of the same bundle may reuse their id
+			for (BundleDescription removed : previous.values()) {
+				state.removeBundle(removed);
+			}
+			for (BundleDescription bundle : added) {
+				BundleDescription copy = FACTORY.createBundleDescription(bundle);
+				state.addBundle(copy);
+				current.put(bundle, copy);
+				monitor.split(1);
+			}
+			boolean bundlesChanged = !added.isEmpty() || !previous.isEmpty();
+			copies = current;
+
+			boolean propertiesChanged = !Arrays.equals(properties, platformProperties);
+			if (propertiesChanged) {
+				state.setPlatformProperties(platformProperties);
+				properties = platformProperties.clone();
+			}
+			// an incremental resolve does not always give the result of a full one
+			if (propertiesChanged || bundlesChanged) {
+				state.resolve(false);
+			}
+			return state;
+		}
+	}
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
+	private final Object fCacheKey;
 	private State fState;
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fHasErrors;
+	private boolean fEmpty;
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -46,8 +124,26 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public BundleValidationOperation(Set<IPluginModelBase> models, Dictionary<String, String>[] properties) {
+		this(models, properties, null);
+	}
+
+	/**
+	 * Creates an operation that reuses the state of the previous validation
+	 * with the same key. Only the changes to the selected bundles and to the
+	 * platform properties are applied to that state before it is resolved
+	 * again. The results are read from that state before the next validation
+	 * of the same key can change it, {@link #getState()} creates a state of
+	 * its own.
+	 *
+	 * @param models the bundles to validate
+	 * @param properties the platform properties to resolve against
+	 * @param cacheKey identifies the launch whose state is reused, or
+	 *            <code>null</code> to always create a new state
+	 */
+	public BundleValidationOperation(Set<IPluginModelBase> models, Dictionary<String, String>[] properties, Object cacheKey) {
 		fModels = models;
 		fProperties = properties;
+		fCacheKey = cacheKey;
 	}
 
 	@Override
@@ -56,28 +152,71 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 			FACTORY = Platform.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
+		State state;
+		if (fCacheKey != null) {
+			CachedState cached;
+			synchronized (CACHED_STATES) {
+				cached = CACHED_STATES.computeIfAbsent(fCacheKey, key -> new CachedState());
+			}
+			synchronized (cached) {
+				state = cached.update(fModels, fProperties, subMonitor);
+				readResults(state);
+			}
+			subMonitor.done();
+			return;
+		}
+		state = createState(subMonitor);
+		readResults(state);
+		fState = state;
+	}
+
+	private State createState(SubMonitor monitor) {
+		State state = FACTORY.createState(true);
 		for (IPluginModelBase fModel : fModels) {
 			BundleDescription bundle = fModel.getBundleDescription();
 			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+				state.addBundle(FACTORY.createBundleDescription(bundle));
 			}
-			subMonitor.split(1);
+			monitor.split(1);
+		}
+		state.setPlatformProperties(fProperties);
+		state.resolve(false);
+		monitor.split(1);
+		return state;
+	}
+
+	private void readResults(State state) {
+		fResolverErrors = computeResolverErrors(state);
+		fHasErrors = computeHasErrors(state);
+		fEmpty = state.getHighestBundleId() == -1;
+	}
+
+	/**
+	 * Discards the state kept for the validations with the given key, e.g.
+	 * because the launch configuration it belongs to has been deleted or
+	 * renamed.
+	 *
+	 * @param cacheKey the key the operations were created with
+	 */
+	public static void discardCachedState(Object cacheKey) {
+		synchronized (CACHED_STATES) {
+			CACHED_STATES.remove(cacheKey);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
-		subMonitor.split(1);
 	}
 
 	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fResolverErrors);
+	}
+
+	private static Map<Object, Object[]> computeResolverErrors(State state) {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
+		BundleDescription[] bundles = state.getBundles();
 		for (BundleDescription bundle : bundles) {
 			if (!bundle.isResolved()) {
-				map.put(bundle, fState.getResolverErrors(bundle));
+				map.put(bundle, state.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -92,18 +231,37 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
+	/**
+	 * Returns the resolved state of the validated bundles. The state of an
+	 * operation with a cache key is shared with the later validations of that
+	 * key, so a state of its own is created on the first call.
+	 */
 	public State getState() {
+		if (fState == null) {
+			fState = createState(SubMonitor.convert(null, fModels.size() + 1));
+		}
 		return fState;
 	}
 
+	/**
+	 * @return whether no bundle has been validated
+	 */
+	public boolean isEmpty() {
+		return fEmpty;
+	}
+
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
+		return fHasErrors;
+	}
+
+	private static boolean computeHasErrors(State state) {
+		if (state.getHighestBundleId() > -1) {
+			BundleDescription[] bundles = state.getBundles();
 			for (BundleDescription bundle : bundles) {
 				if (!bundle.isResolved()) {
 					return true;
 				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+					BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 					if (dups.length > 1) {
 						// more than one singleton
 						return true;
@@ -15,6 +15,7 @@ package org.eclipse.pde.internal.core;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
@@ -32,6 +33,7 @@ import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.util.VersionUtil;
 import org.osgi.framework.Version;
+import org.osgi.framework.VersionRange;
 
 /**
  * Manages all feature models in the workspace, and maximum one external feature
@@ -57,6 +59,20 @@ public class FeatureModelManager {
 
 	private boolean fReloadExternalNeeded = false;
 
+	/**
+	 * Incremented whenever the set of feature models may have changed
+	 */
+	private volatile long fModificationStamp;
+
+	/**
+	 * The valid active models and the modification stamp they were computed
+	 * for
+	 */
+	private record ValidModels(long modificationStamp, IFeatureModel[] models) {
+	}
+
+	private volatile ValidModels fValidModels;
+
 	private final WorkspaceFeatureModelManager fWorkspaceManager;
 
 	private IModelProviderListener fProviderListener;
@@ -100,11 +116,13 @@ public class FeatureModelManager {
 		fWorkspaceManager.addModelProviderListener(fProviderListener);
 
 		IFeatureModel[] models = fWorkspaceManager.getFeatureModels();
-		for (IFeatureModel model : models) {
-			// add all workspace models, including invalid or duplicate (save
-			// id, ver)
-			fActiveModels.add(model);
-		}
+		fActiveModels.batch(() -> {
+			for (IFeatureModel model : models) {
+				// add all workspace models, including invalid or duplicate
+				// (save id, ver)
+				fActiveModels.add(model);
+			}
+		});
 
 		fExternalManager = new ExternalFeatureModelManager();
 		fExternalManager.addModelProviderListener(fProviderListener);
@@ -137,14 +155,21 @@ public class FeatureModelManager {
 	 */
 	public IFeatureModel[] getModels() {
 		init();
-		IFeatureModel[] allModels = fActiveModels.getAll();
-		ArrayList<IFeatureModel> valid = new ArrayList<>(allModels.length);
-		for (final IFeatureModel model : allModels) {
-			if (model.isValid()) {
-				valid.add(model);
+		// read the stamp first, a concurrent change then only causes a recomputation
+		long stamp = fModificationStamp;
+		ValidModels validModels = fValidModels;
+		if (validModels == null || validModels.modificationStamp() != stamp) {
+			List<IFeatureModel> allModels = fActiveModels.getAll();
+			ArrayList<IFeatureModel> valid = new ArrayList<>(allModels.size());
+			for (final IFeatureModel model : allModels) {
+				if (model.isValid()) {
+					valid.add(model);
+				}
 			}
+			validModels = new ValidModels(stamp, valid.toArray(new IFeatureModel[valid.size()]));
+			fValidModels = validModels;
 		}
-		return valid.toArray(new IFeatureModel[valid.size()]);
+		return validModels.models().clone();
 	}
 
 	/**
@@ -236,28 +261,46 @@ public class FeatureModelManager {
 		return valid.toArray(new IFeatureModel[valid.size()]);
 	}
 
-	public IFeatureModel findFeatureModel(String id) {
-		IFeatureModel[] models = findFeatureModels(id);
-		IFeatureModel result = null;
+	/**
+	 * Finds active models with a given id and a version in the given range
+	 *
+	 * @param id
+	 * @param range
+	 * @return IFeature model[] in the order of {@link #findFeatureModels(String)}
+	 */
+	public IFeatureModel[] findFeatureModels(String id, VersionRange range) {
+		init();
+		IFeatureModel[] models = fActiveModels.get(id, range);
+		ArrayList<IFeatureModel> valid = new ArrayList<>(models.length);
 		for (final IFeatureModel model : models) {
-			if (result == null) {
-				result = model;
-			} else {
-				final String version = result.getFeature().getVersion();
-				final String version2 = model.getFeature().getVersion();
-				Version vid = Version.parseVersion(version);
-				Version vid2 = Version.parseVersion(version2);
-				if (VersionUtil.isGreaterOrEqualTo(vid2, vid)) {
-					result = model;
-				}
+			if (model.isValid()) {
+				valid.add(model);
 			}
 		}
-		return result;
+		return valid.toArray(new IFeatureModel[valid.size()]);
+	}
+
+	/**
+	 * Finds the active model with the given id and the highest version
+	 *
+	 * @param id
+	 * @return IFeatureModel or null
+	 */
+	public IFeatureModel findFeatureModel(String id) {
+		init();
+		IFeatureModel[] models = fActiveModels.getSortedByVersion(id);
+		for (int i = models.length - 1; i >= 0; i--) {
+			if (models[i].isValid()) {
+				return models[i];
+			}
+		}
+		return null;
 	}
 
 	private void handleModelsChanged(IModelProviderEvent e) {
 		init();
 		IFeatureModelDelta delta = processEvent(e);
+		fModificationStamp++;
 
 		Object[] entries = fListeners.toArray();
 		for (final Object entry : entries) {
@@ -267,6 +310,12 @@ public class FeatureModelManager {
 
 	private synchronized IFeatureModelDelta processEvent(IModelProviderEvent e) {
 		FeatureModelDelta delta = new FeatureModelDelta();
+		// lookups only see the active models once the whole event is processed
+		fActiveModels.batch(() -> processEvent(e, delta));
+		return delta;
+	}
+
+	private void processEvent(IModelProviderEvent e, FeatureModelDelta delta) {
 		/*
 		 * Set of Idvers for which there might be necessary to move a model
 		 * between active models and inactive models
@@ -378,7 +427,6 @@ public class FeatureModelManager {
 
 			}
 		}
-		return delta;
 	}
 
 	/**
@@ -432,6 +480,19 @@ public class FeatureModelManager {
 
 	public void targetReloaded() {
 		fReloadExternalNeeded = true;
+		fModificationStamp++;
+	}
+
+	/**
+	 * Returns a number that changes whenever feature models are added, removed
+	 * or changed, or the target is reloaded. Clients can compare it with an
+	 * earlier value to know whether results computed from the feature models
+	 * are still valid.
+	 *
+	 * @return the modification stamp of the feature models
+	 */
+	public long getModificationStamp() {
+		return fModificationStamp;
 	}
 
 	public IFeatureModel getDeltaPackFeature() {
@@ -14,17 +14,32 @@
 package org.eclipse.pde.internal.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.osgi.framework.Version;
+import org.osgi.framework.VersionRange;
 
 /**
  * Stores IFeatureModels. Models are indexed by id and id with version for fast
  * retrieval. Given id or version may have more than one corresponding model. A
  * model has only one id and version that can be null. When models changes, its
  * Idver stays unchanged until the models reinserted.
+ * <p>
+ * Modifications are serialized, lookups do not lock. Lookups read an immutable
+ * snapshot of the table that is replaced once a modification, or a
+ * {@link #batch(Runnable) batch} of modifications, is complete. All models of
+ * an id are kept in one {@link IdEntry} that also keeps the models sorted by
+ * version, so that version range lookups are a binary search.
+ * </p>
  */
 class FeatureTable {
 	public static class Idver {
@@ -85,70 +100,256 @@ class FeatureTable {
 	private static final IFeatureModel[] NO_MODELS = new IFeatureModel[0];
 
 	/**
-	 * Map of IFeatureModel to Idver
+	 * Key used for models without id
+	 */
+	private static final Object NULL_ID = new Object();
+
+	/**
+	 * Immutable view of all models with the same id.
+	 */
+	private static final class IdEntry {
+		/**
+		 * Version to models, in insertion order of the versions
+		 */
+		private final Map<String, IFeatureModel[]> fVersion2models;
+
+		/**
+		 * All models, grouped by version in insertion order
+		 */
+		private final IFeatureModel[] fModels;
+
+		/**
+		 * All models sorted by ascending version, models with the same version
+		 * keep their insertion order
+		 */
+		private final IFeatureModel[] fSortedModels;
+
+		/**
+		 * Parsed versions of the sorted models
+		 */
+		private final Version[] fSortedVersions;
+
+		/**
+		 * Index of each sorted model in {@link #fModels}
+		 */
+		private final int[] fSortedIndices;
+
+		IdEntry(Map<String, ArrayList<IFeatureModel>> version2models) {
+			fVersion2models = new LinkedHashMap<>();
+			ArrayList<IFeatureModel> all = new ArrayList<>();
+			ArrayList<Version> versions = new ArrayList<>();
+			for (Map.Entry<String, ArrayList<IFeatureModel>> entry : version2models.entrySet()) {
+				ArrayList<IFeatureModel> models = entry.getValue();
+				fVersion2models.put(entry.getKey(), models.toArray(new IFeatureModel[models.size()]));
+				all.addAll(models);
+				Version version = parseVersion(entry.getKey());
+				for (int i = 0; i < models.size(); i++) {
+					versions.add(version);
+				}
+			}
+			fModels = all.toArray(new IFeatureModel[all.size()]);
+
+			Integer[] order = new Integer[fModels.length];
+			for (int i = 0; i < order.length; i++) {
+				order[i] = Integer.valueOf(i);
+			}
+			// stable sort, models with equal versions keep their order
+			Arrays.sort(order, Comparator.comparing(versions::get));
+			fSortedModels = new IFeatureModel[order.length];
+			fSortedVersions = new Version[order.length];
+			fSortedIndices = new int[order.length];
+			for (int i = 0; i < order.length; i++) {
+				fSortedIndices[i] = order[i].intValue();
+				fSortedModels[i] = fModels[fSortedIndices[i]];
+				fSortedVersions[i] = versions.get(fSortedIndices[i]);
+			}
+		}
+
+		IFeatureModel[] get(String version) {
+			IFeatureModel[] models = fVersion2models.get(version);
+			return models == null ? NO_MODELS : models.clone();
+		}
+
+		IFeatureModel[] getAll() {
+			return fModels.clone();
+		}
+
+		IFeatureModel[] get(VersionRange range) {
+			// first model with a version not lower than the left bound
+			int low = 0;
+			int high = fSortedVersions.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (fSortedVersions[mid].compareTo(range.getLeft()) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			Version right = range.getRight();
+			int[] indices = new int[fSortedVersions.length - low];
+			int count = 0;
+			for (int i = low; i < fSortedVersions.length; i++) {
+				if (right != null && fSortedVersions[i].compareTo(right) > 0) {
+					break;
+				}
+				if (range.includes(fSortedVersions[i])) {
+					indices[count++] = fSortedIndices[i];
+				}
+			}
+			// the matches are returned in the order of getAll()
+			Arrays.sort(indices, 0, count);
+			IFeatureModel[] result = new IFeatureModel[count];
+			for (int i = 0; i < count; i++) {
+				result[i] = fModels[indices[i]];
+			}
+			return result;
+		}
+
+		private static Version parseVersion(String version) {
+			if (version == null) {
+				return Version.emptyVersion;
+			}
+			try {
+				return Version.parseVersion(version);
+			} catch (IllegalArgumentException e) {
+				return Version.emptyVersion;
+			}
+		}
+	}
+
+	/**
+	 * Immutable state of the table as seen by lookups.
+	 */
+	private static final class Snapshot {
+		static final Snapshot EMPTY = new Snapshot(Map.of(), List.of());
+
+		/**
+		 * Map of Id to IdEntry
+		 */
+		final Map<Object, IdEntry> fId2entry;
+
+		/**
+		 * All models
+		 */
+		final List<IFeatureModel> fAllModels;
+
+		Snapshot(Map<Object, IdEntry> id2entry, List<IFeatureModel> allModels) {
+			fId2entry = id2entry;
+			fAllModels = allModels;
+		}
+	}
+
+	/**
+	 * Map of IFeatureModel to Idver, only accessed while holding the lock of
+	 * this table
 	 */
 	private final Map<IFeatureModel, Idver> fModel2idver;
 
 	/**
-	 * Map of Idver to ArrayList of IFeatureModel
+	 * Map of Id to version to ArrayList of IFeatureModel, only accessed while
+	 * holding the lock of this table
 	 */
-	private final Map<Idver, ArrayList<IFeatureModel>> fIdver2models;
+	private final Map<Object, Map<String, ArrayList<IFeatureModel>>> fId2models;
 
 	/**
-	 * Map of Id to ArrayList of Idver
+	 * Ids modified since the last snapshot was published
 	 */
-	private final Map<String, ArrayList<Idver>> fId2idvers;
+	private final Set<Object> fModifiedIds;
+
+	private int fBatchDepth;
+
+	private volatile Snapshot fSnapshot = Snapshot.EMPTY;
 
 	public FeatureTable() {
 
-		fModel2idver = new HashMap<>();
-		fIdver2models = new HashMap<>();
-		fId2idvers = new HashMap<>();
+		fModel2idver = new LinkedHashMap<>();
+		fId2models = new HashMap<>();
+		fModifiedIds = new HashSet<>();
+	}
+
+	private static Object key(String id) {
+		return id == null ? NULL_ID : id;
+	}
+
+	private IdEntry getEntry(String id) {
+		Object key = key(id);
+		if (Thread.holdsLock(this) && fBatchDepth > 0) {
+			// the modifications of a batch see each other
+			Map<String, ArrayList<IFeatureModel>> version2models = fId2models.get(key);
+			return version2models == null ? null : new IdEntry(version2models);
+		}
+		return fSnapshot.fId2entry.get(key);
 	}
 
 	public synchronized Idver get(IFeatureModel model) {
 		return fModel2idver.get(model);
 	}
 
-	public synchronized IFeatureModel[] get(String id, String version) {
-		return getImpl(new Idver(id, version));
+	public IFeatureModel[] get(String id, String version) {
+		IdEntry entry = getEntry(id);
+		return entry == null ? NO_MODELS : entry.get(version);
 	}
 
-	public synchronized IFeatureModel[] get(Idver idver) {
-		return getImpl(idver);
+	public IFeatureModel[] get(Idver idver) {
+		return get(idver.getId(), idver.getVer());
 	}
 
-	private IFeatureModel[] getImpl(Idver idver) {
-		ArrayList<IFeatureModel> models = fIdver2models.get(idver);
-		if (models == null) {
-			return NO_MODELS;
-		}
-		return models.toArray(new IFeatureModel[models.size()]);
+	public IFeatureModel[] get(String id) {
+		IdEntry entry = getEntry(id);
+		return entry == null ? NO_MODELS : entry.getAll();
 	}
 
-	public synchronized IFeatureModel[] get(String id) {
-		ArrayList<Idver> idvers = fId2idvers.get(id);
-		if (idvers == null) {
-			return NO_MODELS;
-		}
-		ArrayList<IFeatureModel> allModels = new ArrayList<>();
-		for (int i = 0; i < idvers.size(); i++) {
-			Idver idver = idvers.get(i);
-			ArrayList<IFeatureModel> models = fIdver2models.get(idver);
-			if (models == null) {
-				continue;
-			}
-			allModels.addAll(models);
-		}
-		return allModels.toArray(new IFeatureModel[allModels.size()]);
+	/**
+	 * Returns the models with the given id whose version is included in the
+	 * given range, in the order of {@link #get(String)}.
+	 *
+	 * @param id feature id
+	 * @param range version range
+	 * @return matching models, may be empty
+	 */
+	public IFeatureModel[] get(String id, VersionRange range) {
+		IdEntry entry = getEntry(id);
+		return entry == null ? NO_MODELS : entry.get(range);
 	}
 
-	public synchronized IFeatureModel[] getAll() {
-		return getAllImpl();
+	/**
+	 * Returns the models with the given id sorted by ascending version.
+	 *
+	 * @param id feature id
+	 * @return the models, may be empty
+	 */
+	public IFeatureModel[] getSortedByVersion(String id) {
+		IdEntry entry = getEntry(id);
+		return entry == null ? NO_MODELS : entry.fSortedModels.clone();
 	}
 
-	private IFeatureModel[] getAllImpl() {
-		return fModel2idver.keySet().toArray(new IFeatureModel[fModel2idver.size()]);
+	/**
+	 * Returns all models. The returned list is an immutable snapshot, it is
+	 * shared by all callers until the table is modified.
+	 *
+	 * @return all models
+	 */
+	public List<IFeatureModel> getAll() {
+		return fSnapshot.fAllModels;
+	}
+
+	/**
+	 * Runs the given modifications of the table, lookups only see their
+	 * result once all of them are done.
+	 *
+	 * @param modifications calls to {@link #add(IFeatureModel)} and
+	 *            {@link #remove(IFeatureModel)}
+	 */
+	public synchronized void batch(Runnable modifications) {
+		fBatchDepth++;
+		try {
+			modifications.run();
+		} finally {
+			if (--fBatchDepth == 0) {
+				publish();
+			}
+		}
 	}
 
 	/**
@@ -157,15 +358,20 @@ class FeatureTable {
 	 * @return Idver if model existed and was removed, null otherwise
 	 */
 	public synchronized Idver remove(IFeatureModel model) {
-		return removeImpl(model);
-	}
-
-	private Idver removeImpl(IFeatureModel model) {
 		Idver idver = fModel2idver.remove(model);
-		if (idver == null) {
-			return null;
+		if (idver != null) {
+			removeImpl(model, idver);
+			if (fBatchDepth == 0) {
+				publish();
+			}
 		}
-		ArrayList<IFeatureModel> models = fIdver2models.get(idver);
+		return idver;
+	}
+
+	private void removeImpl(IFeatureModel model, Idver idver) {
+		Object key = key(idver.getId());
+		Map<String, ArrayList<IFeatureModel>> version2models = fId2models.get(key);
+		ArrayList<IFeatureModel> models = version2models.get(idver.getVer());
 		for (int i = 0; i < models.size(); i++) {
 			if (models.get(i) == model) {
 				models.remove(i);
@@ -173,20 +379,12 @@ class FeatureTable {
 			}
 		}
 		if (models.isEmpty()) {
-			fIdver2models.remove(idver);
-
-			ArrayList<Idver> idvers = fId2idvers.get(idver.getId());
-			for (int i = 0; i < idvers.size(); i++) {
-				if (idvers.get(i).equals(idver)) {
-					idvers.remove(i);
-					break;
-				}
-			}
-			if (idvers.isEmpty()) {
-				fId2idvers.remove(idver.getId());
+			version2models.remove(idver.getVer());
+			if (version2models.isEmpty()) {
+				fId2models.remove(key);
 			}
 		}
-		return idver;
+		fModifiedIds.add(key);
 	}
 
 	/**
@@ -195,46 +393,63 @@ class FeatureTable {
 	 * @return Idver used during insertion
 	 */
 	public synchronized Idver add(IFeatureModel model) {
-		removeImpl(model);
-
 		IFeature feature = model.getFeature();
 		String id = feature.getId();
 		String ver = feature.getVersion();
 		Idver idver = new Idver(id, ver);
 
-		fModel2idver.put(model, idver);
-
-		ArrayList<IFeatureModel> models = fIdver2models.get(idver);
-		if (models == null) {
-			models = new ArrayList<>(1);
-			fIdver2models.put(idver, models);
+		Idver oldIdver = fModel2idver.put(model, idver);
+		if (oldIdver != null) {
+			removeImpl(model, oldIdver);
 		}
-		models.add(model);
 
-		ArrayList<Idver> idvers = fId2idvers.get(id);
-		if (idvers == null) {
-			idvers = new ArrayList<>(1);
-			fId2idvers.put(id, idvers);
+		Object key = key(id);
+		Map<String, ArrayList<IFeatureModel>> version2models = fId2models.computeIfAbsent(key, k -> new LinkedHashMap<>());
+		version2models.computeIfAbsent(ver, v -> new ArrayList<>(1)).add(model);
+		fModifiedIds.add(key);
+		if (fBatchDepth == 0) {
+			publish();
 		}
-		idvers.add(idver);
 
 		return idver;
 	}
 
+	/**
+	 * Replaces the snapshot seen by lookups with one that contains all
+	 * modifications made so far.
+	 */
+	private void publish() {
+		if (fModifiedIds.isEmpty()) {
+			return;
+		}
+		Map<Object, IdEntry> id2entry = new HashMap<>(fSnapshot.fId2entry);
+		for (Object key : fModifiedIds) {
+			Map<String, ArrayList<IFeatureModel>> version2models = fId2models.get(key);
+			if (version2models == null) {
+				id2entry.remove(key);
+			} else {
+				id2entry.put(key, new IdEntry(version2models));
+			}
+		}
+		fModifiedIds.clear();
+		fSnapshot = new Snapshot(id2entry, List.of(fModel2idver.keySet().toArray(new IFeatureModel[fModel2idver.size()])));
+	}
+
 	@Override
-	public synchronized String toString() {
-		IFeatureModel[] models = getAllImpl();
-		StringBuilder buf = new StringBuilder(30 * models.length);
+	public String toString() {
+		List<IFeatureModel> models = getAll();
+		StringBuilder buf = new StringBuilder(30 * models.size());
 		buf.append("["); //$NON-NLS-1$
-		for (int i = 0; i < models.length; i++) {
+		for (int i = 0; i < models.size(); i++) {
 			if (i > 0) {
 				buf.append(",  "); //$NON-NLS-1$
 			}
-			buf.append(get(models[i]));
+			IFeatureModel model = models.get(i);
+			buf.append(get(model));
 			buf.append("@"); //$NON-NLS-1$
-			buf.append(models[i].getFeature().getId());
+			buf.append(model.getFeature().getId());
 			buf.append("_"); //$NON-NLS-1$
-			buf.append(models[i].getFeature().getVersion());
+			buf.append(model.getFeature().getVersion());
 		}
 		buf.append("]"); //$NON-NLS-1$
 		return buf.toString();
@@ -352,6 +352,13 @@ public interface ICoreConstants {
 	 * build as background job
 	 */
 	String RUN_API_ANALYSIS_AS_JOB = "Preferences.MainPage.runAPIAnalysisAsJob";//$NON-NLS-1$
+	/**
+	 * Boolean preference whether the manifest builder computes the problems of
+	 * the files of a project concurrently and only locks its own project, so
+	 * that several projects may be validated at the same time. The markers of
+	 * a project are updated in a single workspace operation
+	 */
+	String RUN_MANIFEST_VALIDATION_IN_PARALLEL = "Preferences.MainPage.runManifestValidationInParallel";//$NON-NLS-1$
 	/**
 	 * Boolean preference whether add
 	 * '-Dorg.eclipse.swt.graphics.Resource.reportNonDisposed=true' to VM
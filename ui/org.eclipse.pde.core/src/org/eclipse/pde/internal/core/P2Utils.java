@@ -21,7 +21,9 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -239,6 +241,26 @@ public class P2Utils {
 	 */
 	public static URL writeBundlesTxt(Map<IPluginModelBase, String> bundles, int defaultStartLevel,
 			boolean defaultAutoStart, File directory, String osgiBundleList) {
+		return writeBundlesTxt(bundles, defaultStartLevel, defaultAutoStart, directory, osgiBundleList, false);
+	}
+
+	/**
+	 * Creates a bundles.info file as {@link #writeBundlesTxt(Map, int, boolean, File, String)}
+	 * does. When <code>onlyIfChanged</code> is <code>true</code> the existing
+	 * bundles.info and source.info are left untouched if their content would
+	 * not change, so the simple configurator of the launched application sees
+	 * the same timestamp and does not reconcile its bundles again.
+	 *
+	 * @param bundles map containing all bundles to write to the bundles.info, maps IPluginModelBase to String ("StartLevel:AutoStart")
+	 * @param defaultStartLevel start level to use when "default" is the start level
+	 * @param defaultAutoStart auto start setting to use when "default" is the auto start setting
+	 * @param directory configuration directory to create the files in
+	 * @param osgiBundleList a list of bundles coming from a template config.ini
+	 * @param onlyIfChanged whether files with the same content are kept as they are
+	 * @return URL location of the bundles.info or <code>null</code>
+	 */
+	public static URL writeBundlesTxt(Map<IPluginModelBase, String> bundles, int defaultStartLevel,
+			boolean defaultAutoStart, File directory, String osgiBundleList, boolean onlyIfChanged) {
 		if (bundles.isEmpty()) {
 			return null;
 		}
@@ -326,8 +348,8 @@ public class P2Utils {
 		SimpleConfiguratorManipulator manipulator = BundleHelper.getDefault()
 				.acquireService(SimpleConfiguratorManipulator.class);
 		try {
-			manipulator.saveConfiguration(infos, bundlesTxt, null);
-			manipulator.saveConfiguration(sources, srcBundlesTxt, null);
+			saveConfiguration(manipulator, infos, bundlesTxt, onlyIfChanged);
+			saveConfiguration(manipulator, sources, srcBundlesTxt, onlyIfChanged);
 		} catch (IOException e) {
 			PDECore.logException(e);
 			return null;
@@ -344,6 +366,25 @@ public class P2Utils {
 		}
 	}
 
+	private static void saveConfiguration(SimpleConfiguratorManipulator manipulator, BundleInfo[] infos, File file,
+			boolean onlyIfChanged) throws IOException {
+		if (!onlyIfChanged || !file.isFile()) {
+			manipulator.saveConfiguration(infos, file, null);
+			return;
+		}
+		File temp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			manipulator.saveConfiguration(infos, temp, null);
+			if (!temp.isFile()) {
+				Files.deleteIfExists(file.toPath());
+			} else if (!Arrays.equals(Files.readAllBytes(temp.toPath()), Files.readAllBytes(file.toPath()))) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp.toPath());
+		}
+	}
+
 	/**
 	 * Returns whether a profile with the given ID exists in a profile registry
 	 * stored in the give p2 data area.
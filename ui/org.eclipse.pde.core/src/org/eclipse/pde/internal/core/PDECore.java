@@ -67,12 +67,16 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 	public static boolean DEBUG_CLASSPATH = false;
 	public static boolean DEBUG_MODEL = false;
+	public static boolean DEBUG_TARGET_EXPORT = false;
 	public static boolean DEBUG_TARGET_PROFILE = false;
+	public static boolean DEBUG_TARGET_RESOLUTION = false;
 	public static boolean DEBUG_VALIDATION = false;
 	private static final String DEBUG_FLAG = PLUGIN_ID + "/debug"; //$NON-NLS-1$
 	private static final String CLASSPATH_DEBUG = PLUGIN_ID + "/classpath"; //$NON-NLS-1$
 	private static final String MODEL_DEBUG = PLUGIN_ID + "/model"; //$NON-NLS-1$
+	private static final String TARGET_EXPORT_DEBUG = PLUGIN_ID + "/target/export"; //$NON-NLS-1$
 	private static final String TARGET_PROFILE_DEBUG = PLUGIN_ID + "/target/profile"; //$NON-NLS-1$
+	private static final String TARGET_RESOLUTION_DEBUG = PLUGIN_ID + "/target/resolution"; //$NON-NLS-1$
 	private static final String VALIDATION_DEBUG = PLUGIN_ID + "/validation"; //$NON-NLS-1$
 
 	// Shared instance
@@ -426,7 +430,9 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		boolean DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_CLASSPATH = DEBUG && options.getBooleanOption(CLASSPATH_DEBUG, false);
 		DEBUG_MODEL = DEBUG && options.getBooleanOption(MODEL_DEBUG, false);
+		DEBUG_TARGET_EXPORT = DEBUG && options.getBooleanOption(TARGET_EXPORT_DEBUG, false);
 		DEBUG_TARGET_PROFILE = DEBUG && options.getBooleanOption(TARGET_PROFILE_DEBUG, false);
+		DEBUG_TARGET_RESOLUTION = DEBUG && options.getBooleanOption(TARGET_RESOLUTION_DEBUG, false);
 		DEBUG_VALIDATION = DEBUG && options.getBooleanOption(VALIDATION_DEBUG, false);
 	}
 }
@@ -0,0 +1,455 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+
+import org.eclipse.core.runtime.IContributor;
+import org.eclipse.core.runtime.spi.RegistryContributor;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.internal.core.util.VersionedDataFile;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Index of the extension points declared and extended by the plug-in models
+ * known to a {@link PDEExtensionRegistry}. It is built from the top level
+ * <code>extension</code> and <code>extension-point</code> elements of the
+ * plugin.xml/fragment.xml files, which allows the registry to answer extension
+ * point lookups without creating the full {@link org.eclipse.core.runtime.IExtensionRegistry}.
+ * <p>
+ * The parsed headers are kept per file and are reused as long as the file
+ * timestamp does not change. Model changes only index the models of the
+ * changed plug-ins again and update the extension points they mention. The
+ * headers can be persisted between sessions.
+ * </p>
+ */
+class PDEExtensionIndex {
+
+	private static final int VERSION = 1;
+
+	private static final String EXTENSION = "extension"; //$NON-NLS-1$
+	private static final String EXTENSION_POINT = "extension-point"; //$NON-NLS-1$
+
+	/**
+	 * The extension points declared and extended in a plugin.xml or
+	 * fragment.xml, with ids as they appear in the file.
+	 */
+	private static final class Header {
+		final long timestamp;
+		final String[] declared;
+		final String[] extended;
+
+		Header(long timestamp, String[] declared, String[] extended) {
+			this.timestamp = timestamp;
+			this.declared = declared;
+			this.extended = extended;
+		}
+	}
+
+	private static final class HeaderHandler extends DefaultHandler {
+		final List<String> declared = new ArrayList<>();
+		final List<String> extended = new ArrayList<>();
+		private int depth;
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			// only children of the <plugin> or <fragment> root are of interest
+			if (++depth != 2) {
+				return;
+			}
+			if (EXTENSION.equals(qName)) {
+				String point = attributes.getValue("point"); //$NON-NLS-1$
+				if (point != null) {
+					extended.add(point);
+				}
+			} else if (EXTENSION_POINT.equals(qName)) {
+				String id = attributes.getValue("id"); //$NON-NLS-1$
+				if (id != null) {
+					declared.add(id);
+				}
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			depth--;
+		}
+	}
+
+	/**
+	 * The extension points a model of the index declares and extends, with
+	 * qualified ids.
+	 */
+	private static final class Contribution {
+		final String id;
+		final String contributorId;
+		final String[] declared;
+		final String[] extended;
+
+		Contribution(String id, String contributorId, String[] declared, String[] extended) {
+			this.id = id;
+			this.contributorId = contributorId;
+			this.declared = declared;
+			this.extended = extended;
+		}
+	}
+
+	private final PDERegistryStrategy fStrategy;
+	private final VersionedDataFile fIndexFile;
+	private final Map<String, Header> fHeaders = new HashMap<>();
+	private boolean fHeadersChanged;
+
+	// null until the first query, then updated with the model changes
+	private Map<IPluginModelBase, Contribution> fContributions;
+	private final Map<String, IPluginModelBase> fContributors = new HashMap<>();
+	private final Map<String, Set<IPluginModelBase>> fDeclarers = new HashMap<>();
+	private final Map<String, Set<IPluginModelBase>> fExtenders = new HashMap<>();
+	private final Map<String, IPluginModelBase> fDeclaringModels = new HashMap<>();
+	private final Map<String, Set<IPluginModelBase>> fExtendingModels = new HashMap<>();
+	// ids of the plug-ins whose models changed since the last query
+	private final Set<String> fChangedIds = new HashSet<>();
+
+	/**
+	 * @param strategy the strategy of the registry the index belongs to, used
+	 *            to decide which models contribute to the registry
+	 * @param indexFile file to persist the index in or <code>null</code>
+	 */
+	PDEExtensionIndex(PDERegistryStrategy strategy, File indexFile) {
+		fStrategy = strategy;
+		fIndexFile = indexFile != null ? new VersionedDataFile(indexFile, VERSION) : null;
+		load();
+	}
+
+	/**
+	 * Returns the model that declares the extension point with the given id,
+	 * i.e. the model that would be the contributor of the extension point in
+	 * the extension registry.
+	 *
+	 * @param models the models of the registry, workspace models first
+	 * @param pointId full id of the extension point
+	 * @return the declaring model or <code>null</code> if the extension point
+	 *         does not exist
+	 */
+	synchronized IPluginModelBase getDeclaringModel(IPluginModelBase[] models, String pointId) {
+		ensureIndexed(models);
+		return fDeclaringModels.get(pointId);
+	}
+
+	/**
+	 * Returns the models that contribute extensions to the extension point
+	 * with the given id.
+	 *
+	 * @param models the models of the registry, workspace models first
+	 * @param pointId full id of the extension point
+	 * @return the extending models in registration order, may be empty
+	 */
+	synchronized IPluginModelBase[] getExtendingModels(IPluginModelBase[] models, String pointId) {
+		ensureIndexed(models);
+		Set<IPluginModelBase> extending = fExtendingModels.getOrDefault(pointId, Collections.emptySet());
+		return extending.toArray(new IPluginModelBase[extending.size()]);
+	}
+
+	/**
+	 * Forgets the lookup tables, they are rebuilt from the current models on
+	 * the next query. Headers of unchanged files are reused.
+	 */
+	synchronized void invalidate() {
+		fContributions = null;
+		fChangedIds.clear();
+	}
+
+	/**
+	 * Remembers the plug-ins of the delta, only their models are indexed again
+	 * on the next query.
+	 */
+	synchronized void modelsChanged(PluginModelDelta delta) {
+		addChangedIds(delta.getAddedEntries());
+		addChangedIds(delta.getRemovedEntries());
+		addChangedIds(delta.getChangedEntries());
+	}
+
+	/**
+	 * Remembers the plug-ins of the event, only their models are indexed again
+	 * on the next query.
+	 */
+	synchronized void extensionsChanged(IExtensionDeltaEvent event) {
+		addChangedIds(event.getAddedModels());
+		addChangedIds(event.getRemovedModels());
+		addChangedIds(event.getChangedModels());
+	}
+
+	private void addChangedIds(ModelEntry[] entries) {
+		if (fContributions == null) {
+			return;
+		}
+		for (ModelEntry entry : entries) {
+			fChangedIds.add(entry.getId());
+		}
+	}
+
+	private void addChangedIds(IPluginModelBase[] models) {
+		if (fContributions == null) {
+			return;
+		}
+		for (IPluginModelBase model : models) {
+			fChangedIds.add(getId(model));
+		}
+	}
+
+	private void ensureIndexed(IPluginModelBase[] models) {
+		if (fContributions != null && fChangedIds.isEmpty()) {
+			return;
+		}
+		Set<String> affectedPoints = new HashSet<>();
+		if (fContributions == null) {
+			fContributions = new HashMap<>();
+			fContributors.clear();
+			fDeclarers.clear();
+			fExtenders.clear();
+			fDeclaringModels.clear();
+			fExtendingModels.clear();
+			for (IPluginModelBase model : models) {
+				add(model, affectedPoints);
+			}
+		} else {
+			// drop the models of the changed plug-ins, then index their current models
+			for (Iterator<Map.Entry<IPluginModelBase, Contribution>> i = fContributions.entrySet().iterator(); i.hasNext();) {
+				Map.Entry<IPluginModelBase, Contribution> entry = i.next();
+				if (fChangedIds.contains(entry.getValue().id)) {
+					i.remove();
+					unregister(entry.getKey(), entry.getValue(), affectedPoints);
+				}
+			}
+			for (IPluginModelBase model : models) {
+				if (fChangedIds.contains(getId(model))) {
+					add(model, affectedPoints);
+				}
+			}
+		}
+		fChangedIds.clear();
+
+		Map<IPluginModelBase, Integer> order = new HashMap<>();
+		for (int i = 0; i < models.length; i++) {
+			order.putIfAbsent(models[i], i);
+		}
+		Comparator<IPluginModelBase> byOrder = Comparator.comparingInt(m -> order.getOrDefault(m, Integer.MAX_VALUE));
+		for (String point : affectedPoints) {
+			// the first declaration of an extension point wins
+			Set<IPluginModelBase> declarers = fDeclarers.get(point);
+			if (declarers == null) {
+				fDeclaringModels.remove(point);
+			} else {
+				fDeclaringModels.put(point, Collections.min(declarers, byOrder));
+			}
+			Set<IPluginModelBase> extenders = fExtenders.get(point);
+			if (extenders == null) {
+				fExtendingModels.remove(point);
+			} else {
+				List<IPluginModelBase> sorted = new ArrayList<>(extenders);
+				sorted.sort(byOrder);
+				fExtendingModels.put(point, new LinkedHashSet<>(sorted));
+			}
+		}
+	}
+
+	private void add(IPluginModelBase model, Set<String> affectedPoints) {
+		IContributor contributor = fStrategy.createContributor(model);
+		if (contributor == null) {
+			return;
+		}
+		String contributorId = ((RegistryContributor) contributor).getActualId();
+		if (fContributors.containsKey(contributorId)) {
+			// the registry ignores a second contribution of the same bundle
+			return;
+		}
+		Header header = getHeader(model);
+		if (header == null) {
+			return;
+		}
+		String namespace = contributor.getName();
+		String[] declared = new String[header.declared.length];
+		for (int i = 0; i < declared.length; i++) {
+			declared[i] = qualify(namespace, header.declared[i]);
+		}
+		String[] extended = new String[header.extended.length];
+		for (int i = 0; i < extended.length; i++) {
+			extended[i] = qualify(namespace, header.extended[i]);
+		}
+		Contribution contribution = new Contribution(getId(model), contributorId, declared, extended);
+		fContributions.put(model, contribution);
+		fContributors.put(contributorId, model);
+		for (String point : declared) {
+			fDeclarers.computeIfAbsent(point, p -> new HashSet<>()).add(model);
+			affectedPoints.add(point);
+		}
+		for (String point : extended) {
+			fExtenders.computeIfAbsent(point, p -> new HashSet<>()).add(model);
+			affectedPoints.add(point);
+		}
+	}
+
+	private void unregister(IPluginModelBase model, Contribution contribution, Set<String> affectedPoints) {
+		fContributors.remove(contribution.contributorId, model);
+		for (String point : contribution.declared) {
+			remove(fDeclarers, point, model);
+			affectedPoints.add(point);
+		}
+		for (String point : contribution.extended) {
+			remove(fExtenders, point, model);
+			affectedPoints.add(point);
+		}
+	}
+
+	private static void remove(Map<String, Set<IPluginModelBase>> map, String point, IPluginModelBase model) {
+		Set<IPluginModelBase> models = map.get(point);
+		if (models != null && models.remove(model) && models.isEmpty()) {
+			map.remove(point);
+		}
+	}
+
+	private static String getId(IPluginModelBase model) {
+		String id = model.getPluginBase().getId();
+		return id != null ? id : ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Same rule as the extension registry: ids containing a dot are fully
+	 * qualified, other ids are relative to the contributor namespace.
+	 */
+	private static String qualify(String namespace, String id) {
+		return id.indexOf('.') != -1 ? id : namespace + '.' + id;
+	}
+
+	private Header getHeader(IPluginModelBase model) {
+		String location = model.getInstallLocation();
+		if (location == null) {
+			return null;
+		}
+		File file = new File(location);
+		boolean archive = file.isFile();
+		String fileName = model.isFragmentModel() ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR : ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
+		if (!archive) {
+			file = new File(file, fileName);
+		}
+		String key = file.getAbsolutePath();
+		long timestamp = file.lastModified();
+		if (timestamp == 0) {
+			// file does not exist
+			if (fHeaders.remove(key) != null) {
+				fHeadersChanged = true;
+			}
+			return null;
+		}
+		Header header = fHeaders.get(key);
+		if (header == null || header.timestamp != timestamp) {
+			header = parse(file, archive ? fileName : null, timestamp);
+			fHeaders.put(key, header);
+			fHeadersChanged = true;
+		}
+		return header;
+	}
+
+	private static Header parse(File file, String entryName, long timestamp) {
+		HeaderHandler handler = new HeaderHandler();
+		try {
+			if (entryName == null) {
+				try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+					parse(stream, handler);
+				}
+			} else {
+				try (ZipFile jar = new ZipFile(file, ZipFile.OPEN_READ)) {
+					ZipEntry entry = jar.getEntry(entryName);
+					if (entry != null) {
+						try (InputStream stream = new BufferedInputStream(jar.getInputStream(entry))) {
+							parse(stream, handler);
+						}
+					}
+				}
+			}
+		} catch (IOException | SAXException | ParserConfigurationException e) {
+			// keep whatever was read before the problem, the registry does the same
+		}
+		return new Header(timestamp, handler.declared.toArray(String[]::new), handler.extended.toArray(String[]::new));
+	}
+
+	private static void parse(InputStream stream, HeaderHandler handler) throws ParserConfigurationException, SAXException, IOException {
+		@SuppressWarnings("restriction")
+		SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE();
+		parser.parse(stream, handler);
+	}
+
+	private void load() {
+		if (fIndexFile == null) {
+			return;
+		}
+		Map<String, Header> headers = fIndexFile.read(in -> {
+			Map<String, Header> read = new HashMap<>();
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String key = in.readUTF();
+				long timestamp = in.readLong();
+				String[] declared = VersionedDataFile.readStrings(in);
+				String[] extended = VersionedDataFile.readStrings(in);
+				read.put(key, new Header(timestamp, declared, extended));
+			}
+			return read;
+		});
+		if (headers != null) {
+			fHeaders.putAll(headers);
+		}
+	}
+
+	/**
+	 * Writes the parsed headers to the index file if they have changed since
+	 * they were loaded.
+	 */
+	synchronized void save() {
+		if (fIndexFile == null || !fHeadersChanged) {
+			return;
+		}
+		fIndexFile.write(out -> {
+			out.writeInt(fHeaders.size());
+			for (Map.Entry<String, Header> entry : fHeaders.entrySet()) {
+				Header header = entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeLong(header.timestamp);
+				VersionedDataFile.writeStrings(out, header.declared);
+				VersionedDataFile.writeStrings(out, header.extended);
+			}
+		});
+		fHeadersChanged = false;
+	}
+}
@@ -43,11 +43,15 @@ public class PDEExtensionRegistry {
 	private final Object fUserKey = new Object();
 	private IExtensionRegistry fRegistry = null;
 	private PDERegistryStrategy fStrategy = null;
+	private PDEExtensionIndex fIndex = null;
+	private IPluginModelListener fIndexModelListener = null;
+	private IExtensionDeltaListener fIndexExtensionListener = null;
 
 	private IPluginModelBase[] fModels = null;
 	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
 
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
+	private static final String INDEX_FILE = ".extensionIndex"; //$NON-NLS-1$
 
 	public PDEExtensionRegistry() {
 		if (fStrategy == null) {
@@ -56,6 +60,11 @@ public class PDEExtensionRegistry {
 			// This way we can listen to events in PDE without creating the registry until we need it.
 			fStrategy = new PDERegistryStrategy(new File[] {extensionsDir}, new boolean[] {false}, fMasterKey, this);
 		}
+		// extension point lookups are answered from the index as long as nobody needs the real registry
+		fIndex = new PDEExtensionIndex(fStrategy, new File(PDECore.getDefault().getStateLocation().toFile(), INDEX_FILE));
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		manager.addPluginModelListener(fIndexModelListener = fIndex::modelsChanged);
+		manager.addExtensionDeltaListener(fIndexExtensionListener = fIndex::extensionsChanged);
 	}
 
 	public PDEExtensionRegistry(IPluginModelBase[] models) {
@@ -65,6 +74,8 @@ public class PDEExtensionRegistry {
 			// Use TargetPDERegistryStrategy so we don't connect listeners to PluginModelManager.  This is used only in target so we don't need change events.
 			fStrategy = new TargetPDERegistryStrategy(new File[] {extensionsDir}, new boolean[] {false}, fMasterKey, this);
 		}
+		// the models are fixed, no need to listen for changes or to persist the index
+		fIndex = new PDEExtensionIndex(fStrategy, null);
 	}
 
 	// Methods used to control information/status of Extension Registry
@@ -103,6 +114,14 @@ public class PDEExtensionRegistry {
 		return RegistryFactory.createRegistry(fStrategy, fMasterKey, fUserKey);
 	}
 
+	/**
+	 * Returns whether the registry has been created. Until then, extension
+	 * point queries are answered by the index.
+	 */
+	private synchronized boolean isRegistryCreated() {
+		return fRegistry != null;
+	}
+
 	public void targetReloaded() {
 		// stop old registry (which will write contents to FS) and delete the cache it creates
 		// might see if we can dispose of a registry without writing to file system.  NOTE: Don't call stop() because we want to still reuse fStrategy
@@ -111,17 +130,27 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		fIndex.invalidate();
 	}
 
 	// dispose of registry without writing contents.
 	public void dispose() {
 		fStrategy.dispose();
 		fRegistry = null;
+		if (fIndexModelListener != null) {
+			PluginModelManager manager = PDECore.getDefault().getModelManager();
+			manager.removePluginModelListener(fIndexModelListener);
+			manager.removeExtensionDeltaListener(fIndexExtensionListener);
+		}
+		fIndex.save();
 	}
 
 	// Methods to access data in Extension Registry
 
 	public IPluginModelBase[] findExtensionPlugins(String pointId, boolean activeOnly) {
+		if (!isRegistryCreated()) {
+			return findIndexedExtensionPlugins(pointId, activeOnly);
+		}
 		IExtensionPoint point = getExtensionPoint(pointId);
 		if (point == null) {
 			// if extension point for extension does not exist, search all plug-ins manually
@@ -138,10 +167,30 @@ public class PDEExtensionRegistry {
 		return plugins.toArray(new IPluginModelBase[plugins.size()]);
 	}
 
+	private IPluginModelBase[] findIndexedExtensionPlugins(String pointId, boolean activeOnly) {
+		IPluginModelBase[] models = getModels();
+		if (fIndex.getDeclaringModel(models, pointId) == null) {
+			// if extension point for extension does not exist, search all plug-ins manually
+			return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
+		}
+		HashSet<IPluginModelBase> plugins = new HashSet<>();
+		for (IPluginModelBase model : fIndex.getExtendingModels(models, pointId)) {
+			IPluginModelBase base = getPlugin(fStrategy.createContributor(model), false);
+			if (base != null && (!activeOnly || base.isEnabled())) {
+				plugins.add(base);
+			}
+		}
+		return plugins.toArray(new IPluginModelBase[plugins.size()]);
+	}
+
 	/*
 	 * Returns IPluginModelBase even if the model is not enabled
 	 */
 	public IPluginModelBase findExtensionPointPlugin(String pointId) {
+		if (!isRegistryCreated()) {
+			IPluginModelBase model = fIndex.getDeclaringModel(getModels(), pointId);
+			return model == null ? null : getPlugin(fStrategy.createContributor(model), true);
+		}
 		IExtensionPoint point = getExtensionPoint(pointId);
 		if (point == null) {
 			return null;
@@ -161,6 +210,9 @@ public class PDEExtensionRegistry {
 		//		IExtensionPoint point = getExtensionPoint(pointId);
 		//		IPluginModelBase base = (point != null) ? getPlugin(point.getContributor(), false) : null;
 		//		return (base != null) ? base.isEnabled() : false;
+		if (!isRegistryCreated()) {
+			return fIndex.getDeclaringModel(getModels(), pointId) != null;
+		}
 		return getExtensionPoint(pointId) != null;
 	}
 
@@ -168,15 +220,23 @@ public class PDEExtensionRegistry {
 	 * Returns IPluginExtenionPoint for extension point id for any model (both enabled/disabled)
 	 */
 	public IPluginExtensionPoint findExtensionPoint(String pointId) {
-		IExtensionPoint extPoint = getExtensionPoint(pointId);
-		if (extPoint != null) {
-			IPluginModelBase model = getPlugin(extPoint.getContributor(), true);
-			if (model != null) {
-				IPluginExtensionPoint[] points = model.getPluginBase().getExtensionPoints();
-				for (IPluginExtensionPoint point : points) {
-					if (point.getFullId().equals(pointId)) {
-						return point;
-					}
+		IPluginModelBase model = null;
+		if (!isRegistryCreated()) {
+			IPluginModelBase declaringModel = fIndex.getDeclaringModel(getModels(), pointId);
+			if (declaringModel != null) {
+				model = getPlugin(fStrategy.createContributor(declaringModel), true);
+			}
+		} else {
+			IExtensionPoint extPoint = getExtensionPoint(pointId);
+			if (extPoint != null) {
+				model = getPlugin(extPoint.getContributor(), true);
+			}
+		}
+		if (model != null) {
+			IPluginExtensionPoint[] points = model.getPluginBase().getExtensionPoints();
+			for (IPluginExtensionPoint point : points) {
+				if (point.getFullId().equals(pointId)) {
+					return point;
 				}
 			}
 		}
@@ -223,6 +283,10 @@ public class PDEExtensionRegistry {
 	}
 
 	public IExtension[] findExtensions(String extensionPointId, boolean activeOnly) {
+		if (!isRegistryCreated() && fIndex.getExtendingModels(getModels(), extensionPointId).length == 0) {
+			// nobody contributes to the extension point, no need to create the registry
+			return new IExtension[0];
+		}
 		ArrayList<IExtension> list = new ArrayList<>();
 		IExtensionPoint point = getExtensionPoint(extensionPointId);
 		if (point != null) {
@@ -283,15 +347,18 @@ public class PDEExtensionRegistry {
 
 	// Methods to add/remove listeners
 
-	public void addListener(IRegistryChangeListener listener) {
-		fRegistry.addRegistryChangeListener(listener);
+	public synchronized void addListener(IRegistryChangeListener listener) {
+		// registry change events are only sent by the real registry
+		getRegistry().addRegistryChangeListener(listener);
 		if (!fListeners.contains(listener)) {
 			fListeners.add(listener);
 		}
 	}
 
-	public void removeListener(IRegistryChangeListener listener) {
-		fRegistry.removeRegistryChangeListener(listener);
+	public synchronized void removeListener(IRegistryChangeListener listener) {
+		if (fRegistry != null) {
+			fRegistry.removeRegistryChangeListener(listener);
+		}
 		fListeners.remove(listener);
 	}
 
@@ -72,7 +72,8 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		@Override
 		public void modelsChanged(PluginModelDelta delta) {
 			if (fRegistry == null) {
-				createRegistry();
+				// the registry is built from the current models once it is needed
+				return;
 			}
 			// can ignore removed models since the ModelEntries is empty
 			ModelEntry[] entries = delta.getChangedEntries();
@@ -116,7 +117,8 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		@Override
 		public void extensionsChanged(IExtensionDeltaEvent event) {
 			if (fRegistry == null) {
-				createRegistry();
+				// the registry is built from the current models once it is needed
+				return;
 			}
 			IPluginModelBase[] bases = event.getRemovedModels();
 			removeModels(bases, false);
@@ -323,10 +325,6 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		}
 	}
 
-	private void createRegistry() {
-		fPDERegistry.getRegistry();
-	}
-
 	// Same timestamp calculations as PDEState.computeTimestamp(URL[] urls, long timestamp)
 	@Override
 	public long getContributionsTimestamp() {
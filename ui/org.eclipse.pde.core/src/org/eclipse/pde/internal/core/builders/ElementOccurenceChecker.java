@@ -16,11 +16,13 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 
 import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
 import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.Occurrence;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -59,6 +61,56 @@ public class ElementOccurenceChecker {
 		return processChildrenMin(sElement, tagNameMap);
 	}
 
+	/**
+	 * @param occurrences precomputed occurrence rules of a choice free content
+	 * model
+	 * @param element
+	 * @return A set of elements that are first-level children of
+	 * <code>element</code>, that violate the max bounds of
+	 * <code>occurrences</code>.
+	 */
+	public static HashSet<ElementOccurrenceResult> findMaxOccurenceViolations(List<Occurrence> occurrences, Element element) {
+		HashSet<ElementOccurrenceResult> elementSet = new HashSet<>();
+		if (occurrences.isEmpty()) {
+			return elementSet;
+		}
+		HashMap<String, Integer> tagNameMap = countXMLChildrenByTagName(element);
+		for (Occurrence occurrence : occurrences) {
+			ISchemaElement schemaElement = occurrence.getElement();
+			Integer found = tagNameMap.get(schemaElement.getName());
+			if (found != null && found.intValue() > occurrence.getMaxOccurs()) {
+				Element childElement = findChildElement(element, schemaElement.getName());
+				elementSet.add(new ElementOccurrenceResult(childElement, schemaElement, found.intValue(), occurrence.getMaxOccurs()));
+			}
+		}
+		return elementSet;
+	}
+
+	/**
+	 * @param occurrences precomputed occurrence rules of a choice free content
+	 * model
+	 * @param element
+	 * @return A set of elements that are first-level children of
+	 * <code>element</code>, that violate the min bounds of
+	 * <code>occurrences</code>.
+	 */
+	public static HashSet<ElementOccurrenceResult> findMinOccurenceViolations(List<Occurrence> occurrences, Element element) {
+		HashSet<ElementOccurrenceResult> elementSet = new HashSet<>();
+		if (occurrences.isEmpty()) {
+			return elementSet;
+		}
+		HashMap<String, Integer> tagNameMap = countXMLChildrenByTagName(element);
+		for (Occurrence occurrence : occurrences) {
+			ISchemaElement schemaElement = occurrence.getElement();
+			Integer found = tagNameMap.get(schemaElement.getName());
+			int count = found == null ? 0 : found.intValue();
+			if (count < occurrence.getMinOccurs()) {
+				elementSet.add(new ElementOccurrenceResult(null, schemaElement, count, occurrence.getMinOccurs()));
+			}
+		}
+		return elementSet;
+	}
+
 	/**
 	 * @param element
 	 * @return A hash containing singleton entries of node's children mapped
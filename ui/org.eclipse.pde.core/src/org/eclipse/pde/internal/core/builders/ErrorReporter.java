@@ -27,7 +27,7 @@ import org.eclipse.jface.text.IDocument;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
 
-public abstract class ErrorReporter {
+public abstract class ErrorReporter implements IDeferredMarkerReporter {
 
 	protected static final String[] BOOLEAN_VALUES = new String[] { "true", "false" }; //$NON-NLS-1$ //$NON-NLS-2$
 
@@ -110,10 +110,21 @@ public abstract class ErrorReporter {
 		return report(message, line, compilerFlag, PDEMarkerFactory.M_ONLY_CONFIG_SEV, category);
 	}
 
+	@Override
 	public final void validateContent(IProgressMonitor monitor) {
 		validate(monitor);
 		fErrorReporter.applyMarkers();
 	}
 
+	@Override
+	public final void computeProblems(IProgressMonitor monitor) {
+		validate(monitor);
+	}
+
+	@Override
+	public final void applyMarkers() {
+		fErrorReporter.applyMarkers();
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 }
@@ -18,7 +18,9 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
 
 import org.eclipse.core.resources.IFile;
@@ -49,16 +51,15 @@ import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
-import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
-import org.eclipse.pde.internal.core.ischema.ISchemaObject;
-import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
 import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
 import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
-import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
-import org.eclipse.pde.internal.core.ischema.ISchemaType;
 import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.schema.CompiledSchema;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.AttributeKind;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.CompiledElement;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.Occurrence;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.core.util.IdUtil;
@@ -78,6 +79,10 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	 */
 	private final IPluginModelBase fModel;
 	private IBuild fBuildModel;
+	/**
+	 * Compiled schema of the extension point of the extension being validated.
+	 */
+	private CompiledSchema fCompiledSchema;
 
 	public ExtensionsErrorReporter(IFile file) {
 		super(file);
@@ -167,9 +172,9 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			}
 		} else {
 			SchemaRegistry reg = PDECore.getDefault().getSchemaRegistry();
-			ISchema schema = reg.getSchema(pointID);
-			if (schema != null) {
-				validateElement(element, schema, true);
+			fCompiledSchema = reg.getCompiledSchema(pointID);
+			if (fCompiledSchema != null) {
+				validateElement(element, fCompiledSchema.getSchema(), true);
 			}
 		}
 	}
@@ -228,9 +233,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		if (parentSchema != null) {
 			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
 			if (severity != CompilerFlags.IGNORE) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(parentSchema.getType(), allowedElements);
-				if (!allowedElements.contains(elementName)) {
+				if (!getAllowedElements(parentSchema).contains(elementName)) {
 					reportIllegalElement(element, severity);
 					return;
 				}
@@ -304,7 +307,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		// Validate min element occurence violations
 		int minSeverity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
 		if (minSeverity != CompilerFlags.IGNORE) {
-			HashSet<ElementOccurrenceResult> minElementSet = ElementOccurenceChecker.findMinOccurenceViolations(schemaElement, element);
+			List<Occurrence> occurrences = getOccurrences(schemaElement);
+			HashSet<ElementOccurrenceResult> minElementSet = occurrences != null ? ElementOccurenceChecker.findMinOccurenceViolations(occurrences, element) : ElementOccurenceChecker.findMinOccurenceViolations(schemaElement, element);
 			Iterator<ElementOccurrenceResult> minIterator = minElementSet.iterator();
 
 			while (minIterator.hasNext()) {
@@ -321,7 +325,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		// Validate max element occurence violations
 		int maxSeverity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
 		if (maxSeverity != CompilerFlags.IGNORE) {
-			HashSet<ElementOccurrenceResult> maxElementSet = ElementOccurenceChecker.findMaxOccurenceViolations(schemaElement, element);
+			List<Occurrence> occurrences = getOccurrences(schemaElement);
+			HashSet<ElementOccurrenceResult> maxElementSet = occurrences != null ? ElementOccurenceChecker.findMaxOccurenceViolations(occurrences, element) : ElementOccurenceChecker.findMaxOccurenceViolations(schemaElement, element);
 			Iterator<ElementOccurrenceResult> maxIterator = maxElementSet.iterator();
 			while (maxIterator.hasNext()) {
 				reportMaxOccurenceViolation(maxIterator.next(), maxSeverity);
@@ -329,34 +334,16 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
-	private void computeAllowedElements(ISchemaType type, HashSet<String> elementSet) {
-		if (type instanceof ISchemaComplexType complexType) {
-			ISchemaCompositor compositor = complexType.getCompositor();
-			if (compositor != null) {
-				computeAllowedElements(compositor, elementSet);
-			}
+	private Set<String> getAllowedElements(ISchemaElement schemaElement) {
+		return getCompiledElement(schemaElement).getAllowedChildren();
+	}
 
-			ISchemaAttribute[] attrs = complexType.getAttributes();
-			for (ISchemaAttribute attr : attrs) {
-				if (attr.getKind() == IMetaAttribute.JAVA) {
-					elementSet.add(attr.getName());
-				}
-			}
-		}
+	private List<Occurrence> getOccurrences(ISchemaElement schemaElement) {
+		return getCompiledElement(schemaElement).getOccurrences();
 	}
 
-	private void computeAllowedElements(ISchemaCompositor compositor, HashSet<String> elementSet) {
-		ISchemaObject[] children = compositor.getChildren();
-		for (ISchemaObject child : children) {
-			if (child instanceof ISchemaObjectReference ref) {
-				ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
-				if (refElement != null) {
-					elementSet.add(refElement.getName());
-				}
-			} else if (child instanceof ISchemaCompositor) {
-				computeAllowedElements((ISchemaCompositor) child, elementSet);
-			}
-		}
+	private CompiledElement getCompiledElement(ISchemaElement schemaElement) {
+		return fCompiledSchema.getElement(schemaElement);
 	}
 
 	private void validateRequiredExtensionAttributes(Element element, ISchemaElement schemaElement) {
@@ -365,34 +352,31 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			return;
 		}
 
-		ISchemaAttribute[] attInfos = schemaElement.getAttributes();
+		ISchemaAttribute[] attInfos = getCompiledElement(schemaElement).getRequiredAttributes();
 		for (ISchemaAttribute attInfo : attInfos) {
-			if (attInfo.getUse() == ISchemaAttribute.REQUIRED) {
-				boolean found = element.getAttributeNode(attInfo.getName()) != null;
-				if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
-					NodeList children = element.getChildNodes();
-					for (int j = 0; j < children.getLength(); j++) {
-						if (attInfo.getName().equals(children.item(j).getNodeName())) {
-							found = true;
-							break;
-						}
+			boolean found = element.getAttributeNode(attInfo.getName()) != null;
+			if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
+				NodeList children = element.getChildNodes();
+				for (int j = 0; j < children.getLength(); j++) {
+					if (attInfo.getName().equals(children.item(j).getNodeName())) {
+						found = true;
+						break;
 					}
 				}
-				if (!found) {
-					reportMissingRequiredAttribute(element, attInfo.getName(), severity);
-				}
+			}
+			if (!found) {
+				reportMissingRequiredAttribute(element, attInfo.getName(), severity);
 			}
 		}
 	}
 
 	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, ISchemaElement schemaElement) {
+		CompiledElement compiledElement = getCompiledElement(schemaElement);
 		for (int i = 0; i < attrs.getLength(); i++) {
 			Attr attr = (Attr) attrs.item(i);
-			ISchemaAttribute attInfo = schemaElement.getAttribute(attr.getName());
+			ISchemaAttribute attInfo = compiledElement.getAttribute(attr.getName());
 			if (attInfo == null) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(schemaElement.getType(), allowedElements);
-				if (allowedElements.contains(attr.getName())) {
+				if (compiledElement.getAllowedChildren().contains(attr.getName())) {
 					validateJavaAttribute(element, attr);
 				} else {
 					int flag = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ATTRIBUTE);
@@ -401,28 +385,30 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 					}
 				}
 			} else {
-				validateExtensionAttribute(element, attr, attInfo);
+				validateExtensionAttribute(element, attr, attInfo, compiledElement.getAttributeKind(attr.getName()));
 			}
 		}
 	}
 
-	private void validateExtensionAttribute(Element element, Attr attr, ISchemaAttribute attInfo) {
-		ISchemaSimpleType type = attInfo.getType();
-
-		int kind = attInfo.getKind();
-		if (kind == IMetaAttribute.JAVA) {
-			validateJavaAttribute(element, attr);
-		} else if (kind == IMetaAttribute.RESOURCE) {
-			validateResourceAttribute(element, attr);
-		} else if (kind == IMetaAttribute.IDENTIFIER) {
-			validateIdentifierAttribute(element, attr, attInfo);
-		} else if (kind == IMetaAttribute.STRING) {
-			ISchemaRestriction restriction = type.getRestriction();
-			if (restriction != null) {
-				validateRestrictionAttribute(element, attr, restriction);
-			}
-		} else if (type.getName().equals("boolean")) { //$NON-NLS-1$
-			validateBoolean(element, attr);
+	private void validateExtensionAttribute(Element element, Attr attr, ISchemaAttribute attInfo, AttributeKind kind) {
+		switch (kind) {
+			case JAVA :
+				validateJavaAttribute(element, attr);
+				break;
+			case RESOURCE :
+				validateResourceAttribute(element, attr);
+				break;
+			case IDENTIFIER :
+				validateIdentifierAttribute(element, attr, attInfo);
+				break;
+			case RESTRICTED_STRING :
+				validateRestrictionAttribute(element, attr, attInfo.getType().getRestriction());
+				break;
+			case BOOLEAN :
+				validateBoolean(element, attr);
+				break;
+			default :
+				break;
 		}
 
 		validateTranslatableString(element, attr, attInfo.isTranslatable());
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * A reporter whose marker updates can be separated from the validation of its
+ * file, so that the builder can update the markers of several files at once.
+ */
+interface IDeferredMarkerReporter {
+
+	/**
+	 * Validates the file and updates its markers.
+	 *
+	 * @param monitor progress monitor
+	 */
+	void validateContent(IProgressMonitor monitor);
+
+	/**
+	 * Computes the problems of the file without touching its markers. The
+	 * problems are only turned into markers by a subsequent call to
+	 * {@link #applyMarkers()}.
+	 *
+	 * @param monitor progress monitor
+	 */
+	void computeProblems(IProgressMonitor monitor);
+
+	/**
+	 * Updates the markers of the file with the problems computed by
+	 * {@link #computeProblems(IProgressMonitor)}.
+	 */
+	void applyMarkers();
+}
@@ -18,9 +18,14 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -29,10 +34,14 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.MultiRule;
@@ -40,8 +49,10 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
 import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.util.WorkerPool;
 import org.osgi.framework.Bundle;
 
 public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
@@ -246,6 +257,10 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 
 	private void validateProject(int type, IProgressMonitor monitor) {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.ManifestConsistencyChecker_builderTaskName, getWorkAmount(type));
+		// in parallel mode the files are only collected here, their problems
+		// are computed concurrently afterwards and the markers are updated in
+		// one workspace operation
+		List<DeferredValidation> deferred = isRunningInParallel() ? new ArrayList<>(3) : null;
 		if ((type & STRUCTURE) != 0) {
 			validateProjectStructure(type, subMonitor.split(1));
 		}
@@ -258,16 +273,117 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			}
 
 			if (file.exists()) {
-				validateFiles(file, type, monitor);
+				validateFiles(file, type, deferred, monitor);
 			} else if ((type & MANIFEST) != 0) {
 				IFile manifestFile = PDEProject.getManifest(project);
 				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+					validateManifestFile(manifestFile, deferred, subMonitor.split(1));
 				}
 			}
 		}
 		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+			validateBuildProperties(deferred, subMonitor.split(1));
+		}
+		if (deferred != null && !deferred.isEmpty()) {
+			// even when cancelled, the problems computed so far replace the
+			// markers of the previous build
+			applyMarkers(computeProblems(deferred, monitor), monitor);
+		}
+	}
+
+	/**
+	 * Returns whether the problems of the manifest, the plug-in XML and the
+	 * build properties are computed concurrently. The builder then only claims
+	 * its own project as scheduling rule, so that the workspace may also
+	 * validate several projects at the same time.
+	 *
+	 * @return <code>true</code> if validation runs in parallel mode
+	 */
+	private static boolean isRunningInParallel() {
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		return prefs.getBoolean(ICoreConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL);
+	}
+
+	/**
+	 * A file whose problems are computed by a worker of
+	 * {@link ManifestConsistencyChecker#computeProblems(List, IProgressMonitor)}.
+	 *
+	 * @param reporter the reporter of the file
+	 * @param parser parses the file into the reporter before its problems are
+	 *            computed, may be <code>null</code>
+	 */
+	private record DeferredValidation(IDeferredMarkerReporter reporter, Runnable parser) {
+
+		void computeProblems() {
+			if (parser != null) {
+				parser.run();
+			}
+			reporter.computeProblems(new NullProgressMonitor());
+		}
+	}
+
+	/**
+	 * Validates the content of the reporter's file. If <code>deferred</code>
+	 * is not <code>null</code> the file is only queued, its problems are
+	 * computed by {@link #computeProblems(List, IProgressMonitor)}.
+	 *
+	 * @param parser parses the file into the reporter before its problems are
+	 *            computed, may be <code>null</code>
+	 */
+	private void validate(IDeferredMarkerReporter reporter, Runnable parser, List<DeferredValidation> deferred, IProgressMonitor monitor) {
+		if (deferred == null) {
+			if (parser != null) {
+				parser.run();
+			}
+			reporter.validateContent(monitor);
+		} else {
+			deferred.add(new DeferredValidation(reporter, parser));
+		}
+	}
+
+	/**
+	 * Computes the problems of the queued files concurrently, one worker per
+	 * file.
+	 *
+	 * @return the reporters whose problems have been computed, in the order
+	 *         their files were queued. Reporters whose computation failed or
+	 *         did not start before the build was cancelled are left out.
+	 */
+	private List<IDeferredMarkerReporter> computeProblems(List<DeferredValidation> validations, IProgressMonitor monitor) {
+		Set<DeferredValidation> computed = ConcurrentHashMap.newKeySet();
+		try (WorkerPool pool = new WorkerPool("PDE Manifest Validation", WorkerPool.getProcessorCount(validations.size()))) { //$NON-NLS-1$
+			for (DeferredValidation validation : validations) {
+				pool.submit(() -> {
+					validation.computeProblems();
+					computed.add(validation);
+					return null;
+				});
+			}
+			pool.awaitAll(monitor);
+		} catch (ExecutionException e) {
+			PDECore.log(e.getCause());
+		} catch (OperationCanceledException e) {
+			// keep the problems computed so far
+		}
+		return validations.stream().filter(computed::contains).map(DeferredValidation::reporter).toList();
+	}
+
+	/**
+	 * Updates the markers of the reporters in a single workspace operation, so
+	 * that only one resource change event is sent.
+	 */
+	private void applyMarkers(List<IDeferredMarkerReporter> reporters, IProgressMonitor monitor) {
+		monitor.subTask(PDECoreMessages.Builders_updating);
+		IWorkspaceRunnable runnable = m -> {
+			for (IDeferredMarkerReporter reporter : reporters) {
+				reporter.applyMarkers();
+			}
+		};
+		IProject project = getProject();
+		try {
+			project.getWorkspace().run(runnable, project, IWorkspace.AVOID_UPDATE, null);
+		} catch (CoreException e) {
+			PDECore.log(e);
 		}
 	}
 
@@ -300,7 +416,7 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		validateManifestCasing(project);
 	}
 
-	private void validateManifestFile(IFile file, IProgressMonitor monitor) {
+	private void validateManifestFile(IFile file, List<DeferredValidation> deferred, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
@@ -308,12 +424,12 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		monitor.subTask(message);
 
 		BundleErrorReporter reporter = new BundleErrorReporter(file);
-		reporter.validateContent(monitor);
+		validate(reporter, null, deferred, monitor);
 		monitor.subTask(PDECoreMessages.Builders_updating);
 		monitor.done();
 	}
 
-	private void validateFiles(IFile file, int type, IProgressMonitor monitor) {
+	private void validateFiles(IFile file, int type, List<DeferredValidation> deferred, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
@@ -338,18 +454,18 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			}
 		}
 		if (reporter != null) {
-			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
+			XMLErrorReporter xmlReporter = reporter;
+			validate(reporter, () -> DefaultSAXParser.parse(file, xmlReporter), deferred, monitor);
 			monitor.subTask(PDECoreMessages.Builders_updating);
 		}
 		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
+			validate(bundleReporter, null, deferred, monitor);
 			monitor.subTask(PDECoreMessages.Builders_updating);
 		}
 		monitor.done();
 	}
 
-	private void validateBuildProperties(IProgressMonitor monitor) {
+	private void validateBuildProperties(List<DeferredValidation> deferred, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
@@ -358,7 +474,7 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		if (file.exists()) {
 			monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
 			BuildErrorReporter ber = new BuildErrorReporter(file);
-			ber.validateContent(monitor);
+			validate(ber, null, deferred, monitor);
 		}
 	}
 
@@ -468,6 +584,13 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 
 	@Override
 	public ISchedulingRule getRule(int kind, Map<String, String> args) {
+		if (isRunningInParallel()) {
+			// the builder only changes markers of its own project and reads
+			// other projects through their shared models, which are safe for
+			// concurrent readers, so other projects can be validated at the
+			// same time
+			return getProject();
+		}
 		return new MultiRule(Arrays.stream(getProject().getWorkspace().getRoot().getProjects())
 				.filter(PDEBuilderHelper::isPDEProject).toArray(ISchedulingRule[]::new));
 	}
@@ -52,7 +52,7 @@ import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.helpers.DefaultHandler;
 
-public abstract class XMLErrorReporter extends DefaultHandler {
+public abstract class XMLErrorReporter extends DefaultHandler implements IDeferredMarkerReporter {
 
 	public static final char F_ATT_PREFIX = '@';
 	public static final char F_ATT_VALUE_PREFIX = '!';
@@ -375,11 +375,22 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		return getLine(element);
 	}
 
+	@Override
 	public final void validateContent(IProgressMonitor monitor) {
 		validate(monitor);
 		fErrorReporter.applyMarkers();
 	}
 
+	@Override
+	public final void computeProblems(IProgressMonitor monitor) {
+		validate(monitor);
+	}
+
+	@Override
+	public final void applyMarkers() {
+		fErrorReporter.applyMarkers();
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 
 	public Element getDocumentRoot() {
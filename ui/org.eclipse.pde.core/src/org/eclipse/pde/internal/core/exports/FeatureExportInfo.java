@@ -30,5 +30,7 @@ public class FeatureExportInfo {
 	public String[] jnlpInfo;
 	public String[][] targets;
 	public String categoryDefinition;
+	/** Whether the configurations in {@link #targets} are assembled and packaged concurrently, off by default */
+	public boolean parallelConfigurations;
 
 }
@@ -38,6 +38,8 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
@@ -112,7 +114,16 @@ public class FeatureExportOperation extends Job {
 	protected String fBuildTempLocation;
 	protected String fBuildTempMetadataLocation;
 	private String fDevProperties;
-	private static boolean fHasErrors;
+
+	/**
+	 * Ant property holding the id of the operation that runs a script, errors
+	 * logged by the script are reported to that operation
+	 */
+	public static final String OPERATION_ID_PROPERTY = "pde.export.operationId"; //$NON-NLS-1$
+	private static final AtomicInteger LAST_OPERATION_ID = new AtomicInteger();
+	private static final Map<String, FeatureExportOperation> RUNNING_OPERATIONS = new ConcurrentHashMap<>();
+	private final String fOperationId = Integer.toString(LAST_OPERATION_ID.incrementAndGet());
+	private volatile boolean fHasErrors;
 	protected HashMap<String, String> fAntBuildProperties;
 	protected WorkspaceExportHelper fWorkspaceExportHelper;
 
@@ -326,21 +337,98 @@ public class FeatureExportOperation extends Job {
 		}
 
 		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
-					properties, subMonitor.split(2));
-		}
+		if (fInfo.parallelConfigurations && configs.length > 1 && !groupedConfigurations()) {
+			runConfigurationScripts(featureID, featureLocation, configs, properties, subMonitor.split(configs.length * 4));
+		} else {
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
+						properties, subMonitor.split(2));
+			}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			}
 		}
 		properties.put("destination.temp.folder", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
 		runScript(getBuildScriptName(featureLocation), new String[] {"gather.logs"}, properties, subMonitor.split(2)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Assembles and packages the given configurations concurrently. The
+	 * compiled bundles are shared, each configuration is assembled in its own
+	 * temporary folder and written to its own archive or directory. Only one
+	 * in-process Ant build can run at a time, so the configurations are run by
+	 * the <code>parallel</code> task of a generated script.
+	 */
+	private void runConfigurationScripts(String featureID, String featureLocation, String[][] configs, Map<String, String> properties, IProgressMonitor monitor) throws InvocationTargetException, CoreException {
+		Map<String, String> sharedProperties = new HashMap<>(properties);
+		// user properties can not be overridden by the nested properties of the <ant> calls
+		sharedProperties.remove(IXMLConstants.PROPERTY_ARCHIVE_FULLPATH);
+		sharedProperties.remove(IXMLConstants.PROPERTY_ASSEMBLY_TMP);
+
+		File scriptFile = null;
+		try {
+			scriptFile = createScriptFile("assemble.parallel.xml"); //$NON-NLS-1$
+
+			@SuppressWarnings("restriction")
+			Document doc = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
+
+			Element root = doc.createElement("project"); //$NON-NLS-1$
+			root.setAttribute("name", "temp"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("default", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("basedir", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			doc.appendChild(root);
+
+			Element target = doc.createElement("target"); //$NON-NLS-1$
+			target.setAttribute("name", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.appendChild(target);
+			Element parallel = doc.createElement("parallel"); //$NON-NLS-1$
+			parallel.setAttribute("threadCount", Integer.toString(Math.min(configs.length, Runtime.getRuntime().availableProcessors()))); //$NON-NLS-1$
+			parallel.setAttribute("failonany", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+			target.appendChild(parallel);
+
+			for (String[] config : configs) {
+				Map<String, String> configProperties = new HashMap<>();
+				setArchiveLocation(configProperties, config[0], config[1], config[2]);
+				if (!configProperties.containsKey(IXMLConstants.PROPERTY_ASSEMBLY_TMP)) {
+					configProperties.put(IXMLConstants.PROPERTY_ASSEMBLY_TMP, fBuildTempLocation + "/assemblyLocation/tmp." + config[0] + '.' + config[1] + '.' + config[2]); //$NON-NLS-1$
+				}
+				Element sequential = doc.createElement("sequential"); //$NON-NLS-1$
+				sequential.appendChild(createAntCall(doc, getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), "main", configProperties)); //$NON-NLS-1$
+				sequential.appendChild(createAntCall(doc, getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, configProperties));
+				parallel.appendChild(sequential);
+			}
+
+			XMLPrintHandler.writeFile(doc, scriptFile);
+			runScript(scriptFile.getAbsolutePath(), new String[] {"main"}, sharedProperties, monitor); //$NON-NLS-1$
+		} catch (FactoryConfigurationError | ParserConfigurationException | IOException e) {
+			throw new InvocationTargetException(e);
+		} finally {
+			if (scriptFile != null && scriptFile.exists()) {
+				scriptFile.delete();
+			}
+		}
+	}
+
+	private Element createAntCall(Document doc, String antFile, String target, Map<String, String> properties) {
+		Element ant = doc.createElement("ant"); //$NON-NLS-1$
+		ant.setAttribute("antfile", antFile); //$NON-NLS-1$
+		if (target != null) {
+			ant.setAttribute("target", target); //$NON-NLS-1$
+		}
+		ant.setAttribute("inheritAll", "false"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (Map.Entry<String, String> entry : properties.entrySet()) {
+			Element property = doc.createElement("property"); //$NON-NLS-1$
+			property.setAttribute("name", entry.getKey()); //$NON-NLS-1$
+			property.setAttribute("value", entry.getValue()); //$NON-NLS-1$
+			ant.appendChild(property);
+		}
+		return ant;
+	}
+
 	protected boolean groupedConfigurations() {
 		//feature export with p2 metadata results in a grouped repo
 		return publishingP2Metadata();
@@ -445,7 +533,9 @@ public class FeatureExportOperation extends Job {
 	 */
 	protected void runScript(String location, String[] targets, Map<String, String> properties, IProgressMonitor monitor) throws InvocationTargetException, CoreException {
 		AntRunner runner = new AntRunner();
-		runner.addUserProperties(properties);
+		Map<String, String> userProperties = new HashMap<>(properties);
+		userProperties.put(OPERATION_ID_PROPERTY, fOperationId);
+		runner.addUserProperties(userProperties);
 		runner.setAntHome(location);
 		runner.setBuildFileLocation(location);
 		runner.addBuildListener("org.eclipse.pde.internal.core.ant.ExportBuildListener"); //$NON-NLS-1$
@@ -471,7 +561,12 @@ public class FeatureExportOperation extends Job {
 				runner.setCustomClasspath(urls);
 			}
 		}
-		runner.run(monitor);
+		RUNNING_OPERATIONS.put(fOperationId, this);
+		try {
+			runner.run(monitor);
+		} finally {
+			RUNNING_OPERATIONS.remove(fOperationId);
+		}
 	}
 
 	protected String getPackagerScriptName(String featureID, String os, String ws, String arch, String featureLocation) {
@@ -1206,8 +1301,17 @@ public class FeatureExportOperation extends Job {
 	protected void setAdditionalAttributes(Element plugin, BundleDescription bundle) {
 	}
 
-	public static void errorFound() {
-		fHasErrors = true;
+	/**
+	 * Records that a script of the given operation logged an error.
+	 *
+	 * @param operationId the value of {@link #OPERATION_ID_PROPERTY} in the
+	 *            script, may be <code>null</code>
+	 */
+	public static void errorFound(String operationId) {
+		FeatureExportOperation operation = operationId != null ? RUNNING_OPERATIONS.get(operationId) : null;
+		if (operation != null) {
+			operation.fHasErrors = true;
+		}
 	}
 
 	public boolean hasAntErrors() {
@@ -20,11 +20,14 @@ import org.eclipse.pde.core.plugin.IPlugin;
 import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.FeatureModelManager;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.core.ifeature.IFeatureImport;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.util.VersionUtil;
+import org.osgi.framework.Version;
+import org.osgi.framework.VersionRange;
 import org.w3c.dom.Node;
 
 public class FeatureImport extends VersionableObject implements IFeatureImport {
@@ -72,10 +75,40 @@ public class FeatureImport extends VersionableObject implements IFeatureImport {
 	 * @return IFeature or null
 	 */
 	public IFeature findFeature(String id, String version, int match) {
-		IFeatureModel[] models = PDECore.getDefault().getFeatureModelManager().findFeatureModels(id);
+		FeatureModelManager manager = PDECore.getDefault().getFeatureModelManager();
+		// the range only narrows the candidates, the first match wins as in
+		// the unfiltered list
+		VersionRange range = getVersionRange(version, match);
+		IFeatureModel[] models = range != null ? manager.findFeatureModels(id, range) : manager.findFeatureModels(id);
 		return findFeature(models, id, version, match);
 	}
 
+	/**
+	 * @return the range of the versions satisfying the match rule or
+	 *         <code>null</code> if the version cannot be parsed
+	 */
+	private static VersionRange getVersionRange(String version, int match) {
+		Version v;
+		try {
+			v = Version.parseVersion(version);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		switch (match) {
+			case NONE :
+			case COMPATIBLE :
+				return new VersionRange(VersionRange.LEFT_CLOSED, v, new Version(v.getMajor() + 1, 0, 0), VersionRange.RIGHT_OPEN);
+			case EQUIVALENT :
+				return new VersionRange(VersionRange.LEFT_CLOSED, v, new Version(v.getMajor(), v.getMinor() + 1, 0), VersionRange.RIGHT_OPEN);
+			case PERFECT :
+				return new VersionRange(VersionRange.LEFT_CLOSED, v, v, VersionRange.RIGHT_CLOSED);
+			case GREATER_OR_EQUAL :
+				return new VersionRange(VersionRange.LEFT_CLOSED, v, null, VersionRange.RIGHT_OPEN);
+			default :
+				return null;
+		}
+	}
+
 	@Override
 	protected void reset() {
 		super.reset();
@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
+import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
+import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+
+/**
+ * Read-only view of an extension point schema that is optimized for the
+ * validation of extensions. For every schema element the allowed children,
+ * the required attributes, the attribute lookup table and the occurrence
+ * rules are computed once and then shared by all validations until the
+ * {@link SchemaRegistry} hands out a new {@link ISchema} because the schema
+ * file has changed.
+ * <p>
+ * Elements of included schemas are compiled on demand into the same instance.
+ * </p>
+ */
+public final class CompiledSchema {
+
+	/**
+	 * The way the value of an attribute has to be validated.
+	 */
+	public enum AttributeKind {
+		JAVA, RESOURCE, IDENTIFIER, RESTRICTED_STRING, STRING, BOOLEAN, OTHER
+	}
+
+	/**
+	 * Effective occurrence bounds of a child element, i.e. its own bounds
+	 * multiplied with the bounds of all enclosing sequences.
+	 */
+	public static final class Occurrence {
+		private final ISchemaElement fElement;
+		private final int fMinOccurs;
+		private final int fMaxOccurs;
+
+		Occurrence(ISchemaElement element, int minOccurs, int maxOccurs) {
+			fElement = element;
+			fMinOccurs = minOccurs;
+			fMaxOccurs = maxOccurs;
+		}
+
+		public ISchemaElement getElement() {
+			return fElement;
+		}
+
+		public int getMinOccurs() {
+			return fMinOccurs;
+		}
+
+		public int getMaxOccurs() {
+			return fMaxOccurs;
+		}
+	}
+
+	/**
+	 * The precomputed validation data of one schema element.
+	 */
+	public static final class CompiledElement {
+		private final Set<String> fAllowedChildren;
+		private final ISchemaAttribute[] fRequiredAttributes;
+		private final Map<String, ISchemaAttribute> fAttributes;
+		private final Map<String, AttributeKind> fAttributeKinds;
+		private final List<Occurrence> fOccurrences;
+
+		CompiledElement(ISchemaElement element) {
+			Set<String> allowed = new HashSet<>();
+			computeAllowedElements(element.getType(), allowed);
+			fAllowedChildren = Collections.unmodifiableSet(allowed);
+
+			ISchemaAttribute[] attributes = element.getAttributes();
+			List<ISchemaAttribute> required = new ArrayList<>();
+			Map<String, ISchemaAttribute> byName = new HashMap<>();
+			Map<String, AttributeKind> kinds = new HashMap<>();
+			for (ISchemaAttribute attribute : attributes) {
+				if (attribute.getUse() == ISchemaAttribute.REQUIRED) {
+					required.add(attribute);
+				}
+				byName.putIfAbsent(attribute.getName(), attribute);
+				kinds.putIfAbsent(attribute.getName(), computeKind(attribute));
+			}
+			fRequiredAttributes = required.toArray(new ISchemaAttribute[required.size()]);
+			fAttributes = Collections.unmodifiableMap(byName);
+			fAttributeKinds = Collections.unmodifiableMap(kinds);
+			fOccurrences = computeOccurrences(element);
+		}
+
+		/**
+		 * @return the names of the elements (and java attributes given as
+		 *         elements) that may appear as children of this element
+		 */
+		public Set<String> getAllowedChildren() {
+			return fAllowedChildren;
+		}
+
+		/**
+		 * @return the attributes that must be defined on this element
+		 */
+		public ISchemaAttribute[] getRequiredAttributes() {
+			return fRequiredAttributes;
+		}
+
+		/**
+		 * @param name attribute name
+		 * @return the attribute with the given name or <code>null</code>
+		 */
+		public ISchemaAttribute getAttribute(String name) {
+			return fAttributes.get(name);
+		}
+
+		/**
+		 * @param name attribute name
+		 * @return the validation kind of the attribute with the given name or
+		 *         <code>null</code> if there is no such attribute
+		 */
+		public AttributeKind getAttributeKind(String name) {
+			return fAttributeKinds.get(name);
+		}
+
+		/**
+		 * Returns the effective occurrence rules of the child elements, or
+		 * <code>null</code> if the content model contains a choice. The
+		 * bounds of choices depend on the actual children of the validated
+		 * element, so they cannot be precomputed.
+		 *
+		 * @return the occurrence rules in schema order or <code>null</code>
+		 */
+		public List<Occurrence> getOccurrences() {
+			return fOccurrences;
+		}
+	}
+
+	private final ISchema fSchema;
+	private final Map<ISchemaElement, CompiledElement> fElements = new ConcurrentHashMap<>();
+
+	CompiledSchema(ISchema schema) {
+		fSchema = schema;
+	}
+
+	/**
+	 * @return the schema this instance was compiled from
+	 */
+	public ISchema getSchema() {
+		return fSchema;
+	}
+
+	/**
+	 * Returns the compiled form of the given element, which must belong to the
+	 * schema or one of its included schemas.
+	 *
+	 * @param element schema element
+	 * @return the compiled element
+	 */
+	public CompiledElement getElement(ISchemaElement element) {
+		return fElements.computeIfAbsent(element, CompiledElement::new);
+	}
+
+	private static void computeAllowedElements(ISchemaType type, Set<String> elementSet) {
+		if (type instanceof ISchemaComplexType complexType) {
+			ISchemaCompositor compositor = complexType.getCompositor();
+			if (compositor != null) {
+				computeAllowedElements(compositor, elementSet);
+			}
+
+			ISchemaAttribute[] attrs = complexType.getAttributes();
+			for (ISchemaAttribute attr : attrs) {
+				if (attr.getKind() == IMetaAttribute.JAVA) {
+					elementSet.add(attr.getName());
+				}
+			}
+		}
+	}
+
+	private static void computeAllowedElements(ISchemaCompositor compositor, Set<String> elementSet) {
+		ISchemaObject[] children = compositor.getChildren();
+		for (ISchemaObject child : children) {
+			if (child instanceof ISchemaObjectReference ref) {
+				ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
+				if (refElement != null) {
+					elementSet.add(refElement.getName());
+				}
+			} else if (child instanceof ISchemaCompositor) {
+				computeAllowedElements((ISchemaCompositor) child, elementSet);
+			}
+		}
+	}
+
+	private static AttributeKind computeKind(ISchemaAttribute attribute) {
+		switch (attribute.getKind()) {
+			case IMetaAttribute.JAVA :
+				return AttributeKind.JAVA;
+			case IMetaAttribute.RESOURCE :
+				return AttributeKind.RESOURCE;
+			case IMetaAttribute.IDENTIFIER :
+				return AttributeKind.IDENTIFIER;
+			case IMetaAttribute.STRING :
+				ISchemaRestriction restriction = attribute.getType().getRestriction();
+				return restriction != null ? AttributeKind.RESTRICTED_STRING : AttributeKind.STRING;
+			default :
+				ISchemaSimpleType type = attribute.getType();
+				return type != null && "boolean".equals(type.getName()) ? AttributeKind.BOOLEAN : AttributeKind.OTHER; //$NON-NLS-1$
+		}
+	}
+
+	private static List<Occurrence> computeOccurrences(ISchemaElement element) {
+		if (!(element.getType() instanceof ISchemaComplexType complexType)) {
+			return Collections.emptyList();
+		}
+		ISchemaCompositor compositor = complexType.getCompositor();
+		if (compositor == null) {
+			return Collections.emptyList();
+		}
+		List<Occurrence> occurrences = new ArrayList<>();
+		if (!computeOccurrences(compositor, 1, 1, occurrences)) {
+			return null;
+		}
+		return Collections.unmodifiableList(occurrences);
+	}
+
+	/**
+	 * Flattens a choice free compositor tree. The multiplicity arithmetic is
+	 * the one of the ElementOccurenceChecker, so both produce the same bounds.
+	 *
+	 * @return <code>false</code> if the tree contains a choice
+	 */
+	private static boolean computeOccurrences(ISchemaCompositor compositor, int minTracker, int maxTracker, List<Occurrence> occurrences) {
+		if (compositor.getKind() == ISchemaCompositor.CHOICE) {
+			return false;
+		}
+		if (compositor.getKind() != ISchemaCompositor.SEQUENCE) {
+			// Alls and groups are not validated
+			return true;
+		}
+		minTracker = multiply(compositor.getMinOccurs(), minTracker);
+		maxTracker = multiply(compositor.getMaxOccurs(), maxTracker);
+		ISchemaObject[] children = compositor.getChildren();
+		for (int i = 0; i < compositor.getChildCount(); i++) {
+			if (children[i] instanceof ISchemaElement child) {
+				occurrences.add(new Occurrence(child, multiply(child.getMinOccurs(), minTracker), multiply(child.getMaxOccurs(), maxTracker)));
+			} else if (children[i] instanceof ISchemaCompositor child) {
+				if (!computeOccurrences(child, minTracker, maxTracker, occurrences)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static int multiply(int occurs, int tracker) {
+		// Unbounded occurrences are represented by the maximum integer value
+		if (tracker < Integer.MAX_VALUE) {
+			return occurs * tracker;
+		}
+		return tracker;
+	}
+}
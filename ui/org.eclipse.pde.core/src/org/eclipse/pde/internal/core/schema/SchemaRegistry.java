@@ -16,7 +16,8 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -35,15 +36,14 @@ import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	private final Map<String, ISchemaDescriptor> fRegistry = new ConcurrentHashMap<>();
+	private final Map<String, CompiledSchema> fCompiled = new ConcurrentHashMap<>();
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -61,6 +61,29 @@ public class SchemaRegistry {
 		return desc.getSchema(true);
 	}
 
+	/**
+	 * Returns the compiled form of the schema of the given extension point.
+	 * The compiled schema is reused as long as {@link #getSchema(String)}
+	 * returns the same schema, i.e. until the schema file changes.
+	 *
+	 * @param extPointID extension point id
+	 * @return the compiled schema or <code>null</code> if the extension point
+	 *         has no schema
+	 */
+	public CompiledSchema getCompiledSchema(String extPointID) {
+		ISchema schema = getSchema(extPointID);
+		if (schema == null) {
+			fCompiled.remove(extPointID);
+			return null;
+		}
+		CompiledSchema compiled = fCompiled.get(extPointID);
+		if (compiled == null || compiled.getSchema() != schema) {
+			compiled = new CompiledSchema(schema);
+			fCompiled.put(extPointID, compiled);
+		}
+		return compiled;
+	}
+
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
 		try {
 			URL url = IncludedSchemaDescriptor.computeURL(parent, schemaLocation, null);
@@ -80,12 +103,9 @@ public class SchemaRegistry {
 	}
 
 	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
+		ISchemaDescriptor desc = fRegistry.get(key);
+		if (desc != null && hasSchemaChanged(desc, url)) {
+			desc = null;
 		}
 		return desc;
 	}
@@ -184,6 +204,7 @@ public class SchemaRegistry {
 
 	public void shutdown() {
 		fRegistry.clear();
+		fCompiled.clear();
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
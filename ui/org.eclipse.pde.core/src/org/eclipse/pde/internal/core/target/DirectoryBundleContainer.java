@@ -34,7 +34,7 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
  *
  * @since 3.5
  */
-public class DirectoryBundleContainer extends AbstractBundleContainer {
+public class DirectoryBundleContainer extends AbstractBundleContainer implements IConcurrentTargetLocation {
 
 	/**
 	 * Constant describing the type of bundle container
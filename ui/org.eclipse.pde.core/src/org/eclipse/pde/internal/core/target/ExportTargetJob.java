@@ -15,6 +15,7 @@
 package org.eclipse.pde.internal.core.target;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,10 +24,9 @@ import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.filesystem.IFileSystem;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
@@ -38,6 +38,7 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 
 /**
@@ -52,12 +53,27 @@ public class ExportTargetJob extends Job {
 	private IFileSystem fileSystem;
 	private Map<String, NameVersionDescriptor[]> filter;
 	private final ITargetDefinition fTarget;
+	private final TargetExportCopier fCopier;
 
 	public ExportTargetJob(ITargetDefinition target, URI destination, boolean clearDestinationDirectory) {
+		this(target, destination, clearDestinationDirectory, false);
+	}
+
+	/**
+	 * @param target the target to export
+	 * @param destination the directory to export to
+	 * @param clearDestinationDirectory whether the plug-ins and features
+	 *            already in the destination are deleted first
+	 * @param linkFiles whether the files of the bundles and features are hard
+	 *            linked instead of copied when the destination is on the same
+	 *            file system
+	 */
+	public ExportTargetJob(ITargetDefinition target, URI destination, boolean clearDestinationDirectory, boolean linkFiles) {
 		super("Export Current Target Definition"); //$NON-NLS-1$
 		fTarget = target;
 		fDestination = destination;
 		fclearDestinationDirectory = clearDestinationDirectory;
+		fCopier = new TargetExportCopier(linkFiles);
 	}
 
 	@Override
@@ -68,26 +84,31 @@ public class ExportTargetJob extends Job {
 			if (containers == null) {
 				containers = new ITargetLocation[0];
 			}
-			int totalWork = containers.length;
-			monitor.beginTask(PDECoreMessages.ExportTargetDefinition_task, totalWork);
+			SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.ExportTargetDefinition_task, containers.length * 2 + 1);
 
-			monitor.subTask(PDECoreMessages.ExportTargetJob_ConfiguringDestination);
-			setupDestination(monitor);
+			subMonitor.subTask(PDECoreMessages.ExportTargetJob_ConfiguringDestination);
+			setupDestination(subMonitor);
 
-			monitor.subTask(PDECoreMessages.ExportTargetJob_ExportingTargetContents);
+			subMonitor.subTask(PDECoreMessages.ExportTargetJob_ExportingTargetContents);
 			for (ITargetLocation targetLocation : containers) {
 				ITargetLocation container = targetLocation;
-				container.resolve(fTarget, monitor);
+				container.resolve(fTarget, subMonitor.split(1));
 				if (!(container instanceof IUBundleContainer)) {
-					exportContainer(container, fTarget, featureDir, pluginDir, fileSystem, monitor);
+					exportContainer(container, fTarget, featureDir, pluginDir, fileSystem, subMonitor);
 				}
 			}
-			exportProfile(fTarget, fDestination, monitor);
+			fCopier.run(subMonitor.split(containers.length));
+			exportProfile(fTarget, fDestination, subMonitor.split(1));
 		} catch (CoreException e) {
 			return Status.error("Failed to export the target", e); //$NON-NLS-1$
+		} catch (OperationCanceledException e) {
+			return Status.CANCEL_STATUS;
 		} finally {
 			monitor.done();
 		}
+		if (PDECore.DEBUG_TARGET_EXPORT) {
+			System.out.println(fCopier.getSummary());
+		}
 		return Status.OK_STATUS;
 	}
 
@@ -216,23 +237,9 @@ public class ExportTargetJob extends Job {
 		}
 	}
 
-	private IStatus copy(String src, IFileStore destinationParent, IFileSystem fileSystem, IProgressMonitor monitor) throws CoreException {
-		IPath srcPath = IPath.fromOSString(src);
-
-		IFileStore source = fileSystem.getStore(srcPath);
-		String elementName = srcPath.segment(srcPath.segmentCount() - 1);
-		IFileStore destination = destinationParent.getChild(elementName);
-
-		SubMonitor subMonitor = SubMonitor.convert(monitor, 1);
-
-		if (destination.fetchInfo().exists()) {
-			return Status.OK_STATUS;
-		}
-		if (source.fetchInfo().isDirectory()) {
-			destination.mkdir(EFS.NONE, new NullProgressMonitor());
-		}
-		source.copy(destination, EFS.OVERWRITE, subMonitor.split(1));
-		return Status.OK_STATUS;
+	private void copy(String src, IFileStore destinationParent, IFileSystem fileSystem, IProgressMonitor monitor) throws CoreException {
+		// the files are copied by the copier once all locations have been resolved
+		fCopier.add(Path.of(src), destinationParent.toLocalFile(EFS.NONE, monitor).toPath());
 	}
 
 	@SuppressWarnings("restriction")
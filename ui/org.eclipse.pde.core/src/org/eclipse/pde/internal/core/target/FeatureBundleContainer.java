@@ -41,7 +41,7 @@ import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
  *
  * @since 3.5
  */
-public class FeatureBundleContainer extends AbstractBundleContainer {
+public class FeatureBundleContainer extends AbstractBundleContainer implements IConcurrentTargetLocation {
 
 	/**
 	 * Constant describing the type of bundle container
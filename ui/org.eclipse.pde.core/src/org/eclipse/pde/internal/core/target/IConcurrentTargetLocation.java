@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import org.eclipse.pde.core.target.ITargetLocation;
+
+/**
+ * Marks the target locations that can be resolved on a worker thread while
+ * the other locations of the same target are resolved. Locations that do not
+ * implement this interface are always resolved in the thread resolving the
+ * target, see {@link TargetLocationScheduler}.
+ */
+interface IConcurrentTargetLocation extends ITargetLocation {
+}
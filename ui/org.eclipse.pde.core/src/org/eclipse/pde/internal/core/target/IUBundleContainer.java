@@ -358,6 +358,18 @@ public class IUBundleContainer extends AbstractBundleContainer {
 		return fBundles;
 	}
 
+	/*
+	 * Restores the caches of this container from a resolution snapshot instead of the profile.
+	 * The top level IUs are computed from the profile when they are first asked for.
+	 * This is a callback method used by the synchronizer.
+	 */
+	void restoreCaches(ITargetDefinition target, TargetBundle[] bundles, TargetFeature[] features) {
+		fTarget = target;
+		fUnits = null;
+		fBundles = bundles;
+		fFeatures = features;
+	}
+
 	/*
 	 * Respond to the notification that the synchronizer associated with this container has changed
 	 * This is a callback method used by the synchronizer.
@@ -631,6 +643,10 @@ public class IUBundleContainer extends AbstractBundleContainer {
 	 * @exception CoreException if unable to retrieve IU's
 	 */
 	public IInstallableUnit[] getInstallableUnits() throws CoreException {
+		if (fUnits == null && isResolved() && fSynchronizer != null && fSynchronizer.getProfile() != null) {
+			// restored from a resolution snapshot, the profile has not been looked at yet
+			cacheIUs(fTarget);
+		}
 		if (fUnits == null) {
 			return new IInstallableUnit[0];
 		}
@@ -42,6 +42,7 @@ public class Messages extends NLS {
 	public static String IUBundleContainer_8;
 	public static String IUBundleContainer_9;
 	public static String IUBundleContainer_ProblemsLoadingRepositories;
+	public static String IUBundleContainer_RepositoryNotLoaded;
 	public static String LoadTargetDefinitionJob_0;
 	public static String LoadTargetOperation_jreTaskName;
 	public static String LoadTargetOperation_mainTaskName;
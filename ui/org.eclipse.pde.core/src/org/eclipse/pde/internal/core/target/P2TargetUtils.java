@@ -28,9 +28,11 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -38,6 +40,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -80,12 +83,15 @@ import org.eclipse.equinox.p2.repository.artifact.IArtifactRequest;
 import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetHandle;
 import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.internal.core.util.WorkerPool;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
@@ -94,6 +100,11 @@ public class P2TargetUtils {
 
 	private static final String SOURCE_IU_ID = "org.eclipse.pde.core.target.source.bundles"; //$NON-NLS-1$
 
+	/**
+	 * Maximum number of metadata repositories loaded at the same time
+	 */
+	private static final int MAX_REPOSITORY_LOADS = 4;
+
 	/**
 	 * URI to the local directory where the p2 agent keeps its information.
 	 */
@@ -176,6 +187,19 @@ public class P2TargetUtils {
 	 */
 	private IProfile fProfile;
 
+	/**
+	 * Id of the profile the IU containers have been restored from by a
+	 * {@link TargetResolutionSnapshot}, the profile itself is only loaded
+	 * when asked for. <code>null</code> if the containers have been
+	 * synchronized with {@link #fProfile}.
+	 */
+	private String fSnapshotProfileId;
+
+	/**
+	 * Key of the snapshot last restored or written by this synchronizer
+	 */
+	private String fSnapshotKey;
+
 	/**
 	 * Whether this container must have all required IUs of the selected IUs available and included
 	 * in the target to resolve successfully.  If this option is true, the planner will be used to resolve
@@ -285,12 +309,18 @@ public class P2TargetUtils {
 				}
 			}
 		}
+		new TargetResolutionSnapshot(profileId).delete();
 	}
 
 	@SuppressWarnings("restriction")
 	public static void forceCheckTarget(final ITargetDefinition target) {
 		final P2TargetUtils result = getSynchronizer(target);
-		if (result.fProfile instanceof org.eclipse.equinox.internal.p2.engine.Profile) {
+		String profileId = getProfileId(target);
+		if (profileId != null) {
+			new TargetResolutionSnapshot(profileId).delete();
+		}
+		result.fSnapshotKey = null;
+		if (result.getProfile() instanceof org.eclipse.equinox.internal.p2.engine.Profile) {
 			((org.eclipse.equinox.internal.p2.engine.Profile) result.fProfile).setProperty(PROP_SEQUENCE_NUMBER, "-1"); //$NON-NLS-1$
 		}
 	}
@@ -520,7 +550,7 @@ public class P2TargetUtils {
 	 */
 	private boolean checkProfile(ITargetDefinition target) throws CoreException {
 		// make sure we have a profile to validate
-		if (fProfile == null) {
+		if (getProfile() == null) {
 			return false;
 		}
 
@@ -805,12 +835,18 @@ public class P2TargetUtils {
 
 		// Happiness if we have a profile and it checks out or if we can load one and it checks out.
 		if (fProfile == null) {
+			// an unchanged target can be restored without looking at the profile at all
+			if (restoreSnapshot(target)) {
+				return;
+			}
 			fProfile = getProfileRegistry().getProfile(getProfileId(target));
 		}
+		fSnapshotProfileId = null;
 		if (fProfile != null && checkProfile(target)) {
 			// always push the changes to the target because there can be many target objects
 			// for the same synchronizer (doh!)
 			notify(target, progress.split(25));
+			saveSnapshot(target);
 			return;
 		}
 
@@ -834,6 +870,7 @@ public class P2TargetUtils {
 
 			// If we are updating a profile then delete the old snapshot on success.
 			notify(target, progress.split(15));
+			saveSnapshot(target);
 		} catch (CoreException e) {
 			// There was at least one problem getting the contents, delete the profile so we don't cache in a bad state, Bug 439034
 			// TODO ALL we really want to delete is the sequence property, so that checkProfile will compare settings and contents
@@ -866,6 +903,116 @@ public class P2TargetUtils {
 		fProfile = registry.addProfile(getProfileId(target), properties);
 	}
 
+	/**
+	 * Restores the caches of the IU containers of the given target from the
+	 * resolution snapshot of its profile if nothing that affects the
+	 * synchronization has changed since the snapshot was written.
+	 *
+	 * @return whether the containers have been restored
+	 */
+	private boolean restoreSnapshot(ITargetDefinition target) {
+		List<IUBundleContainer> containers = getIUBundleContainers(target);
+		if (containers.isEmpty()) {
+			return false;
+		}
+		try {
+			String profileId = getProfileId(target.getHandle());
+			String key = computeSnapshotKey(target, profileId, containers);
+			if (key == null || !new TargetResolutionSnapshot(profileId).restore(key, target, containers)) {
+				return false;
+			}
+			fSnapshotProfileId = profileId;
+			fSnapshotKey = key;
+			((TargetDefinition) target).flushCaches(P2TargetUtils.BUNDLE_POOL.toOSString());
+			if (PDECore.DEBUG_TARGET_PROFILE) {
+				System.out.println("Target restored from the resolution snapshot of profile " + profileId); //$NON-NLS-1$
+			}
+			return true;
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the caches of the IU containers of the given target to the
+	 * resolution snapshot of its profile, unless the snapshot is up to date.
+	 */
+	private void saveSnapshot(ITargetDefinition target) {
+		List<IUBundleContainer> containers = getIUBundleContainers(target);
+		if (containers.isEmpty()) {
+			return;
+		}
+		try {
+			String profileId = getProfileId(target.getHandle());
+			String key = computeSnapshotKey(target, profileId, containers);
+			if (key == null || key.equals(fSnapshotKey)) {
+				return;
+			}
+			new TargetResolutionSnapshot(profileId).save(key, containers);
+			fSnapshotKey = key;
+		} catch (CoreException e) {
+			PDECore.log(e.getStatus());
+		}
+	}
+
+	/**
+	 * Computes the key of a resolution snapshot. It covers everything the
+	 * {@link #checkProfile(ITargetDefinition)} looks at: the IU containers, the
+	 * environment and include settings, the last modification of the profile
+	 * and of the bundle pool, and the contents of local repositories.
+	 *
+	 * @return the key or <code>null</code> if there is no profile yet
+	 */
+	private String computeSnapshotKey(ITargetDefinition target, String profileId, List<IUBundleContainer> containers) throws CoreException {
+		long profileTimestamp = 0;
+		for (long timestamp : getProfileRegistry().listProfileTimestamps(profileId)) {
+			profileTimestamp = Math.max(profileTimestamp, timestamp);
+		}
+		if (profileTimestamp == 0) {
+			return null;
+		}
+		StringBuilder key = new StringBuilder();
+		key.append(profileId).append('\n').append(profileTimestamp).append('\n');
+		key.append(generateEnvironmentProperties(target)).append('\n');
+		key.append(generateNLProperty(target)).append('\n');
+		key.append(getProvisionMode(target)).append(',').append(getIncludeAllEnvironments()).append(',')
+				.append(getIncludeSource()).append(',').append(getIncludeConfigurePhase()).append('\n');
+		appendTimestamps(key, BUNDLE_POOL.toFile(), "artifacts.xml", "artifacts.jar", "artifacts.xml.xz"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (IUBundleContainer container : containers) {
+			key.append(container.serialize()).append('\n');
+			URI[] repositories = container.getRepositories();
+			if (repositories != null) {
+				for (URI repository : repositories) {
+					if ("file".equals(repository.getScheme())) { //$NON-NLS-1$
+						appendTimestamps(key, new File(repository), "content.xml", "content.jar", "content.xml.xz", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+								"compositeContent.xml", "compositeContent.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				}
+			}
+		}
+		return CoreUtility.sha256Hex(key.toString());
+	}
+
+	private static void appendTimestamps(StringBuilder key, File folder, String... names) {
+		for (String name : names) {
+			key.append(new File(folder, name).lastModified()).append(',');
+		}
+		key.append('\n');
+	}
+
+	private static List<IUBundleContainer> getIUBundleContainers(ITargetDefinition target) {
+		List<IUBundleContainer> result = new ArrayList<>();
+		ITargetLocation[] containers = target.getTargetLocations();
+		if (containers != null) {
+			for (ITargetLocation container : containers) {
+				if (container instanceof IUBundleContainer iuContainer) {
+					result.add(iuContainer);
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Signal the relevant bundle containers that the given profile has changed.
 	 */
@@ -997,6 +1144,13 @@ public class P2TargetUtils {
 
 	/**
 	 * Return a queryable on the metadata defined in the given repo locations
+	 * and the metadata repositories they reference.
+	 * <p>
+	 * The repositories are loaded concurrently, one level of references at a
+	 * time. The queryable is then assembled in the same order as if the
+	 * repositories had been loaded one after the other: the given repositories
+	 * first, followed by their references in depth first order.
+	 * </p>
 	 *
 	 * @param repos the repos to lookup
 	 * @param monitor the progress monitor
@@ -1011,24 +1165,47 @@ public class P2TargetUtils {
 
 		int repoCount = repos.length;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, repoCount * 2);
+		// SubMonitor is not thread safe, the loading threads only get to know about cancellation
+		IProgressMonitor loadMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return subMonitor.isCanceled();
+			}
+		};
 
-		Set<IRepositoryReference> seen = new HashSet<>();
+		Map<URI, LoadedRepository> loaded = loadRepositories(manager, Arrays.asList(repos), loadMonitor);
+		subMonitor.split(repoCount);
 		List<IMetadataRepository> result = new ArrayList<>(repoCount);
-		List<IMetadataRepository> additional = new ArrayList<>();
 		MultiStatus repoStatus = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.IUBundleContainer_ProblemsLoadingRepositories, null);
-		for (int i = 0; i < repoCount; ++i) {
-			try {
-				IMetadataRepository repository = manager.loadRepository(repos[i], subMonitor.split(1));
-				result.add(repository);
-				addReferences(repository, additional, seen, manager, subMonitor.split(1));
-			} catch (ProvisionException e) {
-				repoStatus.add(e.getStatus());
+		for (URI repo : repos) {
+			LoadedRepository repository = loaded.get(repo);
+			if (repository.repository() != null) {
+				result.add(repository.repository());
+			} else {
+				repoStatus.add(repository.problem().getStatus());
 			}
 		}
-
 		if (result.size() != repos.length) {
 			throw new CoreException(repoStatus);
 		}
+
+		// load the references level by level, each location only once
+		Collection<URI> pending = getReferencedLocations(result);
+		while (!pending.isEmpty()) {
+			subMonitor.checkCanceled();
+			pending.removeAll(loaded.keySet());
+			Map<URI, LoadedRepository> references = loadRepositories(manager, pending, loadMonitor);
+			loaded.putAll(references);
+			pending = getReferencedLocations(references.values().stream().map(LoadedRepository::repository)
+					.filter(Objects::nonNull).toList());
+		}
+		subMonitor.split(repoCount);
+
+		Set<IRepositoryReference> seen = new HashSet<>();
+		List<IMetadataRepository> additional = new ArrayList<>();
+		for (IMetadataRepository repository : new ArrayList<>(result)) {
+			addReferences(repository, additional, seen, loaded);
+		}
 		result.addAll(additional);
 		if (result.size() == 1) {
 			return result.get(0);
@@ -1036,24 +1213,88 @@ public class P2TargetUtils {
 		return QueryUtil.compoundQueryable(new LinkedHashSet<>(result));
 	}
 
+	/**
+	 * The result of loading a metadata repository, either the repository or
+	 * the problem that prevented loading it.
+	 */
+	private record LoadedRepository(IMetadataRepository repository, ProvisionException problem) {
+	}
+
+	/**
+	 * Loads the given metadata repositories in parallel, on a bounded number of
+	 * threads since loading mostly waits for the network.
+	 *
+	 * @return the result of loading each location
+	 */
+	private static Map<URI, LoadedRepository> loadRepositories(IMetadataRepositoryManager manager,
+			Collection<URI> locations, IProgressMonitor monitor) {
+		Map<URI, LoadedRepository> loaded = new ConcurrentHashMap<>();
+		Collection<URI> distinct = new LinkedHashSet<>(locations);
+		if (distinct.size() == 1) {
+			// no need for another thread
+			URI location = distinct.iterator().next();
+			loaded.put(location, loadRepository(manager, location, monitor));
+		} else if (!distinct.isEmpty()) {
+			try (WorkerPool pool = new WorkerPool("Target Repository Loader", //$NON-NLS-1$
+					Math.min(distinct.size(), MAX_REPOSITORY_LOADS))) {
+				for (URI location : distinct) {
+					pool.submit(() -> loaded.put(location, loadRepository(manager, location, monitor)));
+				}
+				pool.awaitAll(monitor);
+			} catch (ExecutionException e) {
+				// the tasks report problems in their result, anything else is a bug
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		return loaded;
+	}
+
+	private static LoadedRepository loadRepository(IMetadataRepositoryManager manager, URI location,
+			IProgressMonitor monitor) {
+		try {
+			IMetadataRepository repository = manager.loadRepository(location, monitor);
+			if (repository != null) {
+				return new LoadedRepository(repository, null);
+			}
+			return new LoadedRepository(null, new ProvisionException(
+					Status.error(NLS.bind(Messages.IUBundleContainer_RepositoryNotLoaded, location))));
+		} catch (ProvisionException e) {
+			return new LoadedRepository(null, e);
+		}
+	}
+
+	private static Collection<URI> getReferencedLocations(Collection<IMetadataRepository> repositories) {
+		Set<URI> locations = new LinkedHashSet<>();
+		for (IMetadataRepository repository : repositories) {
+			for (IRepositoryReference reference : repository.getReferences()) {
+				if (reference.getType() == IRepository.TYPE_METADATA) {
+					locations.add(reference.getLocation());
+				}
+			}
+		}
+		return locations;
+	}
+
 	private static void addReferences(IMetadataRepository repository, List<IMetadataRepository> result,
-			Set<IRepositoryReference> seen, IMetadataRepositoryManager manager, IProgressMonitor monitor) {
-		Collection<IRepositoryReference> references = repository.getReferences();
-		SubMonitor subMonitor = SubMonitor.convert(monitor, references.size() * 2);
-		for (IRepositoryReference reference : references) {
+			Set<IRepositoryReference> seen, Map<URI, LoadedRepository> loaded) {
+		for (IRepositoryReference reference : repository.getReferences()) {
 			if (reference.getType() == IRepository.TYPE_METADATA && seen.add(reference)) {
-				try {
-					IMetadataRepository referencedRepository = manager.loadRepository(reference.getLocation(),
-							subMonitor.split(1));
-					result.add(referencedRepository);
-					addReferences(referencedRepository, result, seen, manager, subMonitor.split(1));
-				} catch (ProvisionException e) {
+				LoadedRepository referencedRepository = loaded.get(reference.getLocation());
+				if (referencedRepository == null) {
+					continue;
+				}
+				if (referencedRepository.repository() != null) {
+					result.add(referencedRepository.repository());
+					addReferences(referencedRepository.repository(), result, seen, loaded);
+				} else {
 					//if reference can't be loaded just ignore it here but log the error just in case the user wants to act on this
-					PDECore.log(e);
+					PDECore.log(referencedRepository.problem());
 				}
 			}
 		}
-
 	}
 
 	/**
@@ -1666,7 +1907,15 @@ public class P2TargetUtils {
 	/**
 	 * @return the profile associated with this synchronizer
 	 */
-	IProfile getProfile() {
+	synchronized IProfile getProfile() {
+		if (fProfile == null && fSnapshotProfileId != null) {
+			// the containers have been restored from a snapshot, load the profile now
+			try {
+				fProfile = getProfileRegistry().getProfile(fSnapshotProfileId);
+			} catch (CoreException e) {
+				PDECore.log(e.getStatus());
+			}
+		}
 		return fProfile;
 	}
 
@@ -47,7 +47,7 @@ import org.eclipse.pde.internal.core.PDECore;
  *
  * @since 3.5
  */
-public class ProfileBundleContainer extends AbstractBundleContainer {
+public class ProfileBundleContainer extends AbstractBundleContainer implements IConcurrentTargetLocation {
 
 	// The following constants are duplicated from org.eclipse.equinox.internal.p2.core.Activator
 	private static final String CONFIG_INI = "config.ini"; //$NON-NLS-1$
@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -369,43 +370,50 @@ public class TargetDefinition implements ITargetDefinition {
 			return fResolutionStatus = Status.OK_STATUS;
 		}
 		fResolutionStatus = null;
-		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 101);
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2, null);
-			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
+			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
+			List<ITargetLocation> locations = new ArrayList<>();
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					locations.add(location);
 				} else {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
-			if (!synchronizers.isEmpty()) {
+			// the usual locations are independent of the p2 ones, resolve them in the meantime
+			TargetLocationScheduler scheduler = new TargetLocationScheduler(this, locations);
+			scheduler.start();
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			try {
+				List<IStatus> synchronizerStatus = new ArrayList<>();
 				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
 						.toList();
-				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
 				for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
 					subMonitor.checkCanceled();
 					try {
 						entry.getKey().synchronize(this, subMonitor.split(100));
 						entry.getValue().stream().map(loc -> loc.getStatus()).filter(Objects::nonNull)
-								.filter(s -> !s.isOK()).forEach(status::add);
+								.filter(s -> !s.isOK()).forEach(synchronizerStatus::add);
 					} catch (CoreException e) {
 						PDECore.log(e.getStatus());
-						status.add(e.getStatus());
+						synchronizerStatus.add(e.getStatus());
+					}
+				}
+				// keep the usual locations first in the status
+				for (IStatus s : scheduler.join(subMonitor)) {
+					if (!s.isOK()) {
+						status.add(s);
 					}
 				}
+				synchronizerStatus.forEach(status::add);
 				for (ITargetLocation location : delayedLocations) {
 					subMonitor.checkCanceled();
 					IStatus s = location.resolve(this, subMonitor.split(1));
@@ -413,6 +421,8 @@ public class TargetDefinition implements ITargetDefinition {
 						status.add(s);
 					}
 				}
+			} finally {
+				scheduler.shutdown();
 			}
 			if (status.isOK()) {
 				return fResolutionStatus = Status.OK_STATUS;
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.internal.core.util.WorkerPool;
+
+/**
+ * Copies the bundles and features of a target to the export destination. The
+ * files are copied on a bounded number of threads. In link mode the files are
+ * hard linked instead of copied, which only takes a directory entry when the
+ * destination is on the same file system as the source. Once links turn out
+ * to be unsupported or the destination is on another file system the
+ * remaining files are copied, any other failure to link a file only falls
+ * back to copying that file.
+ * <p>
+ * Hard linked files share their content with the source, they must not be
+ * modified in place.
+ * </p>
+ */
+class TargetExportCopier {
+
+	private static final int MAX_THREADS = 8;
+
+	private final boolean fLink;
+	private volatile boolean fLinksSupported = true;
+	private final List<Path> fSources = new ArrayList<>();
+	private final List<Path> fDestinations = new ArrayList<>();
+
+	private final AtomicInteger fFileCount = new AtomicInteger();
+	private final AtomicInteger fLinkCount = new AtomicInteger();
+	private final AtomicLong fByteCount = new AtomicLong();
+	private long fDuration;
+
+	/**
+	 * @param link whether files should be hard linked when possible
+	 */
+	TargetExportCopier(boolean link) {
+		fLink = link;
+	}
+
+	/**
+	 * Adds a bundle or feature, a file or a directory, to copy into the
+	 * given folder. Elements that already exist in the destination are not
+	 * copied.
+	 *
+	 * @param source the bundle or feature location
+	 * @param destinationParent the plug-ins or features folder of the export
+	 */
+	void add(Path source, Path destinationParent) {
+		Path destination = destinationParent.resolve(source.getFileName().toString());
+		if (Files.exists(destination) || fDestinations.contains(destination)) {
+			return;
+		}
+		fSources.add(source);
+		fDestinations.add(destination);
+	}
+
+	/**
+	 * Copies all elements that have been added.
+	 *
+	 * @param monitor the progress monitor, cancelling it stops the copy
+	 * @throws CoreException if a file can not be copied
+	 */
+	void run(IProgressMonitor monitor) throws CoreException {
+		long start = System.nanoTime();
+		List<Path[]> files = new ArrayList<>();
+		try {
+			for (int i = 0; i < fSources.size(); i++) {
+				collect(fSources.get(i), fDestinations.get(i), files);
+			}
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Failed to export the target", e)); //$NON-NLS-1$
+		}
+
+		SubMonitor subMonitor = SubMonitor.convert(monitor, files.size());
+		try (WorkerPool pool = new WorkerPool("Target Export Copier", WorkerPool.getProcessorCount(MAX_THREADS))) { //$NON-NLS-1$
+			for (Path[] file : files) {
+				pool.submit(() -> {
+					copyFile(file[0], file[1]);
+					return null;
+				});
+			}
+			while (pool.getPending() > 0) {
+				pool.awaitNext(subMonitor);
+				subMonitor.split(1);
+			}
+		} catch (ExecutionException e) {
+			throw new CoreException(Status.error("Failed to export the target", e.getCause())); //$NON-NLS-1$
+		} finally {
+			fDuration = System.nanoTime() - start;
+		}
+	}
+
+	/**
+	 * @return a summary of the number of files and bytes exported and the
+	 *         throughput, for tracing
+	 */
+	String getSummary() {
+		long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(fDuration));
+		double megabytes = fByteCount.get() / (1024.0 * 1024.0);
+		return String.format("Exported %d files (%.1f MB) in %d ms, %.1f MB/s, %d files hard linked", //$NON-NLS-1$
+				fFileCount.get(), megabytes, millis, megabytes * 1000 / millis, fLinkCount.get());
+	}
+
+	private static void collect(Path source, Path destination, List<Path[]> files) throws IOException {
+		if (!Files.isDirectory(source)) {
+			files.add(new Path[] {source, destination});
+			return;
+		}
+		List<Path> paths;
+		try (Stream<Path> walk = Files.walk(source)) {
+			paths = walk.toList();
+		}
+		for (Path path : paths) {
+			Path target = destination.resolve(source.relativize(path).toString());
+			if (Files.isDirectory(path)) {
+				// directories are created up front so the files can be copied in any order
+				Files.createDirectories(target);
+			} else {
+				files.add(new Path[] {path, target});
+			}
+		}
+	}
+
+	private void copyFile(Path source, Path destination) throws IOException {
+		Files.createDirectories(destination.getParent());
+		long size = Files.size(source);
+		if (fLink && fLinksSupported) {
+			try {
+				Files.createLink(destination, source);
+				fLinkCount.incrementAndGet();
+				fFileCount.incrementAndGet();
+				fByteCount.addAndGet(size);
+				return;
+			} catch (UnsupportedOperationException e) {
+				// no support for links, copy from now on
+				fLinksSupported = false;
+			} catch (IOException e) {
+				// links never work across file systems, other failures only concern this file
+				if (!isSameFileStore(source, destination.getParent())) {
+					fLinksSupported = false;
+				}
+			}
+		}
+		Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+		fFileCount.incrementAndGet();
+		fByteCount.addAndGet(size);
+	}
+
+	private static boolean isSameFileStore(Path source, Path destination) {
+		try {
+			return Files.getFileStore(source).equals(Files.getFileStore(destination));
+		} catch (IOException e) {
+			// can not tell, try to link the next file again
+			return true;
+		}
+	}
+}
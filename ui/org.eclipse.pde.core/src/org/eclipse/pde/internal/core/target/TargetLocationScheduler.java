@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.WorkerPool;
+
+/**
+ * Resolves the target locations that do not depend on each other, i.e. all
+ * locations that are not synchronized through a {@link P2TargetUtils}.
+ * Locations implementing {@link IConcurrentTargetLocation} are resolved on
+ * worker threads while the caller is free to do other work, all other
+ * locations, including the ones contributed by other plug-ins, are resolved
+ * in the calling thread. The statuses are returned in the order of the
+ * locations so the resolution status does not depend on the thread
+ * scheduling.
+ * <p>
+ * The concurrent resolution can be disabled with the
+ * <code>pde.target.resolveSequentially</code> system property, in that case
+ * the locations are resolved one after the other in the calling thread.
+ * </p>
+ */
+class TargetLocationScheduler {
+
+	private static final boolean RESOLVE_SEQUENTIALLY = Boolean.getBoolean("pde.target.resolveSequentially"); //$NON-NLS-1$
+
+	private final TargetDefinition fTarget;
+	private final List<ITargetLocation> fLocations;
+	private final NullProgressMonitor[] fMonitors;
+	private final IStatus[] fStatuses;
+	private final long[] fDurations;
+	private WorkerPool fPool;
+
+	/**
+	 * @param target the target being resolved
+	 * @param locations the locations to resolve in their definition order
+	 */
+	TargetLocationScheduler(TargetDefinition target, List<ITargetLocation> locations) {
+		fTarget = target;
+		fLocations = locations;
+		fMonitors = new NullProgressMonitor[locations.size()];
+		fStatuses = new IStatus[locations.size()];
+		fDurations = new long[locations.size()];
+	}
+
+	/**
+	 * Starts resolving the locations that can be resolved concurrently in the
+	 * background. Does nothing if there is less than two such locations or the
+	 * concurrent resolution is disabled.
+	 */
+	void start() {
+		int count = (int) fLocations.stream().filter(IConcurrentTargetLocation.class::isInstance).count();
+		if (RESOLVE_SEQUENTIALLY || count < 2) {
+			return;
+		}
+		fPool = new WorkerPool("Target Location Resolver", WorkerPool.getProcessorCount(count)); //$NON-NLS-1$
+		for (int i = 0; i < fLocations.size(); i++) {
+			if (!(fLocations.get(i) instanceof IConcurrentTargetLocation)) {
+				continue;
+			}
+			// SubMonitor is not thread safe, the workers only get to know about cancellation
+			NullProgressMonitor monitor = new NullProgressMonitor();
+			fMonitors[i] = monitor;
+			int index = i;
+			fPool.submit(() -> {
+				fStatuses[index] = resolve(index, monitor);
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Resolves the locations that {@link #start()} did not schedule in the
+	 * calling thread, then waits for the scheduled ones. Cancelling the given
+	 * monitor cancels the locations still being resolved.
+	 *
+	 * @param monitor the monitor to report progress to, 100 ticks are consumed
+	 *            per location
+	 * @return the resolution status of each location in the order of the
+	 *         locations
+	 * @throws OperationCanceledException if the monitor has been cancelled
+	 */
+	IStatus[] join(SubMonitor monitor) throws OperationCanceledException {
+		for (int i = 0; i < fLocations.size(); i++) {
+			if (fMonitors[i] == null) {
+				monitor.checkCanceled();
+				monitor.subTask(Messages.TargetDefinition_4);
+				fStatuses[i] = resolve(i, monitor.split(100));
+			}
+		}
+		// the scheduled locations report their progress as they complete
+		while (fPool != null && fPool.getPending() > 0) {
+			awaitNext(monitor);
+			monitor.split(100);
+		}
+		if (PDECore.DEBUG_TARGET_RESOLUTION) {
+			for (int i = 0; i < fStatuses.length; i++) {
+				ITargetLocation location = fLocations.get(i);
+				System.out.println("Resolved " + location.getType() + " location " + location + " in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ TimeUnit.NANOSECONDS.toMillis(fDurations[i]) + " ms" //$NON-NLS-1$
+						+ (fMonitors[i] != null ? " on a worker thread" : "")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return fStatuses.clone();
+	}
+
+	/**
+	 * Stops the worker threads, cancelling the locations that are still being
+	 * resolved. Returns once the workers are done, so no location changes its
+	 * content after the target has been resolved.
+	 */
+	void shutdown() {
+		if (fPool == null) {
+			return;
+		}
+		cancel();
+		fPool.close();
+		fPool = null;
+	}
+
+	private IStatus resolve(int index, IProgressMonitor monitor) {
+		long start = System.nanoTime();
+		try {
+			return fLocations.get(index).resolve(fTarget, monitor);
+		} finally {
+			fDurations[index] = System.nanoTime() - start;
+		}
+	}
+
+	/**
+	 * Waits for the next scheduled location to be resolved.
+	 */
+	private void awaitNext(SubMonitor monitor) {
+		try {
+			fPool.awaitNext(monitor);
+		} catch (OperationCanceledException e) {
+			cancel();
+			throw e;
+		} catch (ExecutionException e) {
+			// behave as if the location had been resolved in this thread
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private void cancel() {
+		for (NullProgressMonitor monitor : fMonitors) {
+			if (monitor != null) {
+				monitor.setCanceled(true);
+			}
+		}
+	}
+}
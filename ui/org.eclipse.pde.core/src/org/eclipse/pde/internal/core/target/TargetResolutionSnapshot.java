@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import static org.eclipse.pde.internal.core.util.VersionedDataFile.readString;
+import static org.eclipse.pde.internal.core.util.VersionedDataFile.writeString;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.eclipse.pde.internal.core.util.VersionedDataFile;
+
+/**
+ * Persisted result of the synchronization of the IU containers of a target
+ * with their p2 profile. When the target, its settings, the profile and the
+ * bundle pool have not changed since the snapshot was written, the bundles
+ * and features of the containers are restored from the snapshot instead of
+ * loading and slicing the profile and opening every bundle of the pool.
+ * <p>
+ * A snapshot is written for each profile and is only valid for the key it
+ * was written with, see {@link P2TargetUtils}.
+ * </p>
+ */
+class TargetResolutionSnapshot {
+
+	private static final int VERSION = 1;
+
+	private static final IPath SNAPSHOTS = PDECore.getDefault().getStateLocation().append(".target_snapshots"); //$NON-NLS-1$
+
+	/**
+	 * Bundle restored from a snapshot. The manifest is only read from the
+	 * bundle location when it is asked for.
+	 */
+	private static final class SnapshotBundle extends TargetBundle {
+
+		SnapshotBundle(URI location, String symbolicName, String version, boolean fragment, BundleInfo sourceTarget, String sourcePath) {
+			fInfo = new BundleInfo(symbolicName, version, location, BundleInfo.NO_LEVEL, false) {
+				private String manifestString;
+
+				@Override
+				public String getManifest() {
+					if (manifestString == null) {
+						try {
+							Map<String, String> manifest = ManifestUtils.loadManifest(new File(location));
+							StringWriter writer = new StringWriter();
+							ManifestUtils.writeManifest(manifest, writer);
+							manifestString = writer.toString();
+						} catch (CoreException | IOException e) {
+						}
+					}
+					return manifestString;
+				}
+			};
+			fIsFragment = fragment;
+			fSourceTarget = sourceTarget;
+			fSourcePath = sourcePath;
+		}
+	}
+
+	private final VersionedDataFile fFile;
+
+	/**
+	 * @param profileId the id of the profile the snapshot is taken from
+	 */
+	TargetResolutionSnapshot(String profileId) {
+		fFile = new VersionedDataFile(SNAPSHOTS.append(CoreUtility.sha256Hex(profileId)).toFile(), VERSION);
+	}
+
+	/**
+	 * Restores the bundles and features of the given containers if the
+	 * snapshot was written for the given key and all bundles still exist.
+	 *
+	 * @param key the key of the current target state
+	 * @param target the target being resolved
+	 * @param containers the IU containers of the target in definition order
+	 * @return whether the containers have been restored
+	 */
+	boolean restore(String key, ITargetDefinition target, List<IUBundleContainer> containers) {
+		TargetBundle[][] bundles = new TargetBundle[containers.size()][];
+		TargetFeature[][] features = new TargetFeature[containers.size()][];
+		Boolean restored = fFile.read(in -> {
+			if (!key.equals(in.readUTF()) || in.readInt() != containers.size()) {
+				return null;
+			}
+			for (int i = 0; i < bundles.length; i++) {
+				bundles[i] = new TargetBundle[in.readInt()];
+				for (int j = 0; j < bundles[i].length; j++) {
+					URI location = URI.create(in.readUTF());
+					if (!new File(location).exists()) {
+						// the bundle pool has been cleaned up behind our back
+						return null;
+					}
+					String symbolicName = readString(in);
+					String version = readString(in);
+					boolean fragment = in.readBoolean();
+					String sourcePath = readString(in);
+					BundleInfo sourceTarget = null;
+					if (in.readBoolean()) {
+						String sourceName = readString(in);
+						String sourceVersion = readString(in);
+						String sourceLocation = readString(in);
+						sourceTarget = new BundleInfo(sourceName, sourceVersion, sourceLocation != null ? URI.create(sourceLocation) : null, BundleInfo.NO_LEVEL, false);
+					}
+					bundles[i][j] = new SnapshotBundle(location, symbolicName, version, fragment, sourceTarget, sourcePath);
+				}
+				features[i] = new TargetFeature[in.readInt()];
+				for (int j = 0; j < features[i].length; j++) {
+					try {
+						features[i][j] = new TargetFeature(new File(in.readUTF()));
+					} catch (CoreException e) {
+						// the feature is gone or unreadable, resolve from the profile
+						return null;
+					}
+				}
+			}
+			return Boolean.TRUE;
+		});
+		if (restored == null) {
+			return false;
+		}
+		for (int i = 0; i < bundles.length; i++) {
+			containers.get(i).restoreCaches(target, bundles[i], features[i]);
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the bundles and features of the given containers under the given
+	 * key. Nothing is written if one of the containers did not synchronize
+	 * successfully.
+	 *
+	 * @param key the key of the current target state
+	 * @param containers the IU containers of the target in definition order
+	 */
+	void save(String key, List<IUBundleContainer> containers) {
+		for (IUBundleContainer container : containers) {
+			if (container.fBundles == null || container.fFeatures == null
+					|| (container.fResolutionStatus != null && !container.fResolutionStatus.isOK())) {
+				delete();
+				return;
+			}
+			for (TargetFeature feature : container.fFeatures) {
+				if (feature.getLocation() == null) {
+					delete();
+					return;
+				}
+			}
+		}
+		fFile.write(out -> {
+			out.writeUTF(key);
+			out.writeInt(containers.size());
+			for (IUBundleContainer container : containers) {
+				out.writeInt(container.fBundles.length);
+				for (TargetBundle bundle : container.fBundles) {
+					BundleInfo info = bundle.getBundleInfo();
+					out.writeUTF(info.getLocation().toString());
+					writeString(out, info.getSymbolicName());
+					writeString(out, info.getVersion());
+					out.writeBoolean(bundle.isFragment());
+					writeString(out, bundle.getSourcePath());
+					BundleInfo sourceTarget = bundle.getSourceTarget();
+					out.writeBoolean(sourceTarget != null);
+					if (sourceTarget != null) {
+						writeString(out, sourceTarget.getSymbolicName());
+						writeString(out, sourceTarget.getVersion());
+						writeString(out, sourceTarget.getLocation() != null ? sourceTarget.getLocation().toString() : null);
+					}
+				}
+				out.writeInt(container.fFeatures.length);
+				for (TargetFeature feature : container.fFeatures) {
+					out.writeUTF(feature.getLocation());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Deletes the snapshot, the next synchronization has to use the profile.
+	 */
+	void delete() {
+		fFile.delete();
+	}
+}
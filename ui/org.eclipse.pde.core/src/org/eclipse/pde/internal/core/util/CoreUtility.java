@@ -21,6 +21,10 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -121,6 +125,23 @@ public class CoreUtility {
 		return text;
 	}
 
+	/**
+	 * Returns the hex encoded SHA-256 hash of the given text, used to derive
+	 * stable file names and cache keys from arbitrary strings.
+	 *
+	 * @param text the text to hash, encoded as UTF-8
+	 * @return the hex encoded hash
+	 */
+	public static String sha256Hex(String text) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
 	/**
 	 * Convenience method to delete the given file and any content (if the file is a
 	 * directory). Equivalent to calling {@link #deleteContent(File, IProgressMonitor)}
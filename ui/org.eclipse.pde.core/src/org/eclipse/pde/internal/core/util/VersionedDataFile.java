@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * A cache file written with a {@link DataOutputStream} and starting with a
+ * format version. A file that is missing, of another version or that cannot
+ * be read is treated as absent, the cache is then rebuilt from scratch.
+ * <p>
+ * org.eclipse.pde.build has a VersionedDataFile with the same contract and
+ * file format since it does not depend on this bundle, changes have to be made
+ * to both.
+ * </p>
+ */
+public class VersionedDataFile {
+
+	@FunctionalInterface
+	public interface Reader<T> {
+		/**
+		 * @return the content or <code>null</code> if it does not apply anymore
+		 */
+		T read(DataInputStream in) throws IOException;
+	}
+
+	@FunctionalInterface
+	public interface Writer {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	private final File fFile;
+	private final int fVersion;
+
+	/**
+	 * @param file the file, created along with its parent folders when written
+	 * @param version the version of the format, files of other versions are
+	 *            ignored
+	 */
+	public VersionedDataFile(File file, int version) {
+		fFile = file;
+		fVersion = version;
+	}
+
+	public File getFile() {
+		return fFile;
+	}
+
+	/**
+	 * Reads the content of the file.
+	 *
+	 * @param reader reads the content that follows the version
+	 * @return the content or <code>null</code> if the file does not exist, is
+	 *         of another version or is corrupt
+	 */
+	public <T> T read(Reader<T> reader) {
+		if (!fFile.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (in.readInt() != fVersion) {
+				return null;
+			}
+			return reader.read(in);
+		} catch (IOException | RuntimeException e) {
+			// corrupt file, start over
+			return null;
+		}
+	}
+
+	/**
+	 * Replaces the content of the file. If the content cannot be written the
+	 * problem is logged and the file is deleted.
+	 *
+	 * @param writer writes the content that follows the version
+	 * @return whether the file has been written
+	 */
+	public boolean write(Writer writer) {
+		fFile.getParentFile().mkdirs();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile)))) {
+			out.writeInt(fVersion);
+			writer.write(out);
+			return true;
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+		fFile.delete();
+		return false;
+	}
+
+	public void delete() {
+		fFile.delete();
+	}
+
+	public static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	/**
+	 * Writes a string that may be <code>null</code>, to be read with
+	 * {@link #readString(DataInputStream)}.
+	 */
+	public static void writeString(DataOutputStream out, String string) throws IOException {
+		out.writeBoolean(string != null);
+		if (string != null) {
+			out.writeUTF(string);
+		}
+	}
+
+	public static String[] readStrings(DataInputStream in) throws IOException {
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		return strings;
+	}
+
+	public static void writeStrings(DataOutputStream out, String[] strings) throws IOException {
+		out.writeInt(strings.length);
+		for (String string : strings) {
+			out.writeUTF(string);
+		}
+	}
+}
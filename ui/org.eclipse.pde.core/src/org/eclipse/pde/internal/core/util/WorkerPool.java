@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * A bounded number of daemon threads running tasks for one operation. The
+ * caller collects the tasks as they complete while watching its progress
+ * monitor. Closing the pool cancels the tasks that have not started and waits
+ * for the running ones, so no task of the operation is left running once the
+ * operation returns.
+ * <p>
+ * Progress monitors are not thread safe, tasks that need to know about
+ * cancellation should be given their own monitor.
+ * </p>
+ */
+public class WorkerPool implements AutoCloseable {
+
+	/**
+	 * Progress monitors do not notify about cancellation, waiting for the
+	 * tasks is interrupted at this interval to check the monitor
+	 */
+	private static final long CANCELLATION_CHECK_INTERVAL = 100;
+
+	private final ThreadPoolExecutor fExecutor;
+	private final CompletionService<Object> fCompletionService;
+	private int fPending;
+
+	/**
+	 * @param name the name of the threads, followed by their number
+	 * @param threads the maximum number of threads
+	 */
+	public WorkerPool(String name, int threads) {
+		AtomicInteger threadCount = new AtomicInteger();
+		int count = Math.max(1, threads);
+		fExecutor = new ThreadPoolExecutor(count, count, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread = new Thread(r, name + " #" + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		fCompletionService = new ExecutorCompletionService<>(fExecutor);
+	}
+
+	/**
+	 * @param max the maximum number of threads
+	 * @return the number of processors, at most the given maximum
+	 */
+	public static int getProcessorCount(int max) {
+		return Math.max(1, Math.min(max, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Schedules the task.
+	 */
+	public void submit(Callable<?> task) {
+		fCompletionService.submit(task::call);
+		fPending++;
+	}
+
+	/**
+	 * @return the number of submitted tasks that have not been awaited yet
+	 */
+	public int getPending() {
+		return fPending;
+	}
+
+	/**
+	 * Waits for the next submitted task to complete.
+	 *
+	 * @param monitor the monitor of the caller, only checked for cancellation
+	 * @throws ExecutionException if the task failed
+	 * @throws OperationCanceledException if the monitor has been cancelled or
+	 *             the calling thread interrupted
+	 */
+	public void awaitNext(IProgressMonitor monitor) throws ExecutionException {
+		if (fPending == 0) {
+			throw new IllegalStateException("No task pending"); //$NON-NLS-1$
+		}
+		try {
+			Future<Object> completed;
+			while ((completed = fCompletionService.poll(CANCELLATION_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) == null) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+			fPending--;
+			completed.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Waits for all submitted tasks to complete.
+	 *
+	 * @param monitor the monitor of the caller, only checked for cancellation
+	 * @throws ExecutionException if one of the tasks failed
+	 * @throws OperationCanceledException if the monitor has been cancelled or
+	 *             the calling thread interrupted
+	 */
+	public void awaitAll(IProgressMonitor monitor) throws ExecutionException {
+		while (fPending > 0) {
+			awaitNext(monitor);
+		}
+	}
+
+	/**
+	 * Accepts no new tasks, cancels the tasks that have not started and waits
+	 * until the running ones have completed. Running tasks are not interrupted
+	 * unless the calling thread is interrupted while waiting, they are still
+	 * waited for then.
+	 */
+	@Override
+	public void close() {
+		fExecutor.shutdown();
+		List<Runnable> notStarted = new ArrayList<>();
+		fExecutor.getQueue().drainTo(notStarted);
+		for (Runnable task : notStarted) {
+			if (task instanceof Future<?> future) {
+				future.cancel(false);
+			}
+		}
+		boolean interrupted = false;
+		while (true) {
+			try {
+				if (fExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+					break;
+				}
+			} catch (InterruptedException e) {
+				interrupted = true;
+				fExecutor.shutdownNow();
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
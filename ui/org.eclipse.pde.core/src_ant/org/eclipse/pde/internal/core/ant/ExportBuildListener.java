@@ -61,7 +61,7 @@ public class ExportBuildListener implements BuildListener {
 	@Override
 	public void messageLogged(BuildEvent event) {
 		if (event.getPriority() == Project.MSG_ERR) {
-			FeatureExportOperation.errorFound();
+			FeatureExportOperation.errorFound(event.getProject().getProperty(FeatureExportOperation.OPERATION_ID_PROPERTY));
 		}
 	}
 
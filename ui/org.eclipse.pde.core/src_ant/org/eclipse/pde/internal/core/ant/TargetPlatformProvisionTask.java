@@ -39,6 +39,7 @@ public class TargetPlatformProvisionTask extends Task {
 	private File targetFile;
 	private File destinationDirectory;
 	private boolean clearDestination;
+	private boolean linkFiles;
 
 
 	@Override
@@ -57,7 +58,7 @@ public class TargetPlatformProvisionTask extends Task {
 
 	private void export(final ITargetDefinition targetDefinition) throws CoreException {
 		// export using Job to allow progress reporting when run inside IDE
-		ExportTargetJob exportTargetJob = new ExportTargetJob(targetDefinition, destinationDirectory.toURI(), clearDestination);
+		ExportTargetJob exportTargetJob = new ExportTargetJob(targetDefinition, destinationDirectory.toURI(), clearDestination, linkFiles);
 		exportTargetJob.schedule();
 		try {
 			exportTargetJob.join();
@@ -121,6 +122,15 @@ public class TargetPlatformProvisionTask extends Task {
 		this.clearDestination = clearDestination;
 	}
 
+	/**
+	 * Set whether the files of the target are hard linked into the destination
+	 * instead of copied, when the destination is on the same file system.
+	 * @param linkFiles
+	 */
+	public void setLinkFiles(boolean linkFiles) {
+		this.linkFiles = linkFiles;
+	}
+
 	/**
 	 * Set the folder in which the target will be provisioned.
 	 * @param destinationDirectory
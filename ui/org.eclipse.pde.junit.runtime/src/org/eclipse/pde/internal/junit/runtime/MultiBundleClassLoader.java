@@ -16,35 +16,130 @@ package org.eclipse.pde.internal.junit.runtime;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.framework.wiring.BundleCapability;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
 
 class MultiBundleClassLoader extends ClassLoader {
 	private final List<Bundle> bundleList;
+	/**
+	 * The first bundle of the list that sees a package, through its own content,
+	 * its imported packages or its required bundles. Built on the first lookup.
+	 */
+	private volatile Map<String, Bundle> packageIndex;
+	/** Classes none of the bundles could load */
+	private final Set<String> missingClasses = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
 	public MultiBundleClassLoader(List<Bundle> platformEngineBundles) {
 		super(null); // never delegate to system classloader, only load classes via given Bundles
 		this.bundleList = platformEngineBundles;
 	}
 
+	/**
+	 * Forgets the package index and the missing classes, to be called after
+	 * the bundles were refreshed.
+	 */
+	void reset() {
+		packageIndex = null;
+		missingClasses.clear();
+	}
+
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		if (missingClasses.contains(name)) {
+			throw new ClassNotFoundException(name);
+		}
+		Bundle indexed = getPackageIndex().get(getPackageName(name));
+		if (indexed != null) {
+			Class<?> c = loadClass(indexed, name);
+			if (c != null) {
+				return c;
+			}
+		}
+		// split packages, dynamic imports and boot delegation are not indexed
 		for (Bundle temp : bundleList) {
-			try {
-				Class<?> c = temp.loadClass(name);
+			if (temp != indexed) {
+				Class<?> c = loadClass(temp, name);
 				if (c != null) {
 					return c;
 				}
-			} catch (ClassNotFoundException e) {
 			}
 		}
+		missingClasses.add(name);
 		throw new ClassNotFoundException(name);
 	}
 
+	private static Class<?> loadClass(Bundle bundle, String name) {
+		try {
+			return bundle.loadClass(name);
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static String getPackageName(String className) {
+		int index = className.lastIndexOf('.');
+		return index < 0 ? "" : className.substring(0, index); //$NON-NLS-1$
+	}
+
+	private Map<String, Bundle> getPackageIndex() {
+		Map<String, Bundle> index = packageIndex;
+		if (index == null) {
+			index = new HashMap<>();
+			for (Bundle bundle : bundleList) {
+				BundleWiring wiring = bundle.adapt(BundleWiring.class);
+				if (wiring == null) {
+					continue;
+				}
+				for (String packageName : getVisiblePackages(wiring)) {
+					index.putIfAbsent(packageName, bundle);
+				}
+			}
+			packageIndex = index;
+		}
+		return index;
+	}
+
+	private static Collection<String> getVisiblePackages(BundleWiring wiring) {
+		List<String> packages = new ArrayList<>();
+		for (String resource : wiring.listResources("/", "*.class", BundleWiring.LISTRESOURCES_LOCAL | BundleWiring.LISTRESOURCES_RECURSE)) { //$NON-NLS-1$ //$NON-NLS-2$
+			int index = resource.lastIndexOf('/');
+			packages.add(index < 0 ? "" : resource.substring(0, index).replace('/', '.')); //$NON-NLS-1$
+		}
+		for (BundleWire wire : wiring.getRequiredWires(PackageNamespace.PACKAGE_NAMESPACE)) {
+			Object packageName = wire.getCapability().getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE);
+			if (packageName instanceof String) {
+				packages.add((String) packageName);
+			}
+		}
+		for (BundleWire wire : wiring.getRequiredWires(BundleNamespace.BUNDLE_NAMESPACE)) {
+			BundleWiring provider = wire.getProviderWiring();
+			if (provider == null) {
+				continue;
+			}
+			for (BundleCapability capability : provider.getCapabilities(PackageNamespace.PACKAGE_NAMESPACE)) {
+				Object packageName = capability.getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE);
+				if (packageName instanceof String) {
+					packages.add((String) packageName);
+				}
+			}
+		}
+		return packages;
+	}
+
 	@Override
 	protected URL findResource(String name) {
 		for (Bundle temp : bundleList) {
@@ -71,4 +166,4 @@ class MultiBundleClassLoader extends ClassLoader {
 		}
 		return Collections.enumeration(merged);
 	}
-}
\ No newline at end of file
+}
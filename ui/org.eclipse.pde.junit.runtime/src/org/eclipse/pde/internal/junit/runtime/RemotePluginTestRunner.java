@@ -24,6 +24,7 @@ import java.util.function.Predicate;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+import org.eclipse.jdt.internal.junit.runner.TestExecution;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
@@ -36,6 +37,9 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 
 	private String fTestPluginName;
 	private ClassLoader fLoaderClassLoader;
+	private WorkspaceBundleUpdater fBundleUpdater;
+	private MultiBundleClassLoader fJUnit5ClassLoader;
+	private volatile boolean fRerunning;
 
 	static class BundleClassLoader extends ClassLoader {
 		private final Bundle bundle;
@@ -65,7 +69,10 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 	 * to the ones supported by RemoteTestRunner:
 	 * <pre>
 	 * -testpluginname: the name of the plugin containing the tests.
-	  * </pre>
+	 * </pre>
+	 * With <code>-keepalive</code> the runtime stays up after the tests ran, and
+	 * the workspace bundles that changed in between are updated before each
+	 * rerun of a test.
 	 * @see RemoteTestRunner
 	 */
 	public static void main(String[] args) {
@@ -75,7 +82,8 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		if (isJUnit5(args)) {
 			//change the classloader so that the test classes in testplugin are discoverable
 			//by junit5 framework  see bug 520811
-			Thread.currentThread().setContextClassLoader(createJUnit5PluginClassLoader(testRunner.getTestPluginName()));
+			testRunner.fJUnit5ClassLoader = createJUnit5PluginClassLoader(testRunner.getTestPluginName());
+			Thread.currentThread().setContextClassLoader(testRunner.fJUnit5ClassLoader);
 		}
 		testRunner.run();
 		if (isJUnit5(args)) {
@@ -83,7 +91,7 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		}
 	}
 
-	private static ClassLoader createJUnit5PluginClassLoader(String testPluginName) {
+	private static MultiBundleClassLoader createJUnit5PluginClassLoader(String testPluginName) {
 		Bundle testBundle = Platform.getBundle(testPluginName);
 		if (testBundle == null) {
 			throw new IllegalArgumentException("Bundle \"" + testPluginName + "\" not found. Possible causes include missing dependencies, too restrictive version ranges, or a non-matching required execution environment."); //$NON-NLS-1$ //$NON-NLS-2$
@@ -120,6 +128,11 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 	 */
 	@Override
 	protected ClassLoader getTestClassLoader() {
+		// after the initial run the runtime only loads the class of each rerun request
+		if (fRerunning && fBundleUpdater != null && fBundleUpdater.updateChangedBundles() && fJUnit5ClassLoader != null) {
+			// the refreshed bundles have new wirings
+			fJUnit5ClassLoader.reset();
+		}
 		final String pluginId = getTestPluginName();
 		return getClassLoader(pluginId);
 	}
@@ -132,6 +145,16 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		return new BundleClassLoader(bundle);
 	}
 
+	@Override
+	public void runTests(String[] testClassNames, String testName, TestExecution execution) {
+		try {
+			super.runTests(testClassNames, testName, execution);
+		} finally {
+			// a kept alive runtime now waits for rerun requests
+			fRerunning = true;
+		}
+	}
+
 	@Override
 	public void init(String[] args) {
 		readPluginArgs(args);
@@ -167,6 +190,9 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		if (fLoaderClassLoader == null) {
 			fLoaderClassLoader = getClass().getClassLoader();
 		}
+		if (indexOf(args, "-keepalive"::equalsIgnoreCase) > -1) { //$NON-NLS-1$
+			fBundleUpdater = new WorkspaceBundleUpdater(this::runFailed);
+		}
 	}
 
 	@Override
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.junit.runtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.wiring.FrameworkWiring;
+
+/**
+ * Updates the workspace bundles of a test runtime that is kept alive between
+ * test runs. The workspace bundles are the ones the launch lists in the dev
+ * properties, they are installed by reference from their project. When the
+ * output folders of such a bundle changed since the last run, the bundle is
+ * updated and refreshed so the rerun tests see the new classes without
+ * restarting the platform.
+ */
+class WorkspaceBundleUpdater {
+
+	private static final String REFERENCE_FILE = "reference:file:"; //$NON-NLS-1$
+
+	private static final long REFRESH_TIMEOUT = 30;
+
+	private final BundleContext fContext;
+	private final Map<Bundle, String[]> fOutputFolders = new HashMap<>();
+	private final Map<Bundle, Long> fStamps = new HashMap<>();
+	private final BiConsumer<String, Exception> fErrorHandler;
+
+	/**
+	 * @param errorHandler reports the bundles that could not be updated, with
+	 *            a message and the exception
+	 */
+	WorkspaceBundleUpdater(BiConsumer<String, Exception> errorHandler) {
+		fErrorHandler = errorHandler;
+		fContext = FrameworkUtil.getBundle(WorkspaceBundleUpdater.class).getBundleContext();
+		Properties devEntries = loadDevEntries(fContext.getProperty("osgi.dev")); //$NON-NLS-1$
+		for (Bundle bundle : fContext.getBundles()) {
+			String entries = bundle.getSymbolicName() != null ? devEntries.getProperty(bundle.getSymbolicName()) : null;
+			if (entries != null && getRoot(bundle) != null) {
+				fOutputFolders.put(bundle, entries.split(",")); //$NON-NLS-1$
+				fStamps.put(bundle, getStamp(bundle));
+			}
+		}
+	}
+
+	/**
+	 * Updates and refreshes the workspace bundles whose content changed since
+	 * the previous run.
+	 *
+	 * @return whether any bundle was updated
+	 */
+	synchronized boolean updateChangedBundles() {
+		if (fStamps.isEmpty()) {
+			return false;
+		}
+
+		List<Bundle> changed = new ArrayList<>();
+		for (Map.Entry<Bundle, Long> entry : fStamps.entrySet()) {
+			long stamp = getStamp(entry.getKey());
+			if (stamp != entry.getValue()) {
+				entry.setValue(stamp);
+				changed.add(entry.getKey());
+			}
+		}
+		if (changed.isEmpty()) {
+			return false;
+		}
+		for (Bundle bundle : changed) {
+			try {
+				bundle.update();
+			} catch (BundleException e) {
+				fErrorHandler.accept("Could not update bundle " + bundle.getSymbolicName(), e); //$NON-NLS-1$
+			}
+		}
+		CountDownLatch refreshed = new CountDownLatch(1);
+		FrameworkWiring wiring = fContext.getBundle(Constants.SYSTEM_BUNDLE_LOCATION).adapt(FrameworkWiring.class);
+		wiring.refreshBundles(changed, event -> refreshed.countDown());
+		try {
+			if (!refreshed.await(REFRESH_TIMEOUT, TimeUnit.SECONDS)) {
+				fErrorHandler.accept("The updated bundles have not been refreshed within " + REFRESH_TIMEOUT + " seconds", null); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return true;
+	}
+
+	private long getStamp(Bundle bundle) {
+		File root = getRoot(bundle);
+		if (root == null) {
+			return 0;
+		}
+		long stamp = new File(root, "META-INF/MANIFEST.MF").lastModified(); //$NON-NLS-1$
+		for (String folder : fOutputFolders.get(bundle)) {
+			File output = new File(root, folder.trim());
+			if (!output.isDirectory()) {
+				continue;
+			}
+			try (Stream<Path> files = Files.walk(output.toPath())) {
+				stamp = Math.max(stamp, files.mapToLong(file -> file.toFile().lastModified()).max().orElse(0));
+			} catch (IOException | RuntimeException e) {
+				// consider it changed, the update reads the folder again
+				stamp = System.nanoTime();
+			}
+		}
+		return stamp;
+	}
+
+	private static File getRoot(Bundle bundle) {
+		String location = bundle.getLocation();
+		if (location == null || !location.startsWith(REFERENCE_FILE)) {
+			return null;
+		}
+		File root = new File(location.substring(REFERENCE_FILE.length()));
+		return root.isDirectory() ? root : null;
+	}
+
+	private static Properties loadDevEntries(String devProperty) {
+		Properties properties = new Properties();
+		if (devProperty == null) {
+			return properties;
+		}
+		try (InputStream stream = new URL(devProperty).openStream()) {
+			properties.load(stream);
+		} catch (IOException e) {
+			// not a dev properties file but the output folders of all bundles, nothing to tell the workspace bundles apart
+		}
+		return properties;
+	}
+}
@@ -37,6 +37,34 @@ public interface IPDEConstants {
 	 * TODO, move to IPDELauncherConstants in 3.4
 	 */
 	String DOCLEARLOG = "clearwslog"; //$NON-NLS-1$
+	/**
+	 * Launch configuration attribute key. The value is a boolean specifying
+	 * whether the configuration area is updated in place: config.ini and
+	 * bundles.info are only rewritten when their content changes, so the
+	 * launched framework can reuse its persisted state across launches when the
+	 * area is not cleared. The framework then checks the persisted bundles
+	 * against their locations.
+	 */
+	String UPDATE_CONFIG_IN_PLACE = "updateConfigInPlace"; //$NON-NLS-1$
+	/**
+	 * Launch configuration attribute key. The value is an int specifying the
+	 * number of runtimes the test classes of a JUnit plug-in test launch of a
+	 * project, source folder or package are distributed to. Each runtime has
+	 * its own configuration and workspace area and reports to a test run
+	 * session of its own. Values below 2 run all tests in one runtime.
+	 * <p>
+	 * Internal, not offered in the launch configuration dialog: only the first
+	 * runtime belongs to the launch, the others are separate launches that are
+	 * not terminated with it.
+	 * </p>
+	 */
+	String JUNIT_SHARDS = "pde.junit.shards"; //$NON-NLS-1$
+	/**
+	 * Launch configuration attribute key set on the shards of a sharded JUnit
+	 * plug-in test launch. The value is the list of the test classes the
+	 * shard runs.
+	 */
+	String JUNIT_SHARD_TESTS = "pde.junit.shardTests"; //$NON-NLS-1$
 	String LAUNCHER_PDE_VERSION = "pde.version"; //$NON-NLS-1$
 	String APPEND_ARGS_EXPLICITLY = "append.args"; //$NON-NLS-1$
 
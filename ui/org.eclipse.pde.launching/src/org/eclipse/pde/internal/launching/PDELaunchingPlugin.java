@@ -25,6 +25,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfigurationListener;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationListener;
 import org.eclipse.pde.internal.launching.launcher.LaunchListener;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
@@ -139,6 +140,7 @@ public class PDELaunchingPlugin extends Plugin implements IPDEConstants {
 			fDebugPluginUtil.removeListener();
 		}
 		LauncherUtils.shutdown();
+		BundleLauncherHelper.shutdown();
 		super.stop(context);
 	}
 
@@ -51,6 +51,8 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IMatchRules;
 import org.eclipse.pde.core.plugin.IPluginBase;
@@ -62,7 +64,11 @@ import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.core.DependencyManager;
 import org.eclipse.pde.internal.core.FeatureModelManager;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.IStateDeltaListener;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.core.ifeature.IFeatureChild;
@@ -103,12 +109,137 @@ public class BundleLauncherHelper {
 		return getWorkspaceBundleMap(configuration, new HashMap<>());
 	}
 
-	public static Map<IPluginModelBase, String> getMergedBundleMap(ILaunchConfiguration configuration, boolean osgi) throws CoreException {
+	// --- selection cache ---
+
+	private static final int MAX_CACHED_SELECTIONS = 16;
+
+	/**
+	 * Identifies the input of a computed bundle map: the (migrated) launch
+	 * attributes and the state of the plug-in and feature models. The resolver
+	 * state is only identified by its identity hash and time stamp, so that a
+	 * cached key does not keep a replaced state alive.
+	 */
+	private record SelectionKey(Map<String, Object> attributes, boolean osgi, long generation, int stateId, long stateStamp, long featureStamp) {
+	}
+
+	private record CachedSelection(SelectionKey key, Map<IPluginModelBase, String> bundleMap) {
+	}
+
+	/**
+	 * The bundle map last computed per launch configuration name.
+	 */
+	private static final Map<String, CachedSelection> SELECTION_CACHE = new LinkedHashMap<>(MAX_CACHED_SELECTIONS, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedSelection> eldest) {
+			return size() > MAX_CACHED_SELECTIONS;
+		}
+	};
+
+	/**
+	 * Incremented whenever the plug-in models change, the cached bundle maps
+	 * computed before are dropped at the same time.
+	 */
+	private static long selectionGeneration;
+
+	/**
+	 * The identity hash of the resolver state the cached bundle maps were
+	 * computed for.
+	 */
+	private static int selectionStateId;
+
+	private static SelectionCacheInvalidator selectionCacheInvalidator;
+
+	/**
+	 * Drops the cached bundle maps when the plug-in models or the target
+	 * platform change, so that they do not hold on to removed models.
+	 */
+	private static final class SelectionCacheInvalidator implements IPluginModelListener, IStateDeltaListener {
+		@Override
+		public void modelsChanged(PluginModelDelta delta) {
+			clearSelectionCache();
+		}
 
+		@Override
+		public void stateResolved(StateDelta delta) {
+			clearSelectionCache();
+		}
+
+		@Override
+		public void stateChanged(State newState) {
+			clearSelectionCache();
+		}
+	}
+
+	private static void clearSelectionCache() {
+		synchronized (SELECTION_CACHE) {
+			SELECTION_CACHE.clear();
+			selectionGeneration++;
+		}
+	}
+
+	/**
+	 * Stops listening to model changes and drops the cached bundle maps.
+	 */
+	public static void shutdown() {
+		synchronized (SELECTION_CACHE) {
+			if (selectionCacheInvalidator != null) {
+				PluginModelManager manager = PDECore.getDefault().getModelManager();
+				manager.removePluginModelListener(selectionCacheInvalidator);
+				manager.removeStateDeltaListener(selectionCacheInvalidator);
+				selectionCacheInvalidator = null;
+			}
+			SELECTION_CACHE.clear();
+		}
+	}
+
+	public static Map<IPluginModelBase, String> getMergedBundleMap(ILaunchConfiguration configuration, boolean osgi) throws CoreException {
 		ILaunchConfigurationWorkingCopy wc = getWorkingCopy(configuration);
 		if (!osgi) {
-
 			migrateLaunchConfiguration(wc);
+		} else {
+			migrateOsgiLaunchConfiguration(wc);
+		}
+		// the selection only depends on the attributes and on the models, as long as
+		// none of them changed the map computed before is still valid
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		State state = manager.getState().getState();
+		int stateId = System.identityHashCode(state);
+		long featureStamp = PDECore.getDefault().getFeatureModelManager().getModificationStamp();
+		String name = configuration.getName();
+		SelectionKey key;
+		synchronized (SELECTION_CACHE) {
+			if (selectionCacheInvalidator == null) {
+				selectionCacheInvalidator = new SelectionCacheInvalidator();
+				manager.addPluginModelListener(selectionCacheInvalidator);
+				manager.addStateDeltaListener(selectionCacheInvalidator);
+			}
+			// a reloaded target does not always notify the listeners, but it
+			// always comes with a new resolver state
+			if (stateId != selectionStateId) {
+				SELECTION_CACHE.clear();
+				selectionGeneration++;
+				selectionStateId = stateId;
+			}
+			key = new SelectionKey(wc.getAttributes(), osgi, selectionGeneration, stateId, state.getTimeStamp(), featureStamp);
+			CachedSelection cached = SELECTION_CACHE.get(name);
+			if (cached != null && cached.key().equals(key)) {
+				return new LinkedHashMap<>(cached.bundleMap());
+			}
+		}
+		Map<IPluginModelBase, String> bundleMap = computeMergedBundleMap(configuration, wc, osgi);
+		synchronized (SELECTION_CACHE) {
+			// the models may have changed while the map was computed
+			if (key.generation() == selectionGeneration) {
+				SELECTION_CACHE.put(name, new CachedSelection(key, new LinkedHashMap<>(bundleMap)));
+			}
+		}
+		return bundleMap;
+	}
+
+	private static Map<IPluginModelBase, String> computeMergedBundleMap(ILaunchConfiguration configuration, ILaunchConfigurationWorkingCopy wc, boolean osgi) throws CoreException {
+		if (!osgi) {
 
 			if (wc.getAttribute(IPDELauncherConstants.USE_DEFAULT, true)) {
 				Map<IPluginModelBase, String> map = new LinkedHashMap<>();
@@ -119,9 +250,6 @@ public class BundleLauncherHelper {
 				}
 				return map;
 			}
-
-		} else {
-			migrateOsgiLaunchConfiguration(wc);
 		}
 
 		if (wc.getAttribute(IPDELauncherConstants.USE_CUSTOM_FEATURES, false)) {
@@ -15,6 +15,7 @@
 package org.eclipse.pde.internal.launching.launcher;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,9 +55,16 @@ public class EclipsePluginValidationOperation extends LaunchValidationOperation
 	private void validateExtensions() {
 		try {
 			List<String> required = RequirementHelper.getApplicationLaunchRequirements(fLaunchConfiguration);
+			// the validated bundles are the selected ones, there is no need for a state of their own
+			Set<String> selected = new HashSet<>();
+			for (IPluginModelBase model : fModels) {
+				BundleDescription bundle = model.getBundleDescription();
+				if (bundle != null) {
+					selected.add(bundle.getSymbolicName());
+				}
+			}
 			for (String element : required) {
-				BundleDescription bundle = getState().getBundle(element, null);
-				if (bundle == null) {
+				if (!selected.contains(element)) {
 					String message = NLS.bind(PDEMessages.EclipsePluginValidationOperation_pluginMissing, element);
 					Status status = new Status(IStatus.ERROR, IPDEConstants.PLUGIN_ID, CREATE_EXTENSION_ERROR_CODE, message, null);
 					IStatusHandler statusHandler = DebugPlugin.getDefault().getStatusHandler(status);
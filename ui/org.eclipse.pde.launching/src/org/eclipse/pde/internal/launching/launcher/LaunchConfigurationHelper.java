@@ -65,6 +65,8 @@ public class LaunchConfigurationHelper {
 	 */
 	private static final String DEFAULT_P2_DIRECTORY = ".p2"; //$NON-NLS-1$
 
+	private static final String CONFIG_INI = "config.ini"; //$NON-NLS-1$
+
 	public static void synchronizeManifests(ILaunchConfiguration config, File configDir) {
 		try {
 			String programArgs = config.getAttribute(IJavaLaunchConfigurationConstants.ATTR_PROGRAM_ARGUMENTS, ""); //$NON-NLS-1$
@@ -123,6 +125,7 @@ public class LaunchConfigurationHelper {
 	 * @return a properties object containing the properties written out to config.ini
 	 */
 	public static Properties createConfigIniFile(ILaunchConfiguration configuration, String productID, Map<String, List<IPluginModelBase>> bundles, Map<IPluginModelBase, String> bundlesWithStartLevels, File configurationDirectory) throws CoreException {
+		boolean inPlace = isUpdatedInPlace(configuration);
 		Properties properties = null;
 		// if we are to generate a config.ini, start with the values in the target platform's config.ini - bug 141918
 		if (configuration.getAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, true)) {
@@ -172,9 +175,9 @@ public class LaunchConfigurationHelper {
 			URL bundlesTxt = null;
 			boolean usedefault = configuration.getAttribute(IPDELauncherConstants.USE_DEFAULT, true);
 			if (usedefault) {
-				bundlesTxt = P2Utils.writeBundlesTxt(bundlesWithStartLevels, start, autostart, configurationDirectory, osgiBundles);
+				bundlesTxt = P2Utils.writeBundlesTxt(bundlesWithStartLevels, start, autostart, configurationDirectory, osgiBundles, inPlace);
 			} else {
-				bundlesTxt = P2Utils.writeBundlesTxt(bundlesWithStartLevels, start, autostart, configurationDirectory, null);
+				bundlesTxt = P2Utils.writeBundlesTxt(bundlesWithStartLevels, start, autostart, configurationDirectory, null, inPlace);
 			}
 
 			// Add bundles.txt as p2 config data
@@ -206,10 +209,36 @@ public class LaunchConfigurationHelper {
 
 		setBundleLocations(bundles, properties, autostart);
 
-		save(new File(configurationDirectory, "config.ini"), properties); //$NON-NLS-1$
+		if (inPlace) {
+			addUpdateInPlaceProperties(properties);
+		}
+		save(new File(configurationDirectory, CONFIG_INI), properties, inPlace);
 		return properties;
 	}
 
+	/**
+	 * Returns whether the configuration area of the launch is updated in
+	 * place, see {@link IPDEConstants#UPDATE_CONFIG_IN_PLACE}.
+	 *
+	 * @param configuration the launch configuration
+	 * @return <code>true</code> if unchanged configuration files are kept
+	 */
+	public static boolean isUpdatedInPlace(ILaunchConfiguration configuration) throws CoreException {
+		return configuration.getAttribute(IPDEConstants.UPDATE_CONFIG_IN_PLACE, false);
+	}
+
+	/**
+	 * Makes the framework of a launch whose configuration area is updated in
+	 * place check the bundles it has persisted against their locations, so
+	 * bundles changed since the last launch are not run from its state.
+	 *
+	 * @param properties the properties of config.ini
+	 */
+	public static void addUpdateInPlaceProperties(Properties properties) {
+		if (!properties.containsKey("osgi.checkConfiguration")) //$NON-NLS-1$
+			properties.setProperty("osgi.checkConfiguration", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	private static void addRequiredProperties(Properties properties, String productID, Map<String, List<IPluginModelBase>> bundles, Map<IPluginModelBase, String> bundlesWithStartLevels, boolean autoStart) {
 		if (!properties.containsKey("osgi.install.area")) //$NON-NLS-1$
 			properties.setProperty("osgi.install.area", "file:" + TargetPlatform.getLocation()); //$NON-NLS-1$ //$NON-NLS-2$
@@ -482,6 +511,30 @@ public class LaunchConfigurationHelper {
 	}
 
 	public static void save(File file, Properties properties) {
+		save(file, properties, false);
+	}
+
+	/**
+	 * Saves the properties to the given file.
+	 *
+	 * @param file the file to write
+	 * @param properties the properties to save
+	 * @param onlyIfChanged whether to keep the file as it is when it already
+	 *            contains the same properties
+	 */
+	public static void save(File file, Properties properties, boolean onlyIfChanged) {
+		if (onlyIfChanged && file.isFile()) {
+			// the stored file starts with a date comment, compare the properties themselves
+			Properties existing = new Properties();
+			try (FileInputStream stream = new FileInputStream(file)) {
+				existing.load(stream);
+				if (existing.equals(properties)) {
+					return;
+				}
+			} catch (IOException e) {
+				// rewrite it
+			}
+		}
 		try (FileOutputStream stream = new FileOutputStream(file)) {
 			properties.store(stream, "Configuration File"); //$NON-NLS-1$
 			stream.flush();
@@ -22,6 +22,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationListener;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class LaunchConfigurationListener implements ILaunchConfigurationListener {
@@ -36,6 +37,8 @@ public class LaunchConfigurationListener implements ILaunchConfigurationListener
 
 	@Override
 	public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+		// the validation state is kept by configuration name
+		BundleValidationOperation.discardCachedState(configuration.getName());
 		final File configDir = LaunchConfigurationHelper.getConfigurationLocation(configuration);
 		if (configDir.exists()) {
 			// rename the config area if it was auto-set by PDE when the launch configuration is renamed
@@ -52,7 +52,9 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
-		fOperation = new BundleValidationOperation(fModels, getPlatformProperties());
+		// the state of the last validation of the same configuration is updated instead of being created again
+		Object cacheKey = fLaunchConfiguration != null ? fLaunchConfiguration.getName() : null;
+		fOperation = new BundleValidationOperation(fModels, getPlatformProperties(), cacheKey);
 		fOperation.run(monitor);
 	}
 
@@ -132,7 +134,7 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public boolean isEmpty() {
-		return fOperation.getState().getHighestBundleId() == -1;
+		return fOperation.isEmpty();
 	}
 
 	protected State getState() {
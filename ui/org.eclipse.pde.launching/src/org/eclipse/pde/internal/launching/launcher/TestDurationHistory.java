@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.jdt.junit.TestRunListener;
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElementContainer;
+import org.eclipse.jdt.junit.model.ITestRunSession;
+import org.eclipse.jdt.junit.model.ITestSuiteElement;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+
+/**
+ * Remembers how long the test classes took in the last JUnit sessions, so
+ * sharded plug-in test launches can balance the test classes across their
+ * shards. A new duration is averaged with the known one to smooth out
+ * outliers. The durations are persisted in the state location of the plug-in.
+ */
+public class TestDurationHistory extends TestRunListener {
+
+	private static final String FILE_NAME = "testDurations.properties"; //$NON-NLS-1$
+
+	private static Map<String, Long> fDurations;
+
+	@Override
+	public void sessionFinished(ITestRunSession session) {
+		Map<String, Long> measured = new HashMap<>();
+		collect(session, measured);
+		if (measured.isEmpty()) {
+			return;
+		}
+		synchronized (TestDurationHistory.class) {
+			Map<String, Long> durations = getDurations();
+			measured.forEach((name, millis) -> durations.merge(name, millis, (known, current) -> (known + current) / 2));
+			save(durations);
+		}
+	}
+
+	private static void collect(ITestElementContainer container, Map<String, Long> measured) {
+		for (ITestElement element : container.getChildren()) {
+			if (!(element instanceof ITestSuiteElement suite)) {
+				continue;
+			}
+			String name = suite.getSuiteTypeName();
+			if (isClassName(name)) {
+				double seconds = suite.getElapsedTimeInSeconds();
+				if (suite.getProgressState() == ITestElement.ProgressState.COMPLETED && !Double.isNaN(seconds)) {
+					measured.put(name, Math.round(seconds * 1000));
+				}
+			} else {
+				// engine or other grouping element, the classes are below it
+				collect(suite, measured);
+			}
+		}
+	}
+
+	private static boolean isClassName(String name) {
+		return name != null && !name.isEmpty() && name.chars().noneMatch(Character::isWhitespace);
+	}
+
+	/**
+	 * Returns the duration of the given test class in its last runs.
+	 *
+	 * @param className the fully qualified name of a test class
+	 * @return the duration in milliseconds or <code>-1</code> if the class has
+	 *         not been run yet
+	 */
+	public static synchronized long getDuration(String className) {
+		Long duration = getDurations().get(className);
+		return duration != null ? duration : -1;
+	}
+
+	private static Map<String, Long> getDurations() {
+		if (fDurations == null) {
+			fDurations = load();
+		}
+		return fDurations;
+	}
+
+	private static File getFile() {
+		return PDELaunchingPlugin.getDefault().getStateLocation().append(FILE_NAME).toFile();
+	}
+
+	private static Map<String, Long> load() {
+		Map<String, Long> durations = new HashMap<>();
+		File file = getFile();
+		if (!file.isFile()) {
+			return durations;
+		}
+		Properties properties = new Properties();
+		try (InputStream stream = new FileInputStream(file)) {
+			properties.load(stream);
+		} catch (IOException e) {
+			PDELaunchingPlugin.log(e);
+			return durations;
+		}
+		for (String name : properties.stringPropertyNames()) {
+			try {
+				durations.put(name, Long.parseLong(properties.getProperty(name)));
+			} catch (NumberFormatException e) {
+				// ignore the entry, it is measured again on the next run
+			}
+		}
+		return durations;
+	}
+
+	private static void save(Map<String, Long> durations) {
+		Properties properties = new Properties();
+		durations.forEach((name, millis) -> properties.setProperty(name, Long.toString(millis)));
+		try (OutputStream stream = new FileOutputStream(getFile())) {
+			properties.store(stream, "Durations of the test classes in milliseconds"); //$NON-NLS-1$
+		} catch (IOException e) {
+			PDELaunchingPlugin.log(e);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * Splits the test classes of a JUnit plug-in test launch into shards that run
+ * in separate runtimes.
+ */
+public class TestShardHelper {
+
+	/**
+	 * Duration assumed for the classes that have not been run yet.
+	 */
+	private static final long DEFAULT_DURATION = 1000;
+
+	private static final String TEST_NAMES_FILE = "testNames.txt"; //$NON-NLS-1$
+
+	private static final Set<String> TEST_SELECTION_ARGS = Set.of("-classNames", "-testNameFile", "-packageNameFile", "-test"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	private TestShardHelper() {
+	}
+
+	/**
+	 * Partitions the test classes so that all shards take about the same time,
+	 * based on the durations known by the {@link TestDurationHistory}. The
+	 * longest classes are assigned first, each to the shard with the smallest
+	 * total so far.
+	 *
+	 * @param testClasses the fully qualified names of the test classes
+	 * @param shardCount the maximum number of shards
+	 * @return the non empty shards
+	 */
+	public static List<List<String>> partition(Collection<String> testClasses, int shardCount) {
+		List<String> sorted = new ArrayList<>(testClasses);
+		sorted.sort(Comparator.comparingLong(TestShardHelper::getDuration).reversed().thenComparing(Comparator.naturalOrder()));
+		int count = Math.max(1, Math.min(shardCount, sorted.size()));
+		List<List<String>> shards = new ArrayList<>(count);
+		long[] totals = new long[count];
+		for (int i = 0; i < count; i++) {
+			shards.add(new ArrayList<>());
+		}
+		for (String testClass : sorted) {
+			int smallest = 0;
+			for (int i = 1; i < count; i++) {
+				if (totals[i] < totals[smallest]) {
+					smallest = i;
+				}
+			}
+			shards.get(smallest).add(testClass);
+			totals[smallest] += getDuration(testClass);
+		}
+		shards.removeIf(List::isEmpty);
+		return shards;
+	}
+
+	private static long getDuration(String testClass) {
+		long duration = TestDurationHistory.getDuration(testClass);
+		return duration >= 0 ? duration : DEFAULT_DURATION;
+	}
+
+	/**
+	 * Replaces the tests selected by the JUnit program arguments with the
+	 * test classes of a shard.
+	 *
+	 * @param programArgs the program arguments computed by JDT
+	 * @param testClasses the test classes of the shard
+	 * @param configDir the configuration area of the shard, where the list of
+	 *            test classes is written
+	 * @throws CoreException if the list can not be written
+	 */
+	public static void setTestClasses(List<String> programArgs, List<String> testClasses, File configDir) throws CoreException {
+		for (int i = 0; i < programArgs.size(); i++) {
+			if (TEST_SELECTION_ARGS.contains(programArgs.get(i))) {
+				programArgs.remove(i);
+				while (i < programArgs.size() && !programArgs.get(i).startsWith("-")) { //$NON-NLS-1$
+					programArgs.remove(i);
+				}
+				i--;
+			}
+		}
+		File file = new File(configDir, TEST_NAMES_FILE);
+		try {
+			Files.write(file.toPath(), testClasses, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new CoreException(Status.error(e.getMessage(), e));
+		}
+		programArgs.add("-testNameFile"); //$NON-NLS-1$
+		programArgs.add(file.getAbsolutePath());
+	}
+}
@@ -96,6 +96,7 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 	}
 
 	private void saveConfigurationFile(ILaunchConfiguration configuration) throws CoreException {
+		boolean inPlace = LaunchConfigurationHelper.isUpdatedInPlace(configuration);
 		Properties properties = new Properties();
 		properties.setProperty("osgi.install.area", "file:" + TargetPlatform.getLocation()); //$NON-NLS-1$ //$NON-NLS-2$
 		properties.setProperty("osgi.configuration.cascaded", "false"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -108,7 +109,7 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 		if (fAllBundles.containsKey(IPDEBuildConstants.BUNDLE_SIMPLE_CONFIGURATOR)) {
 
 			// If simple configurator is being used, we need to write out the bundles.txt instead of writing out the list in the config.ini
-			URL bundlesTxt = P2Utils.writeBundlesTxt(fModels, start, autostart, getConfigDir(configuration), null);
+			URL bundlesTxt = P2Utils.writeBundlesTxt(fModels, start, autostart, getConfigDir(configuration), null, inPlace);
 			if (bundlesTxt != null) {
 				properties.setProperty("org.eclipse.equinox.simpleconfigurator.configUrl", bundlesTxt.toString()); //$NON-NLS-1$
 			}
@@ -128,7 +129,10 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 			properties.put("osgi.noShutdown", "true"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
-		LaunchConfigurationHelper.save(new File(getConfigDir(configuration), "config.ini"), properties); //$NON-NLS-1$
+		if (inPlace) {
+			LaunchConfigurationHelper.addUpdateInPlaceProperties(properties);
+		}
+		LaunchConfigurationHelper.save(new File(getConfigDir(configuration), "config.ini"), properties, inPlace); //$NON-NLS-1$
 	}
 
 	private String getBundles(boolean defaultAuto) {
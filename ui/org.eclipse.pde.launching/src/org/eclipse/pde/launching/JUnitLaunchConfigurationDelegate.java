@@ -46,7 +46,10 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
@@ -79,6 +82,7 @@ import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchPluginValidator;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
 import org.eclipse.pde.internal.launching.launcher.RequirementHelper;
+import org.eclipse.pde.internal.launching.launcher.TestShardHelper;
 import org.eclipse.pde.internal.launching.launcher.VMHelper;
 
 /**
@@ -177,10 +181,70 @@ public class JUnitLaunchConfigurationDelegate extends org.eclipse.jdt.junit.laun
 		return ""; //$NON-NLS-1$ 
 	}
 
+	@Override
+	public synchronized void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
+		int shardCount = configuration.getAttribute(IPDEConstants.JUNIT_SHARDS, 1);
+		if (shardCount < 2 || configuration.hasAttribute(IPDEConstants.JUNIT_SHARD_TESTS)) {
+			super.launch(configuration, mode, launch, monitor);
+			return;
+		}
+
+		SubMonitor subMonitor = SubMonitor.convert(monitor, shardCount + 2);
+		List<List<String>> shards = TestShardHelper.partition(findTestClasses(configuration, subMonitor.split(1)), shardCount);
+		if (shards.size() < 2) {
+			super.launch(configuration, mode, launch, subMonitor.split(shardCount + 1));
+			return;
+		}
+
+		// done once here, the shards are not saved
+		validateProjectDependencies(configuration, subMonitor.split(1));
+		String workspaceLocation = LaunchArgumentsHelper.getWorkspaceLocation(configuration);
+		File configLocation = LaunchConfigurationHelper.getConfigurationLocation(configuration);
+
+		subMonitor.setWorkRemaining(shards.size());
+		for (int i = 0; i < shards.size(); i++) {
+			String name = NLS.bind(PDEMessages.JUnitLaunchConfiguration_shardName, new Object[] {configuration.getName(), i + 1, shards.size()});
+			ILaunchConfigurationWorkingCopy shard = configuration.copy(name);
+			shard.setAttribute(IPDEConstants.JUNIT_SHARD_TESTS, shards.get(i));
+			shard.setAttribute(IJavaLaunchConfigurationConstants.ATTR_SOURCE_PATH_PROVIDER, PDESourcePathProvider.ID);
+			shard.setAttribute(IPDELauncherConstants.CONFIG_USE_DEFAULT_AREA, false);
+			shard.setAttribute(IPDELauncherConstants.CONFIG_LOCATION, new File(configLocation, "shard" + (i + 1)).getPath()); //$NON-NLS-1$
+			if (workspaceLocation != null && !workspaceLocation.isEmpty()) {
+				shard.setAttribute(IPDELauncherConstants.LOCATION, new File(workspaceLocation, "shard" + (i + 1)).getPath()); //$NON-NLS-1$
+			}
+			// the JUnit view attaches one runtime to a session, so the results are not merged: the first
+			// shard reports to the session of this launch, the others to sessions named after them
+			if (i == 0) {
+				super.launch(shard, mode, launch, subMonitor.split(1));
+			} else {
+				shard.launch(mode, subMonitor.split(1));
+			}
+		}
+	}
+
+	@SuppressWarnings("restriction")
+	private static List<String> findTestClasses(ILaunchConfiguration configuration, IProgressMonitor monitor) throws CoreException {
+		String container = configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_CONTAINER, ""); //$NON-NLS-1$
+		IJavaElement element = container.isEmpty() ? null : JavaCore.create(container);
+		if (element == null || !element.exists()) {
+			// a single test class or method, nothing to distribute
+			return Collections.emptyList();
+		}
+		Set<IType> types = new HashSet<>();
+		JUnitLaunchConfigurationConstants.getTestRunnerKind(configuration).getFinder().findTestsInContainer(element, types, monitor);
+		return types.stream().map(IType::getFullyQualifiedName).sorted().toList();
+	}
+
 	@Override
 	protected void collectExecutionArguments(ILaunchConfiguration configuration, List<String> vmArguments, List<String> programArgs) throws CoreException {
 		super.collectExecutionArguments(configuration, vmArguments, programArgs);
 
+		List<String> shardTests = configuration.getAttribute(IPDEConstants.JUNIT_SHARD_TESTS, (List<String>) null);
+		if (shardTests != null) {
+			// a shard of a sharded launch only runs its part of the test classes
+			TestShardHelper.setTestClasses(programArgs, shardTests, getConfigurationDirectory(configuration));
+		}
+
 		// Specify the JUnit Plug-in test application to launch
 		programArgs.add("-application"); //$NON-NLS-1$
 		String application = getApplication(configuration);
@@ -486,7 +550,9 @@ public class JUnitLaunchConfigurationDelegate extends org.eclipse.jdt.junit.laun
 		if (isShowCommand == false) {
 			if (autoValidate)
 				validatePluginDependencies(configuration, subMonitor.split(1));
-			validateProjectDependencies(configuration, subMonitor.split(1));
+			// the dependencies of a shard are validated by the sharded launch
+			if (!configuration.hasAttribute(IPDEConstants.JUNIT_SHARD_TESTS))
+				validateProjectDependencies(configuration, subMonitor.split(1));
 			LauncherUtils.setLastLaunchMode(launch.getLaunchMode());
 			clear(configuration, subMonitor.split(1));
 		}
@@ -6,7 +6,10 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ //
+	BundleValidationOperationTest.class, //
 	DependencyManagerTest.class, //
+	ManifestValidationTest.class, //
+	SchemaRegistryTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
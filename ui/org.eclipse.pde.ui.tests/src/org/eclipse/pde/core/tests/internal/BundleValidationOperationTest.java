@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Dictionary;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the validation state kept for a cache key follows the changes to
+ * the selected bundles and does not change the results of earlier validations.
+ */
+public class BundleValidationOperationTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	private static final String KEY = "BundleValidationOperationTest";
+
+	@BeforeClass
+	public static void setupBeforeClass() throws Exception {
+		TargetPlatformUtil.setRunningPlatformAsTarget();
+	}
+
+	@After
+	public void discardState() {
+		BundleValidationOperation.discardCachedState(KEY);
+	}
+
+	@Test
+	public void testCachedStateFollowsSelection() throws CoreException {
+		// org.eclipse.core.jobs requires org.eclipse.equinox.common
+		BundleValidationOperation missing = validate(KEY, "org.eclipse.osgi", "org.eclipse.core.jobs");
+		assertTrue(missing.hasErrors());
+		assertTrue(isReported(missing, "org.eclipse.core.jobs"));
+
+		BundleValidationOperation complete = validate(KEY, "org.eclipse.osgi", "org.eclipse.core.jobs",
+				"org.eclipse.equinox.common");
+		assertFalse(complete.getResolverErrors().toString(), complete.hasErrors());
+
+		BundleValidationOperation removed = validate(KEY, "org.eclipse.osgi", "org.eclipse.core.jobs");
+		assertTrue(removed.hasErrors());
+		assertEquals(resultOf(null, "org.eclipse.osgi", "org.eclipse.core.jobs"), errorNames(removed));
+	}
+
+	@Test
+	public void testEarlierResultsAreKept() throws CoreException {
+		BundleValidationOperation first = validate(KEY, "org.eclipse.osgi", "org.eclipse.core.jobs");
+		Set<String> errors = errorNames(first);
+
+		validate(KEY, "org.eclipse.osgi", "org.eclipse.core.jobs", "org.eclipse.equinox.common");
+		assertTrue(first.hasErrors());
+		assertEquals(errors, errorNames(first));
+		assertFalse(first.isEmpty());
+		// the state handed out is not the one kept for the key
+		BundleDescription jobs = first.getState().getBundle("org.eclipse.core.jobs", null);
+		assertNotNull(jobs);
+		assertFalse(jobs.isResolved());
+	}
+
+	@Test
+	public void testDiscardedState() throws CoreException {
+		validate(KEY, "org.eclipse.osgi", "org.eclipse.core.jobs", "org.eclipse.equinox.common");
+		BundleValidationOperation.discardCachedState(KEY);
+		BundleValidationOperation missing = validate(KEY, "org.eclipse.osgi", "org.eclipse.core.jobs");
+		assertEquals(resultOf(null, "org.eclipse.osgi", "org.eclipse.core.jobs"), errorNames(missing));
+	}
+
+	private static Set<String> resultOf(Object key, String... bundles) throws CoreException {
+		return errorNames(validate(key, bundles));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BundleValidationOperation validate(Object key, String... bundles) throws CoreException {
+		Set<IPluginModelBase> models = new LinkedHashSet<>();
+		for (String bundle : bundles) {
+			IPluginModelBase model = PluginRegistry.findModel(bundle);
+			assertNotNull(bundle, model);
+			models.add(model);
+		}
+		BundleValidationOperation operation = new BundleValidationOperation(models,
+				new Dictionary[] { TargetPlatformHelper.getTargetEnvironment() }, key);
+		operation.run(null);
+		return operation;
+	}
+
+	private static boolean isReported(BundleValidationOperation operation, String bundle) {
+		return errorNames(operation).contains(bundle);
+	}
+
+	private static Set<String> errorNames(BundleValidationOperation operation) {
+		Set<String> names = new LinkedHashSet<>();
+		for (Map.Entry<Object, Object[]> error : operation.getResolverErrors().entrySet()) {
+			if (error.getKey() instanceof BundleDescription bundle) {
+				names.add(bundle.getSymbolicName());
+			}
+		}
+		return names;
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that validating the files of a plug-in project in parallel reports
+ * the same problems as validating them one after another.
+ */
+public class ManifestValidationTest {
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static final String PLUGIN_XML = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<?eclipse version="3.4"?>
+			<plugin>
+			   <extension point="validation.test.unknown">
+			      <item id="first"/>
+			   </extension>
+			</plugin>
+			""";
+
+	private static final String BUILD_PROPERTIES = """
+			bin.includes = META-INF/,\\
+			               plugin.xml,\\
+			               missing.txt
+			""";
+
+	@After
+	public void restorePreference() {
+		getPreferences().setToDefault(ICoreConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL);
+	}
+
+	@Test
+	public void testParallelValidationReportsSameProblems() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("validation.test", "validation.test", "1.0.0",
+				(description, service) -> {
+					description.setSingleton(true);
+					description.setHeader("Require-Bundle", "validation.test.missing");
+				});
+		writeFile(project.getFile("plugin.xml"), PLUGIN_XML);
+		writeFile(project.getFile("build.properties"), BUILD_PROPERTIES);
+		TestUtils.waitForJobs(ManifestValidationTest.class.getName(), 100, 10000);
+
+		getPreferences().setValue(ICoreConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL, false);
+		List<String> sequential = buildAndGetProblems(project);
+		getPreferences().setValue(ICoreConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL, true);
+		List<String> parallel = buildAndGetProblems(project);
+
+		assertTrue(hasProblems(sequential, "/validation.test/META-INF/MANIFEST.MF"));
+		assertTrue(hasProblems(sequential, "/validation.test/plugin.xml"));
+		assertTrue(hasProblems(sequential, "/validation.test/build.properties"));
+		assertEquals(sequential, parallel);
+	}
+
+	private static boolean hasProblems(List<String> problems, String path) {
+		return problems.stream().anyMatch(problem -> problem.startsWith(path + ':'));
+	}
+
+	private static List<String> buildAndGetProblems(IProject project) throws CoreException {
+		project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+		List<String> problems = new ArrayList<>();
+		for (IMarker marker : project.findMarkers(PDEMarkerFactory.MARKER_ID, true, IResource.DEPTH_INFINITE)) {
+			problems.add(marker.getResource().getFullPath() + ":" + marker.getAttribute(IMarker.LINE_NUMBER, -1) + ":"
+					+ marker.getAttribute(IMarker.SEVERITY, -1) + ":" + marker.getAttribute(IMarker.MESSAGE, ""));
+		}
+		problems.sort(null);
+		return problems;
+	}
+
+	private static PDEPreferencesManager getPreferences() {
+		return PDECore.getDefault().getPreferencesManager();
+	}
+
+	private static void writeFile(IFile file, String content) throws CoreException {
+		ByteArrayInputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, true, false, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+}
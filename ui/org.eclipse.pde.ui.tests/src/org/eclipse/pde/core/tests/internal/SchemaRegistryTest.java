@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.schema.CompiledSchema;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.CompiledElement;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the compiled form of an extension point schema is reused until
+ * the schema file changes.
+ */
+public class SchemaRegistryTest {
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static final String POINT_ID = "schema.test.point";
+
+	private static final String PLUGIN_XML = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<?eclipse version="3.4"?>
+			<plugin>
+			   <extension-point id="point" name="Point" schema="schema/point.exsd"/>
+			</plugin>
+			""";
+
+	private static final String SCHEMA = """
+			<?xml version='1.0' encoding='UTF-8'?>
+			<schema targetNamespace="schema.test" xmlns="http://www.w3.org/2001/XMLSchema">
+			   <annotation>
+			      <appinfo>
+			         <meta.schema plugin="schema.test" id="point" name="Point"/>
+			      </appinfo>
+			   </annotation>
+			   <element name="extension">
+			      <complexType>
+			         <sequence>
+			            <element ref="item" minOccurs="1" maxOccurs="unbounded"/>
+			         </sequence>
+			         <attribute name="point" type="string" use="required"/>
+			      </complexType>
+			   </element>
+			   <element name="item">
+			      <complexType>
+			         <attribute name="id" type="string" use="required"/>
+			         %s
+			      </complexType>
+			   </element>
+			</schema>
+			""";
+
+	@Test
+	public void testCompiledSchemaFollowsSchemaFile() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("schema.test", "schema.test", "1.0.0",
+				(description, service) -> description.setSingleton(true));
+		createFile(project.getFile("plugin.xml"), PLUGIN_XML);
+		project.getFolder("schema").create(true, true, null);
+		IFile schemaFile = project.getFile("schema/point.exsd");
+		createFile(schemaFile, SCHEMA.formatted(""));
+		TestUtils.waitForJobs(SchemaRegistryTest.class.getName(), 100, 10000);
+
+		SchemaRegistry registry = PDECore.getDefault().getSchemaRegistry();
+		CompiledSchema compiled = registry.getCompiledSchema(POINT_ID);
+		assertNotNull(compiled);
+		assertSame(compiled, registry.getCompiledSchema(POINT_ID));
+		CompiledElement item = getItem(compiled);
+		assertEquals(1, item.getRequiredAttributes().length);
+		assertNull(item.getAttribute("class"));
+
+		// a later timestamp tells the registry that the schema changed
+		long timestamp = schemaFile.getLocation().toFile().lastModified();
+		String attribute = "<attribute name=\"class\" type=\"string\" use=\"required\"/>";
+		schemaFile.setContents(new ByteArrayInputStream(SCHEMA.formatted(attribute).getBytes(StandardCharsets.UTF_8)),
+				true, false, null);
+		schemaFile.setLocalTimeStamp(timestamp + 10000);
+
+		CompiledSchema changed = registry.getCompiledSchema(POINT_ID);
+		assertNotSame(compiled, changed);
+		item = getItem(changed);
+		assertEquals(2, item.getRequiredAttributes().length);
+		assertNotNull(item.getAttribute("class"));
+		assertSame(changed, registry.getCompiledSchema(POINT_ID));
+	}
+
+	private static CompiledElement getItem(CompiledSchema compiled) {
+		return compiled.getElement(compiled.getSchema().findElement("item"));
+	}
+
+	private static void createFile(IFile file, String content) throws CoreException {
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.internal.core.util.VersionedDataFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class VersionedDataFileTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private VersionedDataFile newFile(int version) {
+		return new VersionedDataFile(new File(tempFolder.getRoot(), "cache/data"), version);
+	}
+
+	private static boolean writeContent(VersionedDataFile file) {
+		return file.write(out -> {
+			VersionedDataFile.writeString(out, "value");
+			VersionedDataFile.writeString(out, null);
+			VersionedDataFile.writeStrings(out, new String[] { "a", "b" });
+		});
+	}
+
+	private static String readContent(VersionedDataFile file) {
+		return file.read(in -> VersionedDataFile.readString(in) + ',' + VersionedDataFile.readString(in) + ','
+				+ Arrays.toString(VersionedDataFile.readStrings(in)));
+	}
+
+	@Test
+	public void testRoundTrip() {
+		VersionedDataFile file = newFile(1);
+		assertNull(readContent(file));
+		assertTrue(writeContent(file));
+		assertEquals("value,null,[a, b]", readContent(file));
+		file.delete();
+		assertFalse(file.getFile().exists());
+		assertNull(readContent(file));
+	}
+
+	@Test
+	public void testOtherVersionIsIgnored() {
+		assertTrue(writeContent(newFile(1)));
+		assertNull(readContent(newFile(2)));
+	}
+
+	@Test
+	public void testCorruptFileIsIgnored() throws IOException {
+		VersionedDataFile file = newFile(1);
+		assertTrue(writeContent(file));
+		byte[] content = Files.readAllBytes(file.getFile().toPath());
+		Files.write(file.getFile().toPath(), Arrays.copyOf(content, content.length - 3));
+		assertNull(readContent(file));
+		Files.write(file.getFile().toPath(), new byte[] { 0, 0 });
+		assertNull(readContent(file));
+	}
+
+	@Test
+	public void testFailedWriteDeletesFile() {
+		VersionedDataFile file = newFile(1);
+		assertTrue(writeContent(file));
+		assertFalse(file.write(out -> {
+			out.writeInt(3);
+			throw new IOException("expected");
+		}));
+		assertFalse(file.getFile().exists());
+	}
+
+	@Test
+	public void testSha256Hex() {
+		assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", CoreUtility.sha256Hex(""));
+		assertEquals(64, CoreUtility.sha256Hex("target").length());
+		assertFalse(CoreUtility.sha256Hex("a").equals(CoreUtility.sha256Hex("b")));
+	}
+}
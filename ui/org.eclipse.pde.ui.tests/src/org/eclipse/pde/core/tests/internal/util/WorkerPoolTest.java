@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.internal.core.util.WorkerPool;
+import org.junit.Test;
+
+public class WorkerPoolTest {
+
+	@Test
+	public void testAwaitAll() throws Exception {
+		AtomicBoolean[] done = new AtomicBoolean[5];
+		try (WorkerPool pool = new WorkerPool("Test", 2)) {
+			for (int i = 0; i < done.length; i++) {
+				AtomicBoolean flag = done[i] = new AtomicBoolean();
+				pool.submit(() -> {
+					flag.set(true);
+					return null;
+				});
+			}
+			assertEquals(done.length, pool.getPending());
+			pool.awaitAll(new NullProgressMonitor());
+			assertEquals(0, pool.getPending());
+		}
+		for (AtomicBoolean flag : done) {
+			assertTrue(flag.get());
+		}
+	}
+
+	@Test
+	public void testCloseWaitsForRunningTasks() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean completed = new AtomicBoolean();
+		AtomicBoolean notStartedRan = new AtomicBoolean();
+		try (WorkerPool pool = new WorkerPool("Test", 1)) {
+			pool.submit(() -> {
+				started.countDown();
+				sleepUninterruptibly(200);
+				completed.set(true);
+				return null;
+			});
+			pool.submit(() -> {
+				notStartedRan.set(true);
+				return null;
+			});
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+		}
+		assertTrue("Running task not waited for", completed.get());
+		assertFalse("Task that had not started was run", notStartedRan.get());
+	}
+
+	@Test
+	public void testCloseWhenInterrupted() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+		AtomicBoolean completed = new AtomicBoolean();
+		WorkerPool pool = new WorkerPool("Test", 1);
+		pool.submit(() -> {
+			started.countDown();
+			sleepUninterruptibly(200);
+			interrupted.set(Thread.currentThread().isInterrupted());
+			completed.set(true);
+			return null;
+		});
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		Thread.currentThread().interrupt();
+		try {
+			pool.close();
+			assertTrue("Interrupt status not restored", Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+		assertTrue("Running task not waited for", completed.get());
+		assertTrue("Running task not interrupted", interrupted.get());
+	}
+
+	private static void sleepUninterruptibly(long millis) {
+		long end = System.currentTimeMillis() + millis;
+		boolean interrupted = false;
+		long remaining;
+		while ((remaining = end - System.currentTimeMillis()) > 0) {
+			try {
+				Thread.sleep(remaining);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -17,6 +17,8 @@ import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
+import org.eclipse.pde.core.tests.internal.util.VersionedDataFileTest;
+import org.eclipse.pde.core.tests.internal.util.WorkerPoolTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
 import org.eclipse.pde.ui.tests.classpathresolver.ClasspathResolverTest;
@@ -61,6 +63,8 @@ import org.junit.runners.Suite.SuiteClasses;
 	ClasspathResolverTest.class, //
 	ClasspathUpdaterTest.class, //
 	PDESchemaHelperTest.class, //
+	VersionedDataFileTest.class, //
+	WorkerPoolTest.class, //
 	ClasspathContributorTest.class, //
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
@@ -341,6 +341,37 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		assertGetMergedBundleMap(workspacePlugins, targetPlatformBundles, launchConfigSetup, expectedBundles);
 	}
 
+	@Test
+	public void testGetMergedBundleMap_cachedMapFollowsChanges() throws Exception {
+		var workspacePlugins = ofEntries( //
+				bundle("plugin.a", "1.0.0"), //
+				bundle("plugin.b", "1.0.0"));
+		var targetPlatformBundles = ofEntries( //
+				bundle("plugin.z", "1.0.0"));
+		setUpWorkspace(workspacePlugins, targetPlatformBundles);
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("plugin-based-Eclipse-app");
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a", "plugin.c"));
+		Map<IPluginModelBase, String> expected = new HashMap<>();
+		expected.put(workspaceBundle("plugin.a", "1.0.0").findModel(), "default:default");
+
+		// callers may add to the map they get, that must not change the cached one
+		Map<IPluginModelBase, String> bundleMap = BundleLauncherHelper.getMergedBundleMap(wc, false);
+		assertPluginMapsEquals(null, expected, bundleMap);
+		bundleMap.put(workspaceBundle("plugin.b", "1.0.0").findModel(), "default:default");
+		assertPluginMapsEquals(null, expected, BundleLauncherHelper.getMergedBundleMap(wc, false));
+
+		// changed attributes
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a", "plugin.b", "plugin.c"));
+		expected.put(workspaceBundle("plugin.b", "1.0.0").findModel(), "default:default");
+		assertPluginMapsEquals(null, expected, BundleLauncherHelper.getMergedBundleMap(wc, false));
+
+		// changed workspace models
+		ProjectUtils.createPluginProject("plugin.c", "1.0.0");
+		expected.put(workspaceBundle("plugin.c", "1.0.0").findModel(), "default:default");
+		assertPluginMapsEquals(null, expected, BundleLauncherHelper.getMergedBundleMap(wc, false));
+	}
+
 	@Test
 	public void testGetMergedBundleMapForIssue88_specifiedWorkspacePluginOnlyInTargetPlatform_emtpySelection()
 			throws Exception {
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.pde.internal.launching.launcher.TestShardHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the distribution of the test classes of a sharded JUnit plug-in test
+ * launch. The classes used here have never been run, so they all get the same
+ * default duration.
+ */
+public class TestShardHelperTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static List<String> classes(int count) {
+		List<String> classes = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			classes.add("shard.test.Test" + (char) ('A' + i));
+		}
+		return classes;
+	}
+
+	@Test
+	public void testPartitionBalancesClasses() {
+		List<List<String>> shards = TestShardHelper.partition(classes(5), 2);
+		assertEquals(List.of( //
+				List.of("shard.test.TestA", "shard.test.TestC", "shard.test.TestE"), //
+				List.of("shard.test.TestB", "shard.test.TestD")), shards);
+	}
+
+	@Test
+	public void testPartitionIsIndependentOfOrder() {
+		List<String> reversed = classes(7);
+		Collections.reverse(reversed);
+		assertEquals(TestShardHelper.partition(classes(7), 3), TestShardHelper.partition(reversed, 3));
+	}
+
+	@Test
+	public void testPartitionWithFewClasses() {
+		assertEquals(List.of(List.of("shard.test.TestA"), List.of("shard.test.TestB")),
+				TestShardHelper.partition(classes(2), 4));
+		assertEquals(List.of(), TestShardHelper.partition(List.of(), 4));
+		assertEquals(List.of(classes(3)), TestShardHelper.partition(classes(3), 0));
+	}
+
+	@Test
+	public void testSetTestClassesReplacesSelection() throws Exception {
+		File configDir = folder.newFolder("config");
+		List<String> programArgs = new ArrayList<>(List.of("-version", "3", "-port", "1234", "-classNames",
+				"a.A", "b.B", "-testLoaderClass", "loader", "-test", "c.C:method", "-keepalive"));
+
+		TestShardHelper.setTestClasses(programArgs, List.of("shard.test.TestA", "shard.test.TestB"), configDir);
+
+		File testNames = new File(configDir, "testNames.txt");
+		assertEquals(List.of("-version", "3", "-port", "1234", "-testLoaderClass", "loader", "-keepalive",
+				"-testNameFile", testNames.getAbsolutePath()), programArgs);
+		assertTrue(testNames.isFile());
+		assertEquals(List.of("shard.test.TestA", "shard.test.TestB"), Files.readAllLines(testNames.toPath()));
+	}
+}
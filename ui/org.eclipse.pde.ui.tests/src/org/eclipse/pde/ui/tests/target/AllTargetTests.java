@@ -24,6 +24,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		WorkspaceTargetDefinitionTests.class, //
 		TargetDefinitionPersistenceTests.class, //
 		TargetDefinitionResolutionTests.class, //
+		TargetLocationSchedulingTests.class, //
 		TargetDefinitionFeatureResolutionTests.class, //
 		IUBundleContainerTests.class, //
 		ProfileContainerTests.class })
@@ -24,6 +24,7 @@ import java.io.File;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -53,7 +54,9 @@ import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.internal.core.target.TargetDefinitionPersistenceHelper;
 import org.eclipse.pde.internal.core.target.TargetPersistence38Helper;
 import org.eclipse.pde.ui.tests.PDETestsPlugin;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.xml.sax.InputSource;
@@ -64,6 +67,9 @@ import org.xml.sax.helpers.DefaultHandler;
  */
 public class IUBundleContainerTests extends AbstractTargetTest {
 
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
 	/**
 	 * Returns the metadata repository at the specified location.
 	 *
@@ -568,6 +574,146 @@ public class IUBundleContainerTests extends AbstractTargetTest {
 		assertTrue(((IUBundleContainer)locations[0]).equals(location));
 	}
 
+	/**
+	 * Tests that a unit is found through the metadata reference of a
+	 * repository, the same as when the referenced repository is used
+	 * directly.
+	 */
+	@Test
+	public void testResolveThroughRepositoryReference() throws Exception {
+		URI site = getURI("/tests/sites/site.a.b");
+		URI referencing = createReferencingRepository(site);
+		try {
+			assertEquals(resolveSymbolicNames(site), resolveSymbolicNames(referencing));
+		} finally {
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
+	/**
+	 * Tests that loading several repositories concurrently, with composite
+	 * and referencing ones among them, finds the same units as loading the
+	 * single repository they all lead to.
+	 */
+	@Test
+	public void testResolveFromSeveralRepositories() throws Exception {
+		URI site = getURI("/tests/sites/site.a.b");
+		URI referencing = createReferencingRepository(site);
+		URI composite = createCompositeRepository(site);
+		try {
+			assertEquals(resolveSymbolicNames(site), resolveSymbolicNames(composite, referencing, site));
+		} finally {
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
+	/**
+	 * Tests that a saved target resolved again by a new definition is restored
+	 * from its resolution snapshot with the same bundles, and that corrupt
+	 * snapshots are ignored in favour of the profile.
+	 */
+	@Test
+	public void testResolveFromSnapshot() throws Exception {
+		IUBundleContainer container = createContainer(new String[] { "feature.b.feature.group" });
+		ITargetDefinition target = getTargetService().newTarget();
+		target.setTargetLocations(new ITargetLocation[] { container });
+		getTargetService().saveTargetDefinition(target);
+		ITargetHandle handle = target.getHandle();
+		try {
+			IStatus status = target.resolve(null);
+			assertTrue(status.toString(), status.isOK());
+			Set<String> expected = collectAllSymbolicNames(getBundleInfos(container));
+			assertFalse("No bundles resolved", expected.isEmpty());
+
+			File snapshots = PDECore.getDefault().getStateLocation().append(".target_snapshots").toFile();
+			File[] files = snapshots.listFiles();
+			assertNotNull("No snapshot written", files);
+			assertTrue("No snapshot written", files.length > 0);
+			assertEquals(expected, resolveSymbolicNames(handle));
+
+			for (File file : files) {
+				Files.write(file.toPath(), new byte[] { 0, 0, 0, 1, 42 });
+			}
+			assertEquals(expected, resolveSymbolicNames(handle));
+		} finally {
+			getTargetService().deleteTarget(handle);
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
+	private Set<String> resolveSymbolicNames(ITargetHandle handle) throws Exception {
+		ITargetDefinition target = handle.getTargetDefinition();
+		IStatus status = target.resolve(null);
+		assertTrue(status.toString(), status.isOK());
+		return collectAllSymbolicNames(getBundleInfos(target.getTargetLocations()[0]));
+	}
+
+	private Set<String> resolveSymbolicNames(URI... repositories) throws Exception {
+		IInstallableUnit[] units = getUnits(new String[] { "feature.b.feature.group" },
+				getURI("/tests/sites/site.a.b"));
+		IUBundleContainer container = createContainer(units, repositories, IUBundleContainer.INCLUDE_ALL_ENVIRONMENTS);
+		ITargetDefinition target = getTargetService().newTarget();
+		target.setTargetLocations(new ITargetLocation[] { container });
+		IStatus status = target.resolve(null);
+		assertTrue(status.toString(), status.isOK());
+		Set<String> names = collectAllSymbolicNames(getBundleInfos(container));
+		assertFalse("No bundles resolved", names.isEmpty());
+		return names;
+	}
+
+	/**
+	 * Creates a metadata repository without units that references the given
+	 * repository, along with a composite artifact repository for the
+	 * artifacts of the referenced repository.
+	 */
+	private URI createReferencingRepository(URI referenced) throws Exception {
+		File folder = tempFolder.newFolder("referencing");
+		String content = """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<?metadataRepository version='1.2.0'?>
+				<repository name='referencing' type='org.eclipse.equinox.internal.p2.metadata.repository.LocalMetadataRepository' version='1'>
+				  <properties size='1'>
+				    <property name='p2.timestamp' value='1'/>
+				  </properties>
+				  <references size='1'>
+				    <repository uri='%1$s' url='%1$s' type='0' options='1'/>
+				  </references>
+				  <units size='0'>
+				  </units>
+				</repository>
+				""".formatted(referenced);
+		Files.writeString(new File(folder, "content.xml").toPath(), content);
+		writeComposite(folder, "compositeArtifacts.xml", "compositeArtifactRepository",
+				"org.eclipse.equinox.internal.p2.artifact.repository.CompositeArtifactRepository", referenced);
+		return folder.toURI();
+	}
+
+	private URI createCompositeRepository(URI child) throws Exception {
+		File folder = tempFolder.newFolder("composite");
+		writeComposite(folder, "compositeContent.xml", "compositeMetadataRepository",
+				"org.eclipse.equinox.internal.p2.metadata.repository.CompositeMetadataRepository", child);
+		writeComposite(folder, "compositeArtifacts.xml", "compositeArtifactRepository",
+				"org.eclipse.equinox.internal.p2.artifact.repository.CompositeArtifactRepository", child);
+		return folder.toURI();
+	}
+
+	private static void writeComposite(File folder, String fileName, String instruction, String type, URI child)
+			throws Exception {
+		String content = """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<?%s version='1.0.0'?>
+				<repository name='composite' type='%s' version='1.0.0'>
+				  <properties size='1'>
+				    <property name='p2.timestamp' value='1'/>
+				  </properties>
+				  <children size='1'>
+				    <child location='%s'/>
+				  </children>
+				</repository>
+				""".formatted(instruction, type, child);
+		Files.writeString(new File(folder, fileName).toPath(), content);
+	}
+
 	private void assertIncludeAllPlatform(String xml, boolean expectedValue) {
 		assertToken(xml, "includeAllPlatforms=\"", String.valueOf(expectedValue));
 	}
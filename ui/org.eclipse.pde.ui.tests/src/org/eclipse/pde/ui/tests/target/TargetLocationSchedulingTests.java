@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.target.AbstractBundleContainer;
+import org.junit.Test;
+
+/**
+ * Tests that resolving the locations of a target concurrently gives the same
+ * result as resolving them one after the other.
+ */
+public class TargetLocationSchedulingTests extends AbstractTargetTest {
+
+	/**
+	 * Location of another plug-in, not known to be safe to resolve on a
+	 * worker thread.
+	 */
+	private static final class RecordingLocation extends AbstractBundleContainer {
+		volatile Thread resolvingThread;
+
+		@Override
+		protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor) {
+			resolvingThread = Thread.currentThread();
+			return new TargetBundle[0];
+		}
+
+		@Override
+		protected TargetFeature[] resolveFeatures(ITargetDefinition definition, IProgressMonitor monitor) {
+			return new TargetFeature[0];
+		}
+
+		@Override
+		public String getType() {
+			return "recording";
+		}
+
+		@Override
+		public String getLocation(boolean resolve) {
+			return "recording";
+		}
+	}
+
+	private List<ITargetLocation> createLocations(IPath abcde, IPath linked, IPath multiVersions) {
+		List<ITargetLocation> locations = new ArrayList<>();
+		locations.add(getTargetService().newDirectoryLocation(abcde.toOSString()));
+		locations.add(getTargetService().newDirectoryLocation("***SHOULD NOT EXIST***"));
+		locations.add(getTargetService().newDirectoryLocation(linked.toOSString()));
+		locations.add(getTargetService().newDirectoryLocation(multiVersions.toOSString()));
+		return locations;
+	}
+
+	@Test
+	public void testConcurrentResolutionMatchesSequentialResolution() throws Exception {
+		IPath abcde = extractAbcdePlugins().append("plugins");
+		IPath linked = extractLinkedPlugins();
+		IPath multiVersions = extractMultiVersionPlugins();
+
+		ITargetDefinition definition = getNewTarget();
+		List<ITargetLocation> concurrent = createLocations(abcde, linked, multiVersions);
+		definition.setTargetLocations(concurrent.toArray(ITargetLocation[]::new));
+		IStatus status = definition.resolve(null);
+
+		ITargetDefinition sequentialDefinition = getNewTarget();
+		List<ITargetLocation> sequential = createLocations(abcde, linked, multiVersions);
+		List<IStatus> sequentialProblems = new ArrayList<>();
+		for (ITargetLocation location : sequential) {
+			IStatus locationStatus = location.resolve(sequentialDefinition, null);
+			if (!locationStatus.isOK()) {
+				sequentialProblems.add(locationStatus);
+			}
+		}
+
+		for (int i = 0; i < concurrent.size(); i++) {
+			assertEquals("Different bundles for location " + i, getNames(sequential.get(i).getBundles()),
+					getNames(concurrent.get(i).getBundles()));
+		}
+		IStatus[] problems = status.isMultiStatus() ? status.getChildren() : new IStatus[] { status };
+		assertEquals("Wrong number of problems", sequentialProblems.size(), problems.length);
+		for (int i = 0; i < problems.length; i++) {
+			assertEquals("Problems in a different order", sequentialProblems.get(i).getMessage(), problems[i].getMessage());
+		}
+	}
+
+	@Test
+	public void testOtherLocationsResolveInCallingThread() throws Exception {
+		IPath abcde = extractAbcdePlugins().append("plugins");
+		IPath linked = extractLinkedPlugins();
+
+		RecordingLocation recording = new RecordingLocation();
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { getTargetService().newDirectoryLocation(abcde.toOSString()),
+				recording, getTargetService().newDirectoryLocation(linked.toOSString()) });
+		definition.resolve(null);
+
+		assertSame("Location of another plug-in resolved on a worker thread", Thread.currentThread(),
+				recording.resolvingThread);
+	}
+
+	private static List<String> getNames(TargetBundle[] bundles) {
+		List<String> names = new ArrayList<>();
+		for (TargetBundle bundle : bundles) {
+			names.add(bundle.getBundleInfo().getSymbolicName() + '_' + bundle.getBundleInfo().getVersion());
+		}
+		return names;
+	}
+}
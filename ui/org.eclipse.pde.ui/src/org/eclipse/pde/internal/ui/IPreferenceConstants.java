@@ -44,6 +44,11 @@ public interface IPreferenceConstants extends ILaunchingPreferenceConstants {
 	 * Boolean preference whether API analysis has been disabled
 	 */
 	public static final String DISABLE_API_ANALYSIS_BUILDER = "Preferences.MainPage.disableAPIAnalysisBuilder";//$NON-NLS-1$
+	/**
+	 * Boolean preference whether the manifest builder validates the files of
+	 * plug-in projects in parallel
+	 */
+	public static final String RUN_MANIFEST_VALIDATION_IN_PARALLEL = "Preferences.MainPage.runManifestValidationInParallel";//$NON-NLS-1$
 	/**
 	 * Boolean preference whether add
 	 * '-Dorg.eclipse.swt.graphics.Resource.reportNonDisposed=true' to VM
@@ -571,6 +571,8 @@ public class PDEUIMessages extends NLS {
 	public static String MainPreferencePage_WorkspacePluginsOverrideTarget;
 	public static String MainPreferencePage_WorkspacePluginsOverrideTargetTooltip;
 	public static String MainPreferencePage_DisableAPIAnalysisBuilder;
+	public static String MainPreferencePage_RunManifestValidationInParallel;
+	public static String MainPreferencePage_RunManifestValidationInParallelTooltip;
 
 	public static String MainPreferencePage_test_plugin_pattern_group;
 	public static String MainPreferencePage_test_plugin_pattern_label;
@@ -1103,6 +1105,7 @@ public class PDEUIMessages extends NLS {
 
 	public static String ConfigurationTab_name;
 	public static String ConfigurationTab_clearArea;
+	public static String ConfigurationTab_updateInPlace;
 	public static String ConfigurationTab_configAreaGroup;
 	public static String ConfigurationTab_useDefaultLoc;
 	public static String ConfigurationTab_configLog;
@@ -1124,6 +1127,7 @@ public class PDEUIMessages extends NLS {
 	public static String ConfigurationTab_AttributeLabel_UseDefaultConfigArea;
 	public static String ConfigurationTab_AttributeLabel_ConfigLocation;
 	public static String ConfigurationTab_AttributeLabel_ConfigClearArea;
+	public static String ConfigurationTab_AttributeLabel_UpdateConfigInPlace;
 	public static String ConfigurationTab_AttributeLabel_ConfigGenerateDefault;
 	public static String ConfigurationTab_AttributeLabel_ConfigTemplateLocation;
 	public static String ConfigurationTab_AttributeLabel_GenerateProfile;
@@ -2253,6 +2257,8 @@ public class PDEUIMessages extends NLS {
 
 	public static String CrossPlatformExportPage_desc;
 
+	public static String CrossPlatformExportPage_parallel;
+
 	public static String BaseImportWizardSecondPage_0;
 
 	public static String BaseImportWizardSecondPage_autobuild;
@@ -18,6 +18,7 @@ import static org.eclipse.swt.events.SelectionListener.widgetSelectedAdapter;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.internal.launching.launcher.LaunchArgumentsHelper;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.launching.IPDELauncherConstants;
@@ -33,6 +34,7 @@ public class ConfigurationAreaBlock extends BaseBlock {
 
 	private Button fUseDefaultLocationButton;
 	private Button fClearConfig;
+	private Button fUpdateInPlace;
 	private String fLastEnteredConfigArea;
 	private String fLastKnownConfigName;
 	private static String DEFAULT_DIR = "${workspace_loc}/.metadata/.plugins/org.eclipse.pde.core/"; //$NON-NLS-1$
@@ -84,8 +86,17 @@ public class ConfigurationAreaBlock extends BaseBlock {
 		fClearConfig.setText(PDEUIMessages.ConfigurationTab_clearArea);
 		fClearConfig.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
 		fClearConfig.addSelectionListener(fListener);
+		// unchanged files are only kept when the area is not cleared
+		fClearConfig.addSelectionListener(widgetSelectedAdapter(e -> fUpdateInPlace.setEnabled(!fClearConfig.getSelection())));
 
 		createButtons(buttons, new String[] {PDEUIMessages.BaseBlock_workspace, PDEUIMessages.BaseBlock_filesystem, PDEUIMessages.BaseBlock_variables});
+
+		fUpdateInPlace = new Button(group, SWT.CHECK);
+		fUpdateInPlace.setText(PDEUIMessages.ConfigurationTab_updateInPlace);
+		gd = new GridData();
+		gd.horizontalSpan = 2;
+		fUpdateInPlace.setLayoutData(gd);
+		fUpdateInPlace.addSelectionListener(fListener);
 	}
 
 	public void initializeFrom(ILaunchConfiguration configuration) throws CoreException {
@@ -98,6 +109,8 @@ public class ConfigurationAreaBlock extends BaseBlock {
 			fLocationText.setEnabled(true);
 
 		fClearConfig.setSelection(configuration.getAttribute(IPDELauncherConstants.CONFIG_CLEAR_AREA, true));
+		fUpdateInPlace.setSelection(configuration.getAttribute(IPDEConstants.UPDATE_CONFIG_IN_PLACE, false));
+		fUpdateInPlace.setEnabled(!fClearConfig.getSelection());
 
 		if (useDefaultArea) {
 			fLastEnteredConfigArea = DEFAULT_DIR + fLastKnownConfigName;
@@ -117,6 +130,7 @@ public class ConfigurationAreaBlock extends BaseBlock {
 		}
 		configuration.setAttribute(IPDELauncherConstants.CONFIG_LOCATION, getLocation());
 		configuration.setAttribute(IPDELauncherConstants.CONFIG_CLEAR_AREA, fClearConfig.getSelection());
+		configuration.setAttribute(IPDEConstants.UPDATE_CONFIG_IN_PLACE, fUpdateInPlace.getSelection());
 	}
 
 	public void setDefaults(ILaunchConfigurationWorkingCopy configuration, boolean isJUnit) {
@@ -172,6 +172,7 @@ public class MainPreferencePage extends PreferencePage implements IWorkbenchPref
 	private Button fShowTargetStatus;
 	private Button fAlwaysPreferWorkspace;
 	private Button fDisableAPIAnalysisBuilder;
+	private Button fRunManifestValidationInParallel;
 	private Button fAddSwtNonDisposalReporting;
 
 	private Text fRuntimeWorkspaceLocation;
@@ -235,6 +236,13 @@ public class MainPreferencePage extends PreferencePage implements IWorkbenchPref
 		fDisableAPIAnalysisBuilder.setText(PDEUIMessages.MainPreferencePage_DisableAPIAnalysisBuilder);
 		fDisableAPIAnalysisBuilder.setSelection(store.getBoolean(IPreferenceConstants.DISABLE_API_ANALYSIS_BUILDER));
 
+		fRunManifestValidationInParallel = new Button(optionComp, SWT.CHECK);
+		fRunManifestValidationInParallel.setText(PDEUIMessages.MainPreferencePage_RunManifestValidationInParallel);
+		fRunManifestValidationInParallel
+				.setToolTipText(PDEUIMessages.MainPreferencePage_RunManifestValidationInParallelTooltip);
+		fRunManifestValidationInParallel
+				.setSelection(store.getBoolean(IPreferenceConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL));
+
 		fAddSwtNonDisposalReporting = new Button(optionComp, SWT.CHECK);
 		fAddSwtNonDisposalReporting.setText(PDEUIMessages.MainPreferencePage_AddSwtNonDisposedToVMArguments);
 		fAddSwtNonDisposalReporting
@@ -452,6 +460,13 @@ public class MainPreferencePage extends PreferencePage implements IWorkbenchPref
 
 		}
 
+		boolean runManifestValidationInParallel = fRunManifestValidationInParallel.getSelection();
+		if (store.getBoolean(IPreferenceConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL) != runManifestValidationInParallel) {
+			store.setValue(IPreferenceConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL, runManifestValidationInParallel);
+			PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+			prefs.setValue(ICoreConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL, runManifestValidationInParallel);
+		}
+
 		boolean addSwtNonDisposalReporting = fAddSwtNonDisposalReporting.getSelection();
 		if (store.getBoolean(IPreferenceConstants.ADD_SWT_NON_DISPOSAL_REPORTING) != addSwtNonDisposalReporting) {
 			store.setValue(IPreferenceConstants.ADD_SWT_NON_DISPOSAL_REPORTING, addSwtNonDisposalReporting);
@@ -501,6 +516,8 @@ public class MainPreferencePage extends PreferencePage implements IWorkbenchPref
 				.setSelection(store.getDefaultBoolean(IPreferenceConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET));
 		fDisableAPIAnalysisBuilder
 				.setSelection(store.getDefaultBoolean(IPreferenceConstants.DISABLE_API_ANALYSIS_BUILDER));
+		fRunManifestValidationInParallel
+				.setSelection(store.getDefaultBoolean(IPreferenceConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL));
 		fAddSwtNonDisposalReporting
 				.setSelection(store.getDefaultBoolean(IPreferenceConstants.ADD_SWT_NON_DISPOSAL_REPORTING));
 		fTestPluginPatternText.setText(store.getDefaultString(IPreferenceConstants.TEST_PLUGIN_PATTERN));
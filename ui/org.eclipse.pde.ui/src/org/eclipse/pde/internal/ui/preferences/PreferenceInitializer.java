@@ -31,6 +31,7 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		store.setDefault(IPreferenceConstants.SHOW_TARGET_STATUS, false);
 		store.setDefault(IPreferenceConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET, true);
 		store.setDefault(IPreferenceConstants.DISABLE_API_ANALYSIS_BUILDER, false);
+		store.setDefault(IPreferenceConstants.RUN_MANIFEST_VALIDATION_IN_PARALLEL, false);
 		store.setDefault(IPreferenceConstants.ADD_SWT_NON_DISPOSAL_REPORTING, true);
 		store.setDefault(IPreferenceConstants.TEST_PLUGIN_PATTERN, ICoreConstants.TEST_PLUGIN_PATTERN_DEFAULTVALUE);
 	}
@@ -30,6 +30,7 @@ import org.eclipse.pde.internal.ui.IHelpContextIds;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.parts.WizardCheckboxTablePart;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
@@ -39,6 +40,7 @@ import org.eclipse.ui.PlatformUI;
 public class CrossPlatformExportPage extends AbstractExportWizardPage {
 
 	private static String CROSS_PLATFORM = "cross-platform"; //$NON-NLS-1$
+	private static String PARALLEL = "cross-platform.parallel"; //$NON-NLS-1$
 
 	class Configuration {
 		String os;
@@ -94,6 +96,7 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 
 	private final PlatformPart fPlatformPart;
 	private final IFeatureModel fModel;
+	private Button fParallel;
 
 	public CrossPlatformExportPage(String pageName, IFeatureModel model) {
 		super(pageName);
@@ -114,6 +117,12 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 		viewer.setLabelProvider(new LabelProvider());
 		fPlatformPart.getTableViewer().setInput(PDECore.getDefault().getFeatureModelManager());
 
+		fParallel = new Button(container, SWT.CHECK);
+		fParallel.setText(PDEUIMessages.CrossPlatformExportPage_parallel);
+		GridData gd = new GridData(GridData.FILL_HORIZONTAL);
+		gd.horizontalSpan = 2;
+		fParallel.setLayoutData(gd);
+
 		initialize();
 		setControl(container);
 
@@ -121,6 +130,7 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 	}
 
 	private void initialize() {
+		fParallel.setSelection(getDialogSettings().getBoolean(PARALLEL));
 		String value = getDialogSettings().get(CROSS_PLATFORM);
 		if (value != null) {
 			HashSet<String> set = new HashSet<>();
@@ -165,6 +175,7 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 			buffer.append(object.toString());
 		}
 		settings.put(CROSS_PLATFORM, buffer.toString());
+		settings.put(PARALLEL, fParallel.getSelection());
 	}
 
 	private Configuration[] getListElements() {
@@ -208,6 +219,14 @@ public class CrossPlatformExportPage extends AbstractExportWizardPage {
 		setPageComplete(fPlatformPart.getSelectionCount() > 0);
 	}
 
+	/**
+	 * @return whether the selected platforms are assembled and packaged
+	 *         concurrently, off unless chosen by the user
+	 */
+	public boolean doParallelConfigurations() {
+		return fParallel != null && fParallel.getSelection();
+	}
+
 	public String[][] getTargets() {
 		Object[] objects = fPlatformPart.getSelection();
 		String[][] targets = new String[objects.length][4];
@@ -81,8 +81,10 @@ public class FeatureExportWizard extends AntGeneratingExportWizard {
 		info.useWorkspaceCompiledClasses = fPage.useWorkspaceCompiledClasses();
 		info.destinationDirectory = fPage.getDestination();
 		info.zipFileName = fPage.getFileName();
-		if (fPage2 != null && ((FeatureExportWizardPage) fPage).doMultiPlatform())
+		if (fPage2 != null && ((FeatureExportWizardPage) fPage).doMultiPlatform()) {
 			info.targets = fPage2.getTargets();
+			info.parallelConfigurations = fPage2.doParallelConfigurations();
+		}
 		info.exportMetadata = ((FeatureExportWizardPage) fPage).doExportMetadata();
 		info.items = fPage.getSelectedItems();
 		info.signingInfo = fPage.getSigningInfo();
@@ -83,8 +83,10 @@ public class ProductExportWizard extends BaseExportWizard {
 		info.exportMetadata = fPage.doExportMetadata();
 		info.destinationDirectory = fPage.getDestination();
 		info.zipFileName = fPage.getFileName();
-		if (fPage2 != null && fPage.doMultiPlatform())
+		if (fPage2 != null && fPage.doMultiPlatform()) {
 			info.targets = fPage2.getTargets();
+			info.parallelConfigurations = fPage2.doParallelConfigurations();
+		}
 		info.items = switch (fProductModel.getProduct().getType())
 			{
 			case FEATURES -> getFeatureModels();